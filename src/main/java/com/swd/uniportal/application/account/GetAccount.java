@@ -29,7 +29,7 @@ public final class GetAccount {
 
     @RestController
     @Tag(name = "accounts")
-    public static final class GetAccountController extends BaseController {
+    public static class GetAccountController extends BaseController {
 
         private final GetAccountService service;
 
@@ -84,7 +84,7 @@ public final class GetAccount {
     }
 
     @Service
-    public static final class GetAccountService {
+    public static class GetAccountService {
 
         private final GetAccountDatasource datasource;
 
@@ -110,7 +110,7 @@ public final class GetAccount {
     }
 
     @Datasource
-    public static final class GetAccountDatasource {
+    public static class GetAccountDatasource {
 
         private final AccountRepository accountRepository;
 
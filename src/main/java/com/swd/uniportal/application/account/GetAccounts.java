@@ -1,25 +1,25 @@
 package com.swd.uniportal.application.account;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.core.types.Projections;
 import com.swd.uniportal.application.account.dto.AccountDto;
 import com.swd.uniportal.application.account.dto.AccountsDto;
 import com.swd.uniportal.application.account.dto.GetAccountsDto;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
-import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.account.QAccount;
 import com.swd.uniportal.domain.account.Role;
 import com.swd.uniportal.domain.account.Status;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.AccountRepository;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Objects;
 import lombok.AccessLevel;
@@ -36,9 +36,12 @@ import org.springframework.web.bind.annotation.RestController;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class GetAccounts {
 
+    public record AccountRow(Long id, String email, Role role, Status status) {
+    }
+
     @RestController
     @Tag(name = "accounts")
-    public static final class GetAccountsController extends BaseController {
+    public static class GetAccountsController extends BaseController {
 
         private final GetAccountsService service;
 
@@ -109,10 +112,7 @@ public final class GetAccounts {
     }
 
     @Service
-    public static final class GetAccountsService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetAccountsService {
 
         private final GetAccountsDatasource datasource;
 
@@ -122,42 +122,37 @@ public final class GetAccounts {
         }
 
         public AccountsDto get(GetAccountsDto request) {
-            List<Account> accounts = datasource.getAccountsFilteredPaginated(request);
-            Long totalPage = datasource.getCountOfAccounts() / pageSize;
+            PagedResult<AccountRow> accounts = datasource.getAccountsFilteredPaginated(request);
             return AccountsDto.builder()
                     .page(request.page())
-                    .pageSize((long) accounts.size())
-                    .totalPages(totalPage)
-                    .size((long) accounts.size())
-                    .accounts(accounts.stream().map(acc -> AccountDto.builder()
-                            .id(acc.getId())
-                            .email(acc.getEmail())
-                            .role(acc.getRole().name())
-                            .status(acc.getStatus().name())
+                    .pageSize(accounts.pageSize())
+                    .totalPages(accounts.totalPages())
+                    .size(accounts.currentPageSize())
+                    .accounts(accounts.content().stream().map(acc -> AccountDto.builder()
+                            .id(acc.id())
+                            .email(acc.email())
+                            .role(acc.role().name())
+                            .status(acc.status().name())
                             .build()).toList())
                     .build();
         }
     }
 
     @Datasource
-    public static final class GetAccountsDatasource {
+    public static class GetAccountsDatasource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final AccountRepository accountRepository;
-        private final EntityManager entityManager;
+        private final PagedQueryExecutor pagedQueryExecutor;
 
         @Autowired
-        public GetAccountsDatasource(AccountRepository accountRepository,
-                                     EntityManager entityManager) {
-            this.accountRepository = accountRepository;
-            this.entityManager = entityManager;
+        public GetAccountsDatasource(PagedQueryExecutor pagedQueryExecutor) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
         }
 
-        public List<Account> getAccountsFilteredPaginated(GetAccountsDto request) {
+        public PagedResult<AccountRow> getAccountsFilteredPaginated(GetAccountsDto request) {
             QAccount account = QAccount.account;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search())) {
                 filters.and(account.email.containsIgnoreCase(request.search()));
@@ -169,15 +164,14 @@ public final class GetAccounts {
                 filters.and(account.status.eq(request.status()));
             }
             filters.and(account.role.ne(Role.ADMIN));
-            return factory.selectFrom(account)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? account.email.desc() : account.email.asc())
-                    .limit(pageSize)
-                    .fetch();
-        }
-
-        public Long getCountOfAccounts() {
-            return accountRepository.count();
+            return pagedQueryExecutor.fetch(account, Projections.constructor(AccountRow.class,
+                            account.id, account.email, account.role, account.status),
+                    filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .count(true)
+                            .build(),
+                    (request.sortOrder() == SortOrder.DESC) ? account.email.desc() : account.email.asc());
         }
     }
 }
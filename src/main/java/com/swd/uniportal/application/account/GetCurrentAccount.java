@@ -30,7 +30,7 @@ public final class GetCurrentAccount {
 
     @RestController
     @Tag(name = "accounts")
-    public static final class GetCurrentAccountController extends BaseController {
+    public static class GetCurrentAccountController extends BaseController {
 
         private final GetCurrentAccountService service;
         private final CustomSecurityUtils securityUtils;
@@ -92,7 +92,7 @@ public final class GetCurrentAccount {
     }
 
     @Service
-    public static final class GetCurrentAccountService {
+    public static class GetCurrentAccountService {
 
         private final GetCurrentAccountDatasource datasource;
 
@@ -117,7 +117,7 @@ public final class GetCurrentAccount {
     }
 
     @Datasource
-    public static final class GetCurrentAccountDatasource {
+    public static class GetCurrentAccountDatasource {
 
         private final AccountRepository accountRepository;
 
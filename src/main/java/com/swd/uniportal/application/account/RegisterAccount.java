@@ -13,6 +13,7 @@ import com.swd.uniportal.domain.account.Status;
 import com.swd.uniportal.domain.student.Student;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
 import com.swd.uniportal.infrastructure.config.security.CustomSecurityUtils;
+import com.swd.uniportal.infrastructure.config.security.PrincipalCache;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.LoginRepository;
 import com.swd.uniportal.infrastructure.repository.StudentRepository;
@@ -182,15 +183,18 @@ public final class RegisterAccount {
         private final AccountRepository accountRepository;
         private final LoginRepository loginRepository;
         private final StudentRepository studentRepository;
+        private final PrincipalCache principalCache;
 
         @Autowired
         public RegisterAccountDatasource(
                 AccountRepository accountRepository,
                 LoginRepository loginRepository,
-                StudentRepository studentRepository) {
+                StudentRepository studentRepository,
+                PrincipalCache principalCache) {
             this.accountRepository = accountRepository;
             this.loginRepository = loginRepository;
             this.studentRepository = studentRepository;
+            this.principalCache = principalCache;
         }
 
         public boolean emailAlreadyExists(String email) {
@@ -201,6 +205,7 @@ public final class RegisterAccount {
             Account savedAccount = accountRepository.save(account);
             login.setAccount(savedAccount);
             loginRepository.save(login);
+            principalCache.evict(savedAccount.getEmail());
             return savedAccount;
         }
 
@@ -210,6 +215,7 @@ public final class RegisterAccount {
             loginRepository.save(login);
             student.setAccount(savedAccount);
             studentRepository.save(student);
+            principalCache.evict(savedAccount.getEmail());
             return savedAccount;
         }
     }
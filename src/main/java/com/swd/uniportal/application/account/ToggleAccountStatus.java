@@ -7,6 +7,7 @@ import com.swd.uniportal.application.common.exception.AccountNotFoundException;
 import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.account.Status;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.config.security.PrincipalCache;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,7 +31,7 @@ public final class ToggleAccountStatus {
 
     @RestController
     @Tag(name = "accounts")
-    public static final class ToggleAccountStatusController extends BaseController {
+    public static class ToggleAccountStatusController extends BaseController {
 
         private final ToggleAccountStatusService service;
 
@@ -81,7 +82,7 @@ public final class ToggleAccountStatus {
     }
 
     @Service
-    public static final class ToggleAccountStatusService {
+    public static class ToggleAccountStatusService {
 
         private final ToggleAccountStatusDatasource datasource;
 
@@ -108,13 +109,15 @@ public final class ToggleAccountStatus {
     }
 
     @Datasource
-    public static final class ToggleAccountStatusDatasource {
+    public static class ToggleAccountStatusDatasource {
 
         private final AccountRepository accountRepository;
+        private final PrincipalCache principalCache;
 
         @Autowired
-        public ToggleAccountStatusDatasource(AccountRepository accountRepository) {
+        public ToggleAccountStatusDatasource(AccountRepository accountRepository, PrincipalCache principalCache) {
             this.accountRepository = accountRepository;
+            this.principalCache = principalCache;
         }
 
         public Optional<Account> getAccount(Long id) {
@@ -123,6 +126,7 @@ public final class ToggleAccountStatus {
 
         public void save(Account account) {
             accountRepository.save(account);
+            principalCache.evict(account.getEmail());
         }
     }
 }
@@ -12,6 +12,7 @@ import com.swd.uniportal.domain.account.Role;
 import com.swd.uniportal.domain.account.Status;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
 import com.swd.uniportal.infrastructure.config.security.CustomSecurityUtils;
+import com.swd.uniportal.infrastructure.config.security.PrincipalCache;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -39,7 +40,7 @@ public final class UpdateAccount {
 
     @RestController
     @Tag(name = "accounts")
-    public static final class UpdateAccountController extends BaseController {
+    public static class UpdateAccountController extends BaseController {
 
         private final UpdateAccountService service;
 
@@ -182,13 +183,15 @@ public final class UpdateAccount {
     }
 
     @Datasource
-    public static final class UpdateAccountDatasource {
+    public static class UpdateAccountDatasource {
 
         private final AccountRepository accountRepository;
+        private final PrincipalCache principalCache;
 
         @Autowired
-        public UpdateAccountDatasource(AccountRepository accountRepository) {
+        public UpdateAccountDatasource(AccountRepository accountRepository, PrincipalCache principalCache) {
             this.accountRepository = accountRepository;
+            this.principalCache = principalCache;
         }
 
         public Optional<Account> getAccountById(Long id) {
@@ -196,7 +199,9 @@ public final class UpdateAccount {
         }
 
         public Account updateAccount(Account accountToUpdate) {
-            return accountRepository.save(accountToUpdate);
+            Account saved = accountRepository.save(accountToUpdate);
+            principalCache.evict(saved.getEmail());
+            return saved;
         }
     }
 }
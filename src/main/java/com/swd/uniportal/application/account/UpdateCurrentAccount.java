@@ -8,6 +8,7 @@ import com.swd.uniportal.application.common.exception.AccountNotFoundException;
 import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
 import com.swd.uniportal.infrastructure.config.security.CustomSecurityUtils;
+import com.swd.uniportal.infrastructure.config.security.PrincipalCache;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -95,7 +96,7 @@ public final class UpdateCurrentAccount {
     }
 
     @Service
-    public static final class UpdateCurrentAccountService {
+    public static class UpdateCurrentAccountService {
 
         private final UpdateCurrentAccountDatasource datasource;
 
@@ -135,13 +136,15 @@ public final class UpdateCurrentAccount {
     }
 
     @Datasource
-    public static final class UpdateCurrentAccountDatasource {
+    public static class UpdateCurrentAccountDatasource {
 
         private final AccountRepository accountRepository;
+        private final PrincipalCache principalCache;
 
         @Autowired
-        public UpdateCurrentAccountDatasource(AccountRepository accountRepository) {
+        public UpdateCurrentAccountDatasource(AccountRepository accountRepository, PrincipalCache principalCache) {
             this.accountRepository = accountRepository;
+            this.principalCache = principalCache;
         }
 
         public Optional<Account> getAccountByEmail(String currentEmail) {
@@ -149,7 +152,9 @@ public final class UpdateCurrentAccount {
         }
 
         public Account updateAccount(Account account) {
-            return accountRepository.save(account);
+            Account saved = accountRepository.save(account);
+            principalCache.evict(saved.getEmail());
+            return saved;
         }
     }
 }
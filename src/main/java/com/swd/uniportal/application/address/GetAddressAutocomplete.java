@@ -0,0 +1,125 @@
+package com.swd.uniportal.application.address;
+
+import com.swd.uniportal.application.common.BaseController;
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GetAddressAutocomplete {
+
+    private static final int MAX_LIMIT = 50;
+
+    @Builder
+    public record AutocompleteResponse(String search, Integer size, List<AutocompleteHit> hits) {
+    }
+
+    @Builder
+    public record AutocompleteHit(String type, UnitDto ward, UnitDto district, UnitDto cityProvince) {
+    }
+
+    public record UnitDto(Long id, String name) {
+    }
+
+    @RestController
+    @Tag(name = "addresses")
+    @AllArgsConstructor
+    public static class GetAddressAutocompleteController extends BaseController {
+
+        private final GetAddressAutocompleteService service;
+
+        @GetMapping("/addresses/autocomplete")
+        @Operation(summary = "Autocomplete cities/provinces, districts and wards by name.")
+        @ApiResponse(
+                responseCode = "200",
+                description = "Successful.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = AutocompleteResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid request.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public ResponseEntity<Object> get(
+                @RequestParam(name = "search", defaultValue = "") String search,
+                @RequestParam(name = "limit", defaultValue = "10") Integer limit) {
+            if (limit < 1 || limit > MAX_LIMIT) {
+                return ResponseEntity.badRequest().body(new FailedResponse(List.of(String
+                        .format("Limit must be between 1 and %d.", MAX_LIMIT))));
+            }
+            try {
+                return ResponseEntity.ok(service.get(search, limit));
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().body(new FailedResponse(List.of("Server error")));
+            }
+        }
+    }
+
+    @Service
+    @AllArgsConstructor
+    public static class GetAddressAutocompleteService {
+
+        private final GetAddressAutocompleteDatasource datasource;
+
+        public AutocompleteResponse get(String search, Integer limit) {
+            List<AutocompleteHit> hits = datasource.search(search, limit).stream()
+                    .map(hit -> AutocompleteHit.builder()
+                            .type(hit.type().name())
+                            .ward(toDto(hit.ward()))
+                            .district(toDto(hit.district()))
+                            .cityProvince(toDto(hit.cityProvince()))
+                            .build())
+                    .toList();
+            return AutocompleteResponse.builder()
+                    .search(search)
+                    .size(hits.size())
+                    .hits(hits)
+                    .build();
+        }
+
+        private static UnitDto toDto(AdministrativeUnits.Unit unit) {
+            return Objects.isNull(unit) ? null : new UnitDto(unit.id(), unit.name());
+        }
+    }
+
+    @Datasource
+    @AllArgsConstructor
+    public static class GetAddressAutocompleteDatasource {
+
+        private final AdministrativeUnits administrativeUnits;
+
+        public List<AdministrativeUnits.Hit> search(String search, Integer limit) {
+            return administrativeUnits.search(search, limit);
+        }
+    }
+}
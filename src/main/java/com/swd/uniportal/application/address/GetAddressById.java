@@ -33,7 +33,7 @@ public class GetAddressById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class GetAddressByIdController extends BaseController {
+    public static class GetAddressByIdController extends BaseController {
 
         private final GetAddressByIdService service;
 
@@ -74,7 +74,7 @@ public class GetAddressById {
 
     @Service
     @AllArgsConstructor
-    public static final class GetAddressByIdService {
+    public static class GetAddressByIdService {
 
         private final GetAddressByIdDatasource datasource;
 
@@ -98,12 +98,12 @@ public class GetAddressById {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetAddressByIdDatasource {
+    public static class GetAddressByIdDatasource {
 
         private final AddressRepository addressRepository;
 
         public Optional<Address> findById(Long id) {
-            return addressRepository.findById(id);
+            return addressRepository.getByIdPopulated(id);
         }
 
     }
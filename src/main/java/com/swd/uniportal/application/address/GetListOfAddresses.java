@@ -1,20 +1,23 @@
 package com.swd.uniportal.application.address;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.core.types.Projections;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
-import com.swd.uniportal.domain.address.Address;
 import com.swd.uniportal.domain.address.QAddress;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.AddressRepository;
+import com.swd.uniportal.infrastructure.common.paging.Cursor;
+import com.swd.uniportal.infrastructure.common.paging.Keyset;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
+import com.swd.uniportal.infrastructure.common.paging.exception.InvalidCursorException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -31,22 +34,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class GetListOfAddresses {
 
     @Builder
-    public record GetAddressesRequest(String search, SortOrder sortOrder, Long page) {
+    public record GetAddressesRequest(String search, SortOrder sortOrder, Long page, boolean count, Cursor cursor) {
     }
 
     @Builder
     public record AddressesResponse(Long page, Long totalPages, Long pageSize, Long currentPageSize,
-                                    List<AddressResponse> addresses) {
+                                    List<AddressResponse> addresses, String nextCursor) {
     }
 
     @Builder
-    public record AddressResponse(long id, String houseNumber, String streetName, String ward, String district,
+    public record AddressResponse(Long id, String houseNumber, String streetName, String ward, String district,
                                   String cityProvince) {
     }
 
     @RestController
     @Tag(name = "addresses")
-    public static final class GetListOfAddressesController extends BaseController {
+    public static class GetListOfAddressesController extends BaseController {
 
         private final GetListOfAddressesService service;
 
@@ -83,7 +86,9 @@ public class GetListOfAddresses {
         public ResponseEntity<Object> get(
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
-                @RequestParam(name = "page", defaultValue = "1") Long page) {
+                @RequestParam(name = "page", defaultValue = "1") Long page,
+                @RequestParam(name = "cursor", required = false) String cursor,
+                @RequestParam(name = "count", defaultValue = "true") boolean count) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
@@ -93,8 +98,12 @@ public class GetListOfAddresses {
                         .search(StringUtils.trimToNull(search))
                         .sortOrder(sortOrder)
                         .page(page)
+                        .count(count)
+                        .cursor(Cursor.decode(cursor))
                         .build());
                 return ResponseEntity.ok(response);
+            } catch (InvalidCursorException e) {
+                return ResponseEntity.badRequest().body(new FailedResponse(List.of(e.getMessage())));
             } catch (Exception e) {
                 e.printStackTrace(System.err);
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
@@ -105,10 +114,7 @@ public class GetListOfAddresses {
     }
 
     @Service
-    public static final class GetListOfAddressesService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetListOfAddressesService {
 
         private final GetListOfAddressesDatasource datasource;
 
@@ -117,67 +123,48 @@ public class GetListOfAddresses {
         }
 
         public AddressesResponse get(GetAddressesRequest request) {
-            List<Address> addresses = datasource.getAddresses(request);
-            Long totalPages = (long) Math.ceil((double) datasource.getCountOfAddresses(request) / pageSize);
+            PagedResult<AddressResponse> addresses = datasource.getAddresses(request);
             return AddressesResponse.builder()
                     .page(request.page())
-                    .totalPages(totalPages)
-                    .pageSize(pageSize)
-                    .currentPageSize((long) addresses.size())
-                    .addresses(addresses.stream().map(address -> AddressResponse.builder()
-                            .id(address.getId())
-                            .houseNumber(address.getHouseNumber())
-                            .streetName(address.getStreetName())
-                            .ward(address.getWard().getName())
-                            .district(address.getDistrict().getName())
-                            .cityProvince(address.getCityProvince().getName())
-                            .build()).toList())
+                    .totalPages(addresses.totalPages())
+                    .pageSize(addresses.pageSize())
+                    .currentPageSize(addresses.currentPageSize())
+                    .addresses(addresses.content())
+                    .nextCursor(addresses.nextCursor())
                     .build();
         }
 
     }
 
     @Datasource
-    public static final class GetListOfAddressesDatasource {
+    public static class GetListOfAddressesDatasource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final AddressRepository addressRepository;
-        private final EntityManager entityManager;
-
-        public GetListOfAddressesDatasource(AddressRepository addressRepository, EntityManager entityManager) {
-            this.addressRepository = addressRepository;
-            this.entityManager = entityManager;
-        }
+        private final PagedQueryExecutor pagedQueryExecutor;
 
-        public List<Address> getAddresses(GetAddressesRequest request) {
-            QAddress address = QAddress.address;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(address.streetName.containsIgnoreCase(request.search()));
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(address)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? address.streetName.desc() : address.streetName.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public GetListOfAddressesDatasource(PagedQueryExecutor pagedQueryExecutor) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
         }
 
-        public long getCountOfAddresses(GetAddressesRequest request) {
+        public PagedResult<AddressResponse> getAddresses(GetAddressesRequest request) {
             QAddress address = QAddress.address;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
                 filters.and(address.streetName.containsIgnoreCase(request.search()));
             }
-            return factory.selectFrom(address)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? address.streetName.desc() : address.streetName.asc())
-                    .stream().count();
+            return pagedQueryExecutor.fetch(address, Projections.constructor(AddressResponse.class,
+                            address.id, address.houseNumber, address.streetName, address.ward.name,
+                            address.district.name, address.cityProvince.name),
+                    filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .count(request.count())
+                            .cursor(request.cursor())
+                            .build(),
+                    new Keyset(address.streetName, address.id, request.sortOrder()),
+                    a -> new Cursor(a.streetName(), a.id()));
         }
 
     }
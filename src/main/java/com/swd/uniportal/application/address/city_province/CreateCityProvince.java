@@ -7,6 +7,11 @@ import com.swd.uniportal.application.common.exception.AccountNotFoundException;
 import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.CityProvinceRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,7 +53,7 @@ public class CreateCityProvince {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class CreateCityProvinceController extends BaseController {
+    public static class CreateCityProvinceController extends BaseController {
 
         private final CreateCityProvinceService service;
 
@@ -123,13 +128,20 @@ public class CreateCityProvince {
 
         private final CityProvinceRepository cityProvinceRepository;
         private final AccountRepository accountRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<Account> getAccountById(Long id) {
             return accountRepository.findById(id);
         }
 
         public CityProvince persist(CityProvince cityProvince) {
-            return cityProvinceRepository.save(cityProvince);
+            CityProvince saved = cityProvinceRepository.save(cityProvince);
+            administrativeUnits.putCityProvince(saved.getId(), saved.getName());
+            referenceDataCache.invalidate(ReferenceData.CITY_PROVINCE, ReferenceData.DISTRICT, ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.CITY_PROVINCE, CachedEntity.DISTRICT, CachedEntity.WARD);
+            return saved;
         }
     }
 }
\ No newline at end of file
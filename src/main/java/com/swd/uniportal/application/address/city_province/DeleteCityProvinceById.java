@@ -4,6 +4,11 @@ import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.CityProvinceRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -31,7 +36,7 @@ public class DeleteCityProvinceById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class DeleteCityProvinceController extends BaseController {
+    public static class DeleteCityProvinceController extends BaseController {
 
         private final DeleteCityProvinceService service;
 
@@ -74,9 +79,15 @@ public class DeleteCityProvinceById {
     public static class DeleteCityProvinceDatasource {
 
         private final CityProvinceRepository cityProvinceRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public void deleteCityProvince(CityProvince cityProvince) {
             cityProvinceRepository.delete(cityProvince);
+            administrativeUnits.removeCityProvince(cityProvince.getId());
+            referenceDataCache.invalidate(ReferenceData.CITY_PROVINCE, ReferenceData.DISTRICT, ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.CITY_PROVINCE, CachedEntity.DISTRICT, CachedEntity.WARD);
         }
 
         public Optional<CityProvince> findById(Long id) {
@@ -38,7 +38,7 @@ public class GetCityProvinceById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class GetCityProvinceByIdController extends BaseController {
+    public static class GetCityProvinceByIdController extends BaseController {
 
         private final GetCityProvinceByIdService service;
 
@@ -79,7 +79,7 @@ public class GetCityProvinceById {
 
     @Service
     @AllArgsConstructor
-    public static final class GetCityProvinceByIdService {
+    public static class GetCityProvinceByIdService {
 
         private final GetCityProvinceByIdDatasource datasource;
 
@@ -100,7 +100,7 @@ public class GetCityProvinceById {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetCityProvinceByIdDatasource {
+    public static class GetCityProvinceByIdDatasource {
 
         private final CityProvinceRepository cityProvinceRepository;
         private final DistrictRepository districtRepository;
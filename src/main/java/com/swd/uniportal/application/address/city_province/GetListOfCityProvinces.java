@@ -1,37 +1,44 @@
 package com.swd.uniportal.application.address.city_province;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.domain.address.QCityProvince;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.CityProvinceRepository;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetListOfCityProvinces {
 
     @Builder
-    public record GetCityProvincesRequest(String search, SortOrder sortOrder, Long page, boolean all) {
+    public record GetCityProvincesRequest(String search, SortOrder sortOrder, Long page, boolean all, boolean count) {
     }
 
     @Builder
@@ -45,12 +52,14 @@ public class GetListOfCityProvinces {
 
     @RestController
     @Tag(name = "addresses")
-    public static final class GetListOfCityProvincesController extends BaseController {
+    public static class GetListOfCityProvincesController extends BaseController {
 
         private final GetListOfCityProvincesService service;
+        private final ResponseCache responseCache;
 
-        public GetListOfCityProvincesController(GetListOfCityProvincesService service) {
+        public GetListOfCityProvincesController(GetListOfCityProvincesService service, ResponseCache responseCache) {
             this.service = service;
+            this.responseCache = responseCache;
         }
 
         @GetMapping("/addresses/wards/districts/city-provinces")
@@ -83,19 +92,27 @@ public class GetListOfCityProvinces {
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
                 @RequestParam(name = "page", defaultValue = "1") Long page,
-                @RequestParam(name = "all", defaultValue = "false") boolean all) {
+                @RequestParam(name = "all", defaultValue = "false") boolean all,
+                @RequestParam(name = "count", defaultValue = "true") boolean count,
+                WebRequest webRequest) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
                             .of("Page must be positive (page > 0)")));
                 }
+                String entityTag = service.getEntityTag();
+                if (webRequest.checkNotModified(entityTag)) {
+                    return null;
+                }
                 CityProvincesResponse response = service.get(GetCityProvincesRequest.builder()
                         .search(StringUtils.trimToEmpty(search))
                         .sortOrder(sortOrder)
                         .page(page)
                         .all(all)
+                        .count(count)
                         .build());
-                return ResponseEntity.ok(response);
+                responseCache.tagAll(CachedEntity.CITY_PROVINCE);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
             } catch (Exception e) {
                 e.printStackTrace(System.err);
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
@@ -106,32 +123,32 @@ public class GetListOfCityProvinces {
     }
 
     @Service
-    public static final class GetListOfCityProvincesService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetListOfCityProvincesService {
 
         private final GetListOfCityProvincesDatasource datasource;
+        private final ReferenceDataCache cache;
 
-        public GetListOfCityProvincesService(GetListOfCityProvincesDatasource datasource) {
+        public GetListOfCityProvincesService(GetListOfCityProvincesDatasource datasource, ReferenceDataCache cache) {
             this.datasource = datasource;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.CITY_PROVINCE, datasource::getEntityTag);
         }
 
         public CityProvincesResponse get(GetCityProvincesRequest request) {
-            List<CityProvince> cityProvinces;
-            if (request.all()) {
-                cityProvinces = datasource.getAll(request.search());
-            } else {
-                cityProvinces = datasource.getCityProvinces(request);
-            }
-            long count = datasource.getCountOfCityProvinces(request);
-            long totalPages = (long) Math.ceil((double) count / pageSize);
+            return cache.get(ReferenceData.CITY_PROVINCE, request, () -> load(request));
+        }
+
+        private CityProvincesResponse load(GetCityProvincesRequest request) {
+            PagedResult<CityProvince> cityProvinces = datasource.getCityProvinces(request);
             return CityProvincesResponse.builder()
                     .page(request.page())
-                    .totalPages(request.all() ? 1 : totalPages)
-                    .pageSize(request.all() ? count : pageSize)
-                    .currentPageSize((long) cityProvinces.size())
-                    .cityProvinces(cityProvinces.stream().map(cityProvince -> CityProvinceResponse.builder()
+                    .totalPages(cityProvinces.totalPages())
+                    .pageSize(cityProvinces.pageSize())
+                    .currentPageSize(cityProvinces.currentPageSize())
+                    .cityProvinces(cityProvinces.content().stream().map(cityProvince -> CityProvinceResponse.builder()
                             .id(cityProvince.getId())
                             .name(cityProvince.getName())
                             .build()).toList())
@@ -140,50 +157,36 @@ public class GetListOfCityProvinces {
     }
 
     @Datasource
-    public static final class GetListOfCityProvincesDatasource {
+    public static class GetListOfCityProvincesDatasource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final CityProvinceRepository cityProvinceRepository;
-        private final EntityManager entityManager;
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final EntityTags entityTags;
 
-        public GetListOfCityProvincesDatasource(CityProvinceRepository cityProvinceRepository, EntityManager entityManager) {
-            this.cityProvinceRepository = cityProvinceRepository;
-            this.entityManager = entityManager;
+        public GetListOfCityProvincesDatasource(PagedQueryExecutor pagedQueryExecutor, EntityTags entityTags) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.entityTags = entityTags;
         }
 
-        public List<CityProvince> getCityProvinces(GetCityProvincesRequest request) {
-            QCityProvince cityProvince = QCityProvince.cityProvince;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(cityProvince.name.containsIgnoreCase(request.search()));
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(cityProvince)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? cityProvince.name.desc() : cityProvince.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public String getEntityTag() {
+            return entityTags.ofTables(QCityProvince.cityProvince);
         }
 
-        public long getCountOfCityProvinces(GetCityProvincesRequest request) {
+        public PagedResult<CityProvince> getCityProvinces(GetCityProvincesRequest request) {
             QCityProvince cityProvince = QCityProvince.cityProvince;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
                 filters.and(cityProvince.name.containsIgnoreCase(request.search()));
             }
-            return factory.selectFrom(cityProvince)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? cityProvince.name.desc() : cityProvince.name.asc())
-                    .stream().count();
-        }
-
-        public List<CityProvince> getAll(String search) {
-            return cityProvinceRepository.getAllBySearch(search);
+            return pagedQueryExecutor.fetch(cityProvince, filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .all(request.all())
+                            .count(request.count())
+                            .build(),
+                    (request.sortOrder() == SortOrder.DESC) ? cityProvince.name.desc() : cityProvince.name.asc());
         }
     }
 }
@@ -5,6 +5,11 @@ import com.swd.uniportal.application.common.CustomValidation;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.CityProvinceRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -44,7 +49,7 @@ public class UpdateCityProvinceById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class UpdateCityProvinceController extends BaseController {
+    public static class UpdateCityProvinceController extends BaseController {
 
         private final UpdateCityProvinceService service;
 
@@ -122,13 +127,20 @@ public class UpdateCityProvinceById {
     public static class UpdateCityProvinceDatasource {
 
         private final CityProvinceRepository cityProvinceRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<CityProvince> findById(Long id) {
             return cityProvinceRepository.findById(id);
         }
 
         public CityProvince update(CityProvince cityProvince) {
-            return cityProvinceRepository.save(cityProvince);
+            CityProvince saved = cityProvinceRepository.save(cityProvince);
+            administrativeUnits.putCityProvince(saved.getId(), saved.getName());
+            referenceDataCache.invalidate(ReferenceData.CITY_PROVINCE, ReferenceData.DISTRICT, ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.CITY_PROVINCE, CachedEntity.DISTRICT, CachedEntity.WARD);
+            return saved;
         }
     }
 }
@@ -8,6 +8,11 @@ import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.domain.address.District;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.CityProvinceRepository;
 import com.swd.uniportal.infrastructure.repository.DistrictRepository;
@@ -55,7 +60,7 @@ public class CreateDistrict {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class CreateDistrictController extends BaseController {
+    public static class CreateDistrictController extends BaseController {
 
         private final CreateDistrictService service;
 
@@ -105,6 +110,9 @@ public class CreateDistrict {
         private final DistrictRepository districtRepository;
         private final CityProvinceRepository cityProvinceRepository;
         private final AccountRepository accountRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<Account> getAccountById(Long id) {
             return accountRepository.findById(id);
@@ -115,7 +123,11 @@ public class CreateDistrict {
         }
 
         public District persist(District district) {
-            return districtRepository.save(district);
+            District saved = districtRepository.save(district);
+            administrativeUnits.putDistrict(saved.getId(), saved.getName(), saved.getCityProvince().getId());
+            referenceDataCache.invalidate(ReferenceData.DISTRICT, ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.DISTRICT, CachedEntity.WARD);
+            return saved;
         }
     }
 }
\ No newline at end of file
@@ -4,6 +4,11 @@ import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.District;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.DistrictRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -31,7 +36,7 @@ public class DeleteDistrictById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class DeleteDistrictController extends BaseController {
+    public static class DeleteDistrictController extends BaseController {
 
         private final DeleteDistrictService service;
 
@@ -74,9 +79,15 @@ public class DeleteDistrictById {
     public static class DeleteDistrictDatasource {
 
         private final DistrictRepository districtRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public void deleteDistrict(District district) {
             districtRepository.delete(district);
+            administrativeUnits.removeDistrict(district.getId());
+            referenceDataCache.invalidate(ReferenceData.DISTRICT, ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.DISTRICT, CachedEntity.WARD);
         }
 
         public Optional<District> findById(Long id) {
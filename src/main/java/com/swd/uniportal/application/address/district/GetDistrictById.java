@@ -38,7 +38,7 @@ public class GetDistrictById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class GetDistrictByIdController extends BaseController {
+    public static class GetDistrictByIdController extends BaseController {
 
         private final GetDistrictByIdService service;
 
@@ -79,7 +79,7 @@ public class GetDistrictById {
 
     @Service
     @AllArgsConstructor
-    public static final class GetDistrictByIdService {
+    public static class GetDistrictByIdService {
 
         private final GetDistrictByIdDatasource datasource;
 
@@ -100,7 +100,7 @@ public class GetDistrictById {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetDistrictByIdDatasource {
+    public static class GetDistrictByIdDatasource {
 
         private final DistrictRepository districtRepository;
         private final WardRepository wardRepository;
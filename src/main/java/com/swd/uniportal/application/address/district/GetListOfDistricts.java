@@ -1,37 +1,44 @@
 package com.swd.uniportal.application.address.district;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.District;
 import com.swd.uniportal.domain.address.QDistrict;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.DistrictRepository;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetListOfDistricts {
 
     @Builder
-    public record GetDistrictsRequest(String search, SortOrder sortOrder, Long page) {
+    public record GetDistrictsRequest(String search, SortOrder sortOrder, Long page, boolean count) {
     }
 
     @Builder
@@ -45,12 +52,14 @@ public class GetListOfDistricts {
 
     @RestController
     @Tag(name = "addresses")
-    public static final class GetListOfDistrictsController extends BaseController {
+    public static class GetListOfDistrictsController extends BaseController {
 
         private final GetListOfDistrictsService service;
+        private final ResponseCache responseCache;
 
-        public GetListOfDistrictsController(GetListOfDistrictsService service) {
+        public GetListOfDistrictsController(GetListOfDistrictsService service, ResponseCache responseCache) {
             this.service = service;
+            this.responseCache = responseCache;
         }
 
         @GetMapping("/addresses/wards/districts")
@@ -82,18 +91,26 @@ public class GetListOfDistricts {
         public ResponseEntity<Object> get(
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
-                @RequestParam(name = "page", defaultValue = "1") Long page) {
+                @RequestParam(name = "page", defaultValue = "1") Long page,
+                @RequestParam(name = "count", defaultValue = "true") boolean count,
+                WebRequest webRequest) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
                             .of("Page must be positive (page > 0)")));
                 }
+                String entityTag = service.getEntityTag();
+                if (webRequest.checkNotModified(entityTag)) {
+                    return null;
+                }
                 DistrictsResponse response = service.get(GetDistrictsRequest.builder()
                         .search(StringUtils.trimToNull(search))
                         .sortOrder(sortOrder)
                         .page(page)
+                        .count(count)
                         .build());
-                return ResponseEntity.ok(response);
+                responseCache.tagAll(CachedEntity.DISTRICT);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
             } catch (Exception e) {
                 e.printStackTrace(System.err);
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
@@ -104,26 +121,32 @@ public class GetListOfDistricts {
     }
 
     @Service
-    public static final class GetListOfDistrictsService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetListOfDistrictsService {
 
         private final GetListOfDistrictsDatasource datasource;
+        private final ReferenceDataCache cache;
 
-        public GetListOfDistrictsService(GetListOfDistrictsDatasource datasource) {
+        public GetListOfDistrictsService(GetListOfDistrictsDatasource datasource, ReferenceDataCache cache) {
             this.datasource = datasource;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.DISTRICT, datasource::getEntityTag);
         }
 
         public DistrictsResponse get(GetDistrictsRequest request) {
-            List<District> districts = datasource.getDistricts(request);
-            Long totalPages = (long) Math.ceil((double) datasource.getCountOfDistricts(request) / pageSize);
+            return cache.get(ReferenceData.DISTRICT, request, () -> load(request));
+        }
+
+        private DistrictsResponse load(GetDistrictsRequest request) {
+            PagedResult<District> districts = datasource.getDistricts(request);
             return DistrictsResponse.builder()
                     .page(request.page())
-                    .totalPages(totalPages)
-                    .pageSize(pageSize)
-                    .currentPageSize((long) districts.size())
-                    .districts(districts.stream().map(district -> DistrictResponse.builder()
+                    .totalPages(districts.totalPages())
+                    .pageSize(districts.pageSize())
+                    .currentPageSize(districts.currentPageSize())
+                    .districts(districts.content().stream().map(district -> DistrictResponse.builder()
                             .id(district.getId())
                             .name(district.getName())
                             .build()).toList())
@@ -133,46 +156,35 @@ public class GetListOfDistricts {
     }
 
     @Datasource
-    public static final class GetListOfDistrictsDatasource {
+    public static class GetListOfDistrictsDatasource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final DistrictRepository districtRepository;
-        private final EntityManager entityManager;
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final EntityTags entityTags;
 
-        public GetListOfDistrictsDatasource(DistrictRepository districtRepository, EntityManager entityManager) {
-            this.districtRepository = districtRepository;
-            this.entityManager = entityManager;
+        public GetListOfDistrictsDatasource(PagedQueryExecutor pagedQueryExecutor, EntityTags entityTags) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.entityTags = entityTags;
         }
 
-        public List<District> getDistricts(GetDistrictsRequest request) {
-            QDistrict district = QDistrict.district;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(district.name.containsIgnoreCase(request.search()));
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(district)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? district.name.desc() : district.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public String getEntityTag() {
+            return entityTags.ofTables(QDistrict.district);
         }
 
-        public long getCountOfDistricts(GetDistrictsRequest request) {
+        public PagedResult<District> getDistricts(GetDistrictsRequest request) {
             QDistrict district = QDistrict.district;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
                 filters.and(district.name.containsIgnoreCase(request.search()));
             }
-            return factory.selectFrom(district)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? district.name.desc() : district.name.asc())
-                    .stream().count();
+            return pagedQueryExecutor.fetch(district, filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .count(request.count())
+                            .build(),
+                    (request.sortOrder() == SortOrder.DESC) ? district.name.desc() : district.name.asc());
         }
 
     }
@@ -5,6 +5,11 @@ import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.domain.address.District;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.CityProvinceRepository;
 import com.swd.uniportal.infrastructure.repository.DistrictRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,7 +51,7 @@ public class UpdateDistrictById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class UpdateDistrictController extends BaseController {
+    public static class UpdateDistrictController extends BaseController {
 
         private final UpdateDistrictService service;
 
@@ -128,6 +133,9 @@ public class UpdateDistrictById {
 
         private final DistrictRepository districtRepository;
         private final CityProvinceRepository cityProvinceRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<District> findById(Long id) {
             return districtRepository.findById(id);
@@ -138,7 +146,11 @@ public class UpdateDistrictById {
         }
 
         public District update(District district) {
-            return districtRepository.save(district);
+            District saved = districtRepository.save(district);
+            administrativeUnits.putDistrict(saved.getId(), saved.getName(), saved.getCityProvince().getId());
+            referenceDataCache.invalidate(ReferenceData.DISTRICT, ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.DISTRICT, CachedEntity.WARD);
+            return saved;
         }
     }
 }
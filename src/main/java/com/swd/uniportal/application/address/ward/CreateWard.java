@@ -8,6 +8,11 @@ import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.address.District;
 import com.swd.uniportal.domain.address.Ward;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.DistrictRepository;
 import com.swd.uniportal.infrastructure.repository.WardRepository;
@@ -141,6 +146,9 @@ public class CreateWard {
         private final WardRepository wardRepository;
         private final AccountRepository accountRepository;
         private final DistrictRepository districtRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<District> getDistrictById(Long id){
             return districtRepository.findById(id);
@@ -151,7 +159,11 @@ public class CreateWard {
         }
 
         public Ward persist(Ward ward) {
-            return wardRepository.save(ward);
+            Ward saved = wardRepository.save(ward);
+            administrativeUnits.putWard(saved.getId(), saved.getName(), saved.getDistrict().getId());
+            referenceDataCache.invalidate(ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.WARD);
+            return saved;
         }
     }
 }
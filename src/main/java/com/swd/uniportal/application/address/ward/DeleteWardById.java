@@ -4,6 +4,11 @@ import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.Ward;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.WardRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,7 +35,7 @@ public class DeleteWardById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class DeleteWardController extends BaseController {
+    public static class DeleteWardController extends BaseController {
 
         private final DeleteWardService service;
 
@@ -73,9 +78,15 @@ public class DeleteWardById {
     public static class DeleteWardDatasource {
 
         private final WardRepository wardRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public void deleteWard(Ward ward) {
             wardRepository.delete(ward);
+            administrativeUnits.removeWard(ward.getId());
+            referenceDataCache.invalidate(ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.WARD);
         }
 
         public Optional<Ward> findById(Long id) {
@@ -1,43 +1,53 @@
 package com.swd.uniportal.application.address.ward;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.QWard;
 import com.swd.uniportal.domain.address.Ward;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.WardRepository;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
+import com.swd.uniportal.infrastructure.common.paging.Cursor;
+import com.swd.uniportal.infrastructure.common.paging.Keyset;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
+import com.swd.uniportal.infrastructure.common.paging.exception.InvalidCursorException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetListOfWards {
 
     @Builder
-    public record GetWardsRequest(String search, SortOrder sortOrder, Long page, boolean all) {
+    public record GetWardsRequest(String search, SortOrder sortOrder, Long page, boolean all, boolean count,
+                                  Cursor cursor) {
     }
 
     @Builder
     public record WardsResponse(Long page, Long totalPages, Long pageSize, Long currentPageSize,
-                                List<WardResponse> wards) {
+                                List<WardResponse> wards, String nextCursor) {
     }
 
     @Builder
@@ -46,12 +56,14 @@ public class GetListOfWards {
 
     @RestController
     @Tag(name = "addresses")
-    public static final class GetListOfWardsController extends BaseController {
+    public static class GetListOfWardsController extends BaseController {
 
         private final GetListOfWardsService service;
+        private final ResponseCache responseCache;
 
-        public GetListOfWardsController(GetListOfWardsService service) {
+        public GetListOfWardsController(GetListOfWardsService service, ResponseCache responseCache) {
             this.service = service;
+            this.responseCache = responseCache;
         }
 
         @GetMapping("/addresses/wards")
@@ -84,19 +96,32 @@ public class GetListOfWards {
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
                 @RequestParam(name = "page", defaultValue = "1") Long page,
-                @RequestParam(name = "all", defaultValue = "false") boolean all) {
+                @RequestParam(name = "all", defaultValue = "false") boolean all,
+                @RequestParam(name = "cursor", required = false) String cursor,
+                @RequestParam(name = "count", defaultValue = "true") boolean count,
+                WebRequest webRequest) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
                             .of("Page must be positive (page > 0)")));
                 }
-                WardsResponse response = service.get(GetWardsRequest.builder()
+                GetWardsRequest request = GetWardsRequest.builder()
                         .search(StringUtils.trimToEmpty(search))
                         .sortOrder(sortOrder)
                         .page(page)
                         .all(all)
-                        .build());
-                return ResponseEntity.ok(response);
+                        .count(count)
+                        .cursor(Cursor.decode(cursor))
+                        .build();
+                String entityTag = service.getEntityTag();
+                if (webRequest.checkNotModified(entityTag)) {
+                    return null;
+                }
+                WardsResponse response = service.get(request);
+                responseCache.tagAll(CachedEntity.WARD);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+            } catch (InvalidCursorException e) {
+                return ResponseEntity.badRequest().body(new FailedResponse(List.of(e.getMessage())));
             } catch (Exception e) {
                 e.printStackTrace(System.err);
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
@@ -107,89 +132,74 @@ public class GetListOfWards {
     }
 
     @Service
-    public static final class GetListOfWardsService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetListOfWardsService {
 
         private final GetListOfWardsDatasource datasource;
+        private final ReferenceDataCache cache;
 
-        public GetListOfWardsService(GetListOfWardsDatasource datasource) {
+        public GetListOfWardsService(GetListOfWardsDatasource datasource, ReferenceDataCache cache) {
             this.datasource = datasource;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.WARD, datasource::getEntityTag);
         }
 
         public WardsResponse get(GetWardsRequest request) {
-            List<Ward> wards;
-            if (request.all()) {
-                Sort sort = Sort.by(request.sortOrder == SortOrder.ASC
-                        ? Sort.Direction.ASC
-                        : Sort.Direction.DESC,
-                        "name");
-                wards = datasource.getAll(request, sort);
-            } else {
-                wards = datasource.getWards(request);
-            }
-            long count = datasource.getCountOfWards(request);
-            long totalPages = (long) Math.ceil((double) count / pageSize);
+            return cache.get(ReferenceData.WARD, request, () -> load(request));
+        }
+
+        private WardsResponse load(GetWardsRequest request) {
+            PagedResult<Ward> wards = datasource.getWards(request);
             return WardsResponse.builder()
                     .page(request.page())
-                    .totalPages(request.all() ? 1 : totalPages)
-                    .pageSize(request.all() ? wards.size() : pageSize)
-                    .currentPageSize((long) wards.size())
-                    .wards(wards.stream().map(ward -> WardResponse.builder()
+                    .totalPages(wards.totalPages())
+                    .pageSize(wards.pageSize())
+                    .currentPageSize(wards.currentPageSize())
+                    .wards(wards.content().stream().map(ward -> WardResponse.builder()
                             .id(ward.getId())
                             .name(ward.getName())
                             .build()).toList())
+                    .nextCursor(wards.nextCursor())
                     .build();
         }
 
     }
 
     @Datasource
-    public static final class GetListOfWardsDatasource {
+    public static class GetListOfWardsDatasource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final WardRepository wardRepository;
-        private final EntityManager entityManager;
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final EntityTags entityTags;
 
-        public GetListOfWardsDatasource(WardRepository wardRepository, EntityManager entityManager) {
-            this.wardRepository = wardRepository;
-            this.entityManager = entityManager;
+        public GetListOfWardsDatasource(PagedQueryExecutor pagedQueryExecutor, EntityTags entityTags) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.entityTags = entityTags;
         }
 
-        public List<Ward> getWards(GetWardsRequest request) {
-            QWard ward = QWard.ward;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(ward.name.containsIgnoreCase(request.search()));
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(ward)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? ward.name.desc() : ward.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public String getEntityTag() {
+            return entityTags.ofTables(QWard.ward);
         }
 
-        public long getCountOfWards(GetWardsRequest request) {
+        public PagedResult<Ward> getWards(GetWardsRequest request) {
             QWard ward = QWard.ward;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
                 filters.and(ward.name.containsIgnoreCase(request.search()));
             }
-            return factory.selectFrom(ward)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? ward.name.desc() : ward.name.asc())
-                    .stream().count();
-        }
-
-        public List<Ward> getAll(GetWardsRequest request, Sort sort) {
-            return wardRepository.getAllBySearchSorted(request.search, sort);
+            return pagedQueryExecutor.fetch(ward, filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .all(request.all())
+                            .count(request.count())
+                            .cursor(request.cursor())
+                            .build(),
+                    new Keyset(ward.name, ward.id, request.sortOrder()),
+                    w -> new Cursor(w.getName(), w.getId()));
         }
     }
 
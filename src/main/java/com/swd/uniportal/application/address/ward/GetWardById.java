@@ -32,7 +32,7 @@ public class GetWardById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class GetWardByIdController extends BaseController {
+    public static class GetWardByIdController extends BaseController {
 
         private final GetWardByIdService service;
 
@@ -73,7 +73,7 @@ public class GetWardById {
 
     @Service
     @AllArgsConstructor
-    public static final class GetWardByIdService {
+    public static class GetWardByIdService {
 
         private final GetWardByIdDatasource datasource;
 
@@ -95,12 +95,12 @@ public class GetWardById {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetWardByIdDatasource {
+    public static class GetWardByIdDatasource {
 
         private final WardRepository wardRepository;
 
         public Optional<Ward> findById(Long id) {
-            return wardRepository.findById(id);
+            return wardRepository.getByIdPopulated(id);
         }
     }
 }
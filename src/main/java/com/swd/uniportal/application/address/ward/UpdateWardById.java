@@ -5,6 +5,11 @@ import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.District;
 import com.swd.uniportal.domain.address.Ward;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.AdministrativeUnits;
 import com.swd.uniportal.infrastructure.repository.DistrictRepository;
 import com.swd.uniportal.infrastructure.repository.WardRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,7 +51,7 @@ public class UpdateWardById {
     @RestController
     @Tag(name = "addresses")
     @AllArgsConstructor
-    public static final class UpdateWardController extends BaseController {
+    public static class UpdateWardController extends BaseController {
 
         private final UpdateWardService service;
 
@@ -128,6 +133,9 @@ public class UpdateWardById {
 
         private final WardRepository wardRepository;
         private final DistrictRepository districtRepository;
+        private final AdministrativeUnits administrativeUnits;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<Ward> findById(Long id) {
             return wardRepository.findById(id);
@@ -138,7 +146,11 @@ public class UpdateWardById {
         }
 
         public Ward update(Ward ward) {
-            return wardRepository.save(ward);
+            Ward saved = wardRepository.save(ward);
+            administrativeUnits.putWard(saved.getId(), saved.getName(), saved.getDistrict().getId());
+            referenceDataCache.invalidate(ReferenceData.WARD);
+            responseCache.purgeAll(CachedEntity.WARD);
+            return saved;
         }
     }
 }
@@ -10,6 +10,8 @@ import com.swd.uniportal.application.institution.exception.InstitutionNotFoundEx
 import com.swd.uniportal.domain.admission.AdmissionPlan;
 import com.swd.uniportal.domain.institution.Institution;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.InstitutionRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +21,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -34,7 +37,7 @@ public final class AddAdmissionPlan {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class AddAdmissionPlanController extends BaseController {
+    public static class AddAdmissionPlanController extends BaseController {
 
         private final AddAdmissionPlanService service;
 
@@ -95,7 +98,7 @@ public final class AddAdmissionPlan {
     }
 
     @Service
-    public static final class AddAdmissionPlanService {
+    public static class AddAdmissionPlanService {
 
         private final AddAdmissionPlanDatasource datasource;
         private final Mapper<AdmissionPlan, AdmissionPlanDto> mapper;
@@ -109,15 +112,14 @@ public final class AddAdmissionPlan {
         }
 
         public AdmissionPlanDto update(ModifyAdmissionPlanDto request) throws InstitutionNotFoundException {
-            if (datasource.institutionDoesNotExist(request.getInstitutionId())) {
-                throw new InstitutionNotFoundException(String
-                        .format("Institution with id '%d' not found.", request.getInstitutionId()));
-            }
+            Institution institution = datasource.getInstitution(request.getInstitutionId())
+                    .orElseThrow(() -> new InstitutionNotFoundException(String
+                            .format("Institution with id '%d' not found.", request.getInstitutionId())));
             AdmissionPlan admissionPlan = AdmissionPlan.builder()
                     .name(StringUtils.trim(request.getName()))
                     .description(StringUtils.trim(request.getDescription()))
                     .year(request.getYear())
-                    .institution(datasource.getInstitutionReference(request.getInstitutionId()))
+                    .institution(institution)
                     .admissionMajors(new HashSet<>())
                     .admissionTrainingPrograms(new HashSet<>())
                     .build();
@@ -127,29 +129,30 @@ public final class AddAdmissionPlan {
     }
 
     @Datasource
-    public static final class AddAdmissionPlanDatasource {
+    public static class AddAdmissionPlanDatasource {
 
         private final AdmissionPlanRepository admissionPlanRepository;
         private final InstitutionRepository institutionRepository;
+        private final SearchIndexes searchIndexes;
 
         @Autowired
         public AddAdmissionPlanDatasource(
                 AdmissionPlanRepository admissionPlanRepository,
-                InstitutionRepository institutionRepository) {
+                InstitutionRepository institutionRepository,
+                SearchIndexes searchIndexes) {
             this.admissionPlanRepository = admissionPlanRepository;
             this.institutionRepository = institutionRepository;
+            this.searchIndexes = searchIndexes;
         }
 
-        public boolean institutionDoesNotExist(Long institutionId) {
-            return !institutionRepository.existsById(institutionId);
-        }
-
-        public Institution getInstitutionReference(Long institutionId) {
-            return institutionRepository.getReferenceById(institutionId);
+        public Optional<Institution> getInstitution(Long institutionId) {
+            return institutionRepository.findById(institutionId);
         }
 
         public AdmissionPlan save(AdmissionPlan admissionPlan) {
-            return admissionPlanRepository.save(admissionPlan);
+            AdmissionPlan saved = admissionPlanRepository.save(admissionPlan);
+            searchIndexes.put(SearchTarget.ADMISSION_PLAN, saved.getId(), saved.getName());
+            return saved;
         }
     }
 }
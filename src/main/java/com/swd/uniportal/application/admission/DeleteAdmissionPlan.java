@@ -1,9 +1,16 @@
 package com.swd.uniportal.application.admission;
 
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
 import com.swd.uniportal.application.admission.exception.AdmissionPlanNotFoundException;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -100,10 +107,23 @@ public class DeleteAdmissionPlan {
     public static class DeleteAdmissionPlanDatasource {
 
         private final AdmissionPlanRepository admissionPlanRepository;
+        private final SearchIndexes searchIndexes;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+        private final ResponseCache responseCache;
 
         @Autowired
-        public DeleteAdmissionPlanDatasource(AdmissionPlanRepository admissionPlanRepository) {
+        public DeleteAdmissionPlanDatasource(
+                AdmissionPlanRepository admissionPlanRepository,
+                SearchIndexes searchIndexes,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats,
+                ResponseCache responseCache) {
             this.admissionPlanRepository = admissionPlanRepository;
+            this.searchIndexes = searchIndexes;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+            this.responseCache = responseCache;
         }
 
         public boolean admissionPlanDoesNotExist(Long id) {
@@ -111,7 +131,12 @@ public class DeleteAdmissionPlan {
         }
 
         public void deleteAdmissionPlanById(Long id) {
+            Contributions before = admissionQuotaStats.capturePlan(id);
             admissionPlanRepository.deleteById(id);
+            searchIndexes.remove(SearchTarget.ADMISSION_PLAN, id);
+            admissionCatalog.invalidate();
+            responseCache.purge(CachedEntity.ADMISSION_PLAN, id);
+            admissionQuotaStats.apply(before, Contributions.empty());
         }
     }
 }
@@ -0,0 +1,247 @@
+package com.swd.uniportal.application.admission;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.swd.uniportal.application.common.BaseController;
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExportAdmissionPlans {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    public enum ExportFormat {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * One exported line: a subject group of an admission major method, together with everything
+     * above it. Plans, majors and methods without children still get one line, with the missing
+     * columns left empty.
+     */
+    @JsonPropertyOrder({
+            "admissionPlanId", "admissionPlanName", "year",
+            "institutionId", "institutionCode", "institutionName",
+            "admissionTrainingProgramId", "admissionTrainingProgramName", "trainingProgramName",
+            "admissionMajorId", "admissionMajorName", "quota", "majorId", "majorCode", "majorName",
+            "admissionMajorMethodId", "admissionMajorMethodName", "admissionMethodCode", "subjectGroupCode"
+    })
+    public record ExportedAdmissionRow(
+            Long admissionPlanId, String admissionPlanName, Integer year,
+            Long institutionId, String institutionCode, String institutionName,
+            Long admissionTrainingProgramId, String admissionTrainingProgramName, String trainingProgramName,
+            Long admissionMajorId, String admissionMajorName, Integer quota,
+            Long majorId, String majorCode, String majorName,
+            Long admissionMajorMethodId, String admissionMajorMethodName, String admissionMethodCode,
+            String subjectGroupCode) {
+    }
+
+    @FunctionalInterface
+    public interface RowWriter {
+
+        void write(ExportedAdmissionRow row) throws IOException;
+    }
+
+    @RestController
+    @Tag(name = "admission-plans")
+    public static class ExportAdmissionPlansController extends BaseController {
+
+        private final ExportAdmissionPlansService service;
+        private final ObjectMapper objectMapper;
+
+        @Autowired
+        public ExportAdmissionPlansController(ExportAdmissionPlansService service, ObjectMapper objectMapper) {
+            this.service = service;
+            this.objectMapper = objectMapper;
+        }
+
+        @GetMapping("/admission-plans/export")
+        @Operation(summary = "Export admission plans with their majors, methods and subject groups as flat rows.")
+        @ApiResponse(
+                responseCode = "200",
+                description = "One row per subject group, as newline-delimited JSON or CSV with a header line.",
+                content = {
+                        @Content(
+                                mediaType = "application/x-ndjson",
+                                schema = @Schema(implementation = ExportedAdmissionRow.class)
+                        ),
+                        @Content(
+                                mediaType = TEXT_CSV_VALUE,
+                                schema = @Schema(implementation = ExportedAdmissionRow.class)
+                        )
+                }
+        )
+        @ApiResponse(
+                responseCode = "400",
+                description = "Unknown export format.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public void export(
+                @RequestParam(name = "format", defaultValue = "ndjson") String format,
+                @RequestParam(name = "year", required = false) Integer year,
+                @RequestParam(name = "institutionId", required = false) Long institutionId,
+                HttpServletResponse response) throws IOException {
+            ExportFormat exportFormat = parse(format);
+            if (Objects.isNull(exportFormat)) {
+                fail(response, HttpStatus.BAD_REQUEST, "Export format must be 'ndjson' or 'csv'.");
+                return;
+            }
+            response.setStatus(HttpStatus.OK.value());
+            if (exportFormat == ExportFormat.CSV) {
+                response.setContentType(TEXT_CSV_VALUE);
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"admission-plans.csv\"");
+            } else {
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            }
+            try {
+                service.export(exportFormat, year, institutionId, response.getOutputStream());
+            } catch (Exception e) {
+                if (response.isCommitted()) {
+                    throw e;
+                }
+                response.reset();
+                fail(response, HttpStatus.INTERNAL_SERVER_ERROR, "Server error.");
+            }
+        }
+
+        private static ExportFormat parse(String format) {
+            for (ExportFormat exportFormat : ExportFormat.values()) {
+                if (StringUtils.equalsIgnoreCase(exportFormat.name(), StringUtils.trim(format))) {
+                    return exportFormat;
+                }
+            }
+            return null;
+        }
+
+        private void fail(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+            response.setStatus(status.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new FailedResponse(List.of(message)));
+        }
+    }
+
+    /**
+     * Streams rows from the database straight into the response. Nothing is collected: each row
+     * is serialized as soon as it is read, and the servlet output buffer flushes to the client
+     * when it fills, so memory stays flat whatever the number of plans exported.
+     */
+    @Service
+    public static class ExportAdmissionPlansService {
+
+        private static final CsvMapper CSV_MAPPER = new CsvMapper();
+        private static final CsvSchema CSV_SCHEMA = CSV_MAPPER.schemaFor(ExportedAdmissionRow.class).withHeader();
+
+        private final ExportAdmissionPlansDatasource datasource;
+        private final ObjectMapper objectMapper;
+
+        @Autowired
+        public ExportAdmissionPlansService(ExportAdmissionPlansDatasource datasource, ObjectMapper objectMapper) {
+            this.datasource = datasource;
+            this.objectMapper = objectMapper;
+        }
+
+        public void export(ExportFormat format, Integer year, Long institutionId, OutputStream output)
+                throws IOException {
+            if (format == ExportFormat.CSV) {
+                try (SequenceWriter writer = CSV_MAPPER.writer(CSV_SCHEMA).writeValues(output)) {
+                    datasource.scroll(year, institutionId, writer::write);
+                }
+            } else {
+                datasource.scroll(year, institutionId, row -> {
+                    output.write(objectMapper.writeValueAsBytes(row));
+                    output.write('\n');
+                });
+            }
+            output.flush();
+        }
+    }
+
+    @Datasource
+    public static class ExportAdmissionPlansDatasource {
+
+        private static final String EXPORT_QUERY = "select new " + ExportedAdmissionRow.class.getName() + "("
+                + "p.id, p.name, p.year, i.id, i.code, i.name, atp.id, atp.name, tp.name, "
+                + "am.id, am.name, am.quota, mj.id, mj.code, mj.name, mm.id, mm.name, me.code, sg.code) "
+                + "from AdmissionPlan p "
+                + "join p.institution i "
+                + "left join p.admissionMajors am "
+                + "left join am.admissionTrainingProgram atp "
+                + "left join atp.trainingProgram tp "
+                + "left join am.major mj "
+                + "left join am.admissionMajorMethods mm "
+                + "left join mm.admissionMethod me "
+                + "left join mm.subjectGroups sg "
+                + "where (:year is null or p.year = :year) "
+                + "and (:institutionId is null or i.id = :institutionId) "
+                + "order by p.id, am.id, mm.id, sg.id";
+
+        /**
+         * Tells MySQL Connector/J to stream the result set row by row instead of buffering it
+         * on the client.
+         */
+        private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+        private final SessionFactory sessionFactory;
+
+        @Autowired
+        public ExportAdmissionPlansDatasource(EntityManagerFactory entityManagerFactory) {
+            this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        }
+
+        public void scroll(Integer year, Long institutionId, RowWriter writer) throws IOException {
+            try (StatelessSession session = sessionFactory.openStatelessSession();
+                 ScrollableResults<ExportedAdmissionRow> rows = session
+                         .createSelectionQuery(EXPORT_QUERY, ExportedAdmissionRow.class)
+                         .setParameter("year", year)
+                         .setParameter("institutionId", institutionId)
+                         .setFetchSize(STREAMING_FETCH_SIZE)
+                         .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (rows.next()) {
+                    writer.write(rows.get());
+                }
+            }
+        }
+    }
+}
@@ -1,41 +1,55 @@
 package com.swd.uniportal.application.admission;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swd.uniportal.application.admission.dto.AdmissionMajorDto;
 import com.swd.uniportal.application.admission.dto.AdmissionPlanDto;
 import com.swd.uniportal.application.admission.exception.AdmissionPlanNotFoundException;
+import com.swd.uniportal.application.admission.loader.AdmissionPlanDetailLoader;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
-import com.swd.uniportal.application.common.Mapper;
-import com.swd.uniportal.domain.admission.AdmissionPlan;
+import com.swd.uniportal.domain.admission.QAdmissionMajor;
+import com.swd.uniportal.domain.admission.QAdmissionPlan;
+import com.swd.uniportal.domain.institution.QInstitution;
+import com.swd.uniportal.domain.major.QMajor;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class GetAdmissionPlan {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class GetAdmissionPlanController extends BaseController {
+    public static class GetAdmissionPlanController extends BaseController {
 
         private final GetAdmissionPlanService service;
+        private final ResponseCache responseCache;
 
         @Autowired
-        public GetAdmissionPlanController(GetAdmissionPlanService service) {
+        public GetAdmissionPlanController(GetAdmissionPlanService service, ResponseCache responseCache) {
             this.service = service;
+            this.responseCache = responseCache;
         }
 
         @GetMapping("/admission-plans/{id}")
@@ -56,13 +70,18 @@ public final class GetAdmissionPlan {
                         schema = @Schema(implementation = FailedResponse.class)
                 )
         )
-        public ResponseEntity<Object> get(@PathVariable("id") Long id) {
+        public ResponseEntity<Object> get(@PathVariable("id") Long id, WebRequest webRequest) {
             if (id < 1) {
                 return ResponseEntity.badRequest().body(new FailedResponse(List.of("Id is not positive.")));
             }
             try {
+                Optional<String> entityTag = service.getEntityTag(id);
+                if (entityTag.isPresent() && webRequest.checkNotModified(entityTag.get())) {
+                    return null;
+                }
                 AdmissionPlanDto admissionPlan = service.get(id);
-                return ResponseEntity.ok(admissionPlan);
+                tag(admissionPlan);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(admissionPlan);
             } catch (AdmissionPlanNotFoundException e) {
                 return ResponseEntity.badRequest()
                         .body(new FailedResponse(List.of(e.getMessage())));
@@ -71,42 +90,78 @@ public final class GetAdmissionPlan {
                         .body(new FailedResponse(List.of("Server error.")));
             }
         }
+
+        private void tag(AdmissionPlanDto admissionPlan) {
+            responseCache.tag(CachedEntity.ADMISSION_PLAN, admissionPlan.getId());
+            if (Objects.nonNull(admissionPlan.getInstitution())) {
+                responseCache.tag(CachedEntity.INSTITUTION, admissionPlan.getInstitution().getId());
+            }
+            admissionPlan.getAdmissionMajors().stream()
+                    .map(AdmissionMajorDto::getMajor)
+                    .filter(Objects::nonNull)
+                    .forEach(major -> responseCache.tag(CachedEntity.MAJOR, major.getId()));
+        }
     }
 
     @Service
-    public static final class GetAdmissionPlanService {
+    public static class GetAdmissionPlanService {
 
         private final GetAdmissionPlanDatasource datasource;
-        private final Mapper<AdmissionPlan, AdmissionPlanDto> mapper;
 
         @Autowired
-        public GetAdmissionPlanService(
-                GetAdmissionPlanDatasource datasource,
-                Mapper<AdmissionPlan, AdmissionPlanDto> mapper) {
+        public GetAdmissionPlanService(GetAdmissionPlanDatasource datasource) {
             this.datasource = datasource;
-            this.mapper = mapper;
+        }
+
+        public Optional<String> getEntityTag(Long id) {
+            return datasource.getEntityTag(id);
         }
 
         public AdmissionPlanDto get(Long id) throws AdmissionPlanNotFoundException {
-            AdmissionPlan admissionPlan = datasource.getById(id)
+            return datasource.getById(id)
                     .orElseThrow(() -> new AdmissionPlanNotFoundException(String
                             .format("Admission plan with id '%d' not found.", id)));
-            return mapper.toDto(admissionPlan);
         }
     }
 
     @Datasource
-    public static final class GetAdmissionPlanDatasource {
+    public static class GetAdmissionPlanDatasource {
+
+        private static final QAdmissionPlan PLAN = QAdmissionPlan.admissionPlan;
+        private static final QInstitution INSTITUTION = QInstitution.institution;
+        private static final QAdmissionMajor MAJOR = QAdmissionMajor.admissionMajor;
+        private static final QMajor BASE_MAJOR = QMajor.major;
 
-        private final AdmissionPlanRepository repository;
+        private final AdmissionPlanDetailLoader loader;
+        private final EntityManager entityManager;
 
         @Autowired
-        public GetAdmissionPlanDatasource(AdmissionPlanRepository repository) {
-            this.repository = repository;
+        public GetAdmissionPlanDatasource(AdmissionPlanDetailLoader loader, EntityManager entityManager) {
+            this.loader = loader;
+            this.entityManager = entityManager;
+        }
+
+        /**
+         * The plan version covers the plan and everything under it; the institution and the majors
+         * are shown in the plan but versioned on their own, so their versions are part of the tag.
+         */
+        public Optional<String> getEntityTag(Long id) {
+            Tuple row = new JPAQueryFactory(entityManager)
+                    .select(PLAN.version, INSTITUTION.version, BASE_MAJOR.version.sum())
+                    .from(PLAN)
+                    .join(PLAN.institution, INSTITUTION)
+                    .leftJoin(PLAN.admissionMajors, MAJOR)
+                    .leftJoin(MAJOR.major, BASE_MAJOR)
+                    .where(PLAN.id.eq(id))
+                    .groupBy(PLAN.version, INSTITUTION.version)
+                    .fetchOne();
+            return Optional.ofNullable(row).map(version -> EntityTags.of(version.get(PLAN.version),
+                    version.get(INSTITUTION.version),
+                    Objects.requireNonNullElse(version.get(BASE_MAJOR.version.sum()), 0L)));
         }
 
-        public Optional<AdmissionPlan> getById(Long id) {
-            return repository.getByIdPopulated(id);
+        public Optional<AdmissionPlanDto> getById(Long id) {
+            return loader.load(id);
         }
     }
 }
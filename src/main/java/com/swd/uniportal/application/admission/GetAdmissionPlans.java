@@ -1,11 +1,17 @@
 package com.swd.uniportal.application.admission;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.swd.uniportal.application.admission.dto.InstitutionDto;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
-import com.swd.uniportal.domain.admission.AdmissionPlan;
+import com.swd.uniportal.domain.admission.QAdmissionPlan;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,13 +20,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import java.util.Objects;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,15 +40,16 @@ public class GetAdmissionPlans {
     @Builder
     public static final class AdmissionPlansDto {
 
-        Integer page;
-        Integer totalPages;
-        Integer pageSize;
-        Integer size;
+        Long page;
+        Long totalPages;
+        Long pageSize;
+        Long size;
         List<SimpleAdmissionPlanDto> admissionPlans;
     }
 
     @Data
     @Builder
+    @AllArgsConstructor
     public static final class SimpleAdmissionPlanDto {
 
         Long id;
@@ -53,7 +60,7 @@ public class GetAdmissionPlans {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class GetAdmissionPlansController extends BaseController {
+    public static class GetAdmissionPlansController extends BaseController {
 
         private final GetAdmissionPlansService service;
 
@@ -90,11 +97,11 @@ public class GetAdmissionPlans {
         )
         public ResponseEntity<Object> get(
                 @RequestParam(name = "search", defaultValue = "") String search,
-                @RequestParam(name = "page", defaultValue = "1") Integer page,
+                @RequestParam(name = "page", defaultValue = "1") Long page,
                 @RequestParam(name = "institutionId", required = false) Long institutionId) {
-            Integer pageToUse = page;
+            Long pageToUse = page;
             if (Objects.isNull(pageToUse) || pageToUse < 1) {
-                pageToUse = 1;
+                pageToUse = 1L;
             }
             try {
                 AdmissionPlansDto admissionPlan = service.get(search, pageToUse, institutionId);
@@ -107,75 +114,63 @@ public class GetAdmissionPlans {
     }
 
     @Service
-    public static final class GetAdmissionPlansService {
+    public static class GetAdmissionPlansService {
 
         private final GetAdmissionPlansDataSource datasource;
 
-        @Value("${uniportal.pagination.size}")
-        private Integer pageSize;
-
         @Autowired
         public GetAdmissionPlansService(GetAdmissionPlansDataSource datasource) {
             this.datasource = datasource;
         }
 
-        public AdmissionPlansDto get(String search, Integer pageToUse, Long institutionId) {
-            Pageable pageable = PageRequest.of(pageToUse - 1, pageSize);
-            List<AdmissionPlan> admissionPlans;
-            if (Objects.isNull(institutionId)) {
-                admissionPlans = datasource.getBySearch(search, pageable);
-            } else {
-                admissionPlans = datasource.getBySearchAndInstitution(search, pageable, institutionId);
-            }
-            List<SimpleAdmissionPlanDto> admissionPlanList = admissionPlans.stream()
-                    .map(ap -> SimpleAdmissionPlanDto.builder()
-                            .id(ap.getId())
-                            .year(ap.getYear())
-                            .name(ap.getName())
-                            .institution(InstitutionDto.builder()
-                                    .id(ap.getInstitution().getId())
-                                    .name(ap.getInstitution().getName())
-                                    .code(ap.getInstitution().getCode())
-                                    .avatarLink(ap.getInstitution().getAvatarLink())
-                                    .build())
-                            .build()).toList();
-            Integer count = Objects.isNull(institutionId)
-                    ? Math.ceilDiv(datasource.countAdmissionPlansBySearch(search), pageSize)
-                    : Math.ceilDiv(datasource.countAdmissionPlansBySearchAndInstitutionId(search, institutionId), pageSize);
+        public AdmissionPlansDto get(String search, Long pageToUse, Long institutionId) {
+            PagedResult<SimpleAdmissionPlanDto> admissionPlans = datasource.get(search, pageToUse, institutionId);
             return AdmissionPlansDto.builder()
                     .page(pageToUse)
-                    .totalPages(count)
-                    .pageSize(pageSize)
-                    .size(admissionPlanList.size())
-                    .admissionPlans(admissionPlanList)
+                    .totalPages(admissionPlans.totalPages())
+                    .pageSize(admissionPlans.pageSize())
+                    .size(admissionPlans.currentPageSize())
+                    .admissionPlans(admissionPlans.content())
                     .build();
         }
     }
 
     @Datasource
-    public static final class GetAdmissionPlansDataSource {
-
-        private final AdmissionPlanRepository repository;
-
-        @Autowired
-        public GetAdmissionPlansDataSource(AdmissionPlanRepository repository) {
-            this.repository = repository;
-        }
+    public static class GetAdmissionPlansDataSource {
 
-        public List<AdmissionPlan> getBySearch(String search, Pageable pageable) {
-            return repository.getAdmissionPlansBySearch(search, pageable);
-        }
+        @Value("${uniportal.pagination.size}")
+        private Long pageSize;
 
-        public List<AdmissionPlan> getBySearchAndInstitution(String search, Pageable pageable, Long institutionId) {
-            return repository.getAdmissionPlansBySearchAndInstitutionId(search, institutionId, pageable);
-        }
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final SearchIndexes searchIndexes;
 
-        public int countAdmissionPlansBySearch(String search) {
-            return repository.countAdmissionPlansBySearch(search);
+        @Autowired
+        public GetAdmissionPlansDataSource(PagedQueryExecutor pagedQueryExecutor, SearchIndexes searchIndexes) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.searchIndexes = searchIndexes;
         }
 
-        public int countAdmissionPlansBySearchAndInstitutionId(String search, Long institutionId) {
-            return repository.countAdmissionPlansBySearchAndInstitutionId(search, institutionId);
+        public PagedResult<SimpleAdmissionPlanDto> get(String search, Long page, Long institutionId) {
+            QAdmissionPlan admissionPlan = QAdmissionPlan.admissionPlan;
+            BooleanBuilder filters = new BooleanBuilder();
+            if (StringUtils.isNotBlank(search)) {
+                filters.and(searchIndexes.matching(SearchTarget.ADMISSION_PLAN,
+                        admissionPlan.id, admissionPlan.foldedName, search));
+            }
+            if (Objects.nonNull(institutionId)) {
+                filters.and(admissionPlan.institution.id.eq(institutionId));
+            }
+            return pagedQueryExecutor.fetch(admissionPlan, Projections.constructor(SimpleAdmissionPlanDto.class,
+                            admissionPlan.id, admissionPlan.name, admissionPlan.year,
+                            Projections.constructor(InstitutionDto.class,
+                                    admissionPlan.institution.id, admissionPlan.institution.name,
+                                    admissionPlan.institution.code, admissionPlan.institution.avatarLink)),
+                    filters, PageSpec.builder()
+                            .page(page)
+                            .pageSize(pageSize)
+                            .count(true)
+                            .build(),
+                    admissionPlan.name.asc(), admissionPlan.id.asc());
         }
     }
 }
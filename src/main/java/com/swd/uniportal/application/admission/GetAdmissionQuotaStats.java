@@ -0,0 +1,191 @@
+package com.swd.uniportal.application.admission;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swd.uniportal.application.admission.dto.QuotaStatDto;
+import com.swd.uniportal.application.admission.dto.QuotaStatsDto;
+import com.swd.uniportal.application.common.BaseController;
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.domain.address.QCityProvince;
+import com.swd.uniportal.domain.admission.AdmissionQuotaStat;
+import com.swd.uniportal.domain.admission.QAdmissionMethod;
+import com.swd.uniportal.domain.admission.QuotaDimension;
+import com.swd.uniportal.domain.institution.QInstitution;
+import com.swd.uniportal.domain.major.QMajor;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.repository.AdmissionQuotaStatRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GetAdmissionQuotaStats {
+
+    @RestController
+    @Tag(name = "admission-plans")
+    public static class GetAdmissionQuotaStatsController extends BaseController {
+
+        private final GetAdmissionQuotaStatsService service;
+
+        @Autowired
+        public GetAdmissionQuotaStatsController(GetAdmissionQuotaStatsService service) {
+            this.service = service;
+        }
+
+        @GetMapping("/admission-plans/stats")
+        @Operation(summary = "Get the admission quota of a year by institution, major, method or city/province.")
+        @ApiResponse(
+                responseCode = "200",
+                description = "Successful.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = QuotaStatsDto.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid parameters.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public ResponseEntity<Object> get(
+                @RequestParam(name = "year") Integer year,
+                @RequestParam(name = "groupBy", defaultValue = "institution") String groupBy) {
+            if (Objects.isNull(year) || year < 2000 || year > 9999) {
+                return ResponseEntity.badRequest()
+                        .body(new FailedResponse(List.of("Year must be between 2000 and 9999.")));
+            }
+            QuotaDimension dimension = parse(groupBy);
+            if (Objects.isNull(dimension)) {
+                return ResponseEntity.badRequest().body(new FailedResponse(List
+                        .of("Group by must be 'institution', 'major', 'method' or 'cityProvince'.")));
+            }
+            try {
+                return ResponseEntity.ok(service.get(year, dimension));
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError()
+                        .body(new FailedResponse(List.of("Server error.")));
+            }
+        }
+
+        private static QuotaDimension parse(String groupBy) {
+            for (QuotaDimension dimension : QuotaDimension.values()) {
+                String name = StringUtils.remove(dimension.name(), '_');
+                if (StringUtils.equalsIgnoreCase(name, StringUtils.trim(groupBy))) {
+                    return dimension;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Reads only the maintained summary; the admission tables are touched just to name the rows
+     * of the page.
+     */
+    @Service
+    public static class GetAdmissionQuotaStatsService {
+
+        private final GetAdmissionQuotaStatsDatasource datasource;
+
+        @Autowired
+        public GetAdmissionQuotaStatsService(GetAdmissionQuotaStatsDatasource datasource) {
+            this.datasource = datasource;
+        }
+
+        public QuotaStatsDto get(Integer year, QuotaDimension dimension) {
+            List<AdmissionQuotaStat> stats = datasource.getStats(year, dimension);
+            Map<Long, String> names = datasource.getNames(dimension, stats.stream()
+                    .map(AdmissionQuotaStat::getDimensionId)
+                    .collect(Collectors.toSet()));
+            List<QuotaStatDto> statDtos = stats.stream()
+                    .map(stat -> QuotaStatDto.builder()
+                            .id(stat.getDimensionId())
+                            .name(names.get(stat.getDimensionId()))
+                            .quota(stat.getQuota())
+                            .admissionMajors(stat.getAdmissionMajors())
+                            .build())
+                    .toList();
+            return QuotaStatsDto.builder()
+                    .year(year)
+                    .groupBy(dimension.name())
+                    .size(statDtos.size())
+                    .stats(statDtos)
+                    .build();
+        }
+    }
+
+    @Datasource
+    public static class GetAdmissionQuotaStatsDatasource {
+
+        private final AdmissionQuotaStatRepository admissionQuotaStatRepository;
+        private final EntityManager entityManager;
+
+        @Autowired
+        public GetAdmissionQuotaStatsDatasource(
+                AdmissionQuotaStatRepository admissionQuotaStatRepository,
+                EntityManager entityManager) {
+            this.admissionQuotaStatRepository = admissionQuotaStatRepository;
+            this.entityManager = entityManager;
+        }
+
+        public List<AdmissionQuotaStat> getStats(Integer year, QuotaDimension dimension) {
+            return admissionQuotaStatRepository.getByYearAndDimension(year, dimension);
+        }
+
+        public Map<Long, String> getNames(QuotaDimension dimension, Set<Long> ids) {
+            if (ids.isEmpty()) {
+                return Map.of();
+            }
+            return switch (dimension) {
+                case INSTITUTION -> getNames(QInstitution.institution, QInstitution.institution.id,
+                        QInstitution.institution.name, ids);
+                case MAJOR -> getNames(QMajor.major, QMajor.major.id, QMajor.major.name, ids);
+                case METHOD -> getNames(QAdmissionMethod.admissionMethod, QAdmissionMethod.admissionMethod.id,
+                        QAdmissionMethod.admissionMethod.name, ids);
+                case CITY_PROVINCE -> getNames(QCityProvince.cityProvince, QCityProvince.cityProvince.id,
+                        QCityProvince.cityProvince.name, ids);
+            };
+        }
+
+        private Map<Long, String> getNames(EntityPath<?> entity, NumberPath<Long> id, StringPath name, Set<Long> ids) {
+            Map<Long, String> names = new HashMap<>();
+            new JPAQueryFactory(entityManager).select(id, name)
+                    .from(entity)
+                    .where(id.in(ids))
+                    .fetch()
+                    .forEach(row -> names.put(row.get(id), row.get(name)));
+            return names;
+        }
+    }
+}
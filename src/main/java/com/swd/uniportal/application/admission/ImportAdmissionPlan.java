@@ -0,0 +1,437 @@
+package com.swd.uniportal.application.admission;
+
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
+import com.swd.uniportal.application.admission.dto.AdmissionPlanDto;
+import com.swd.uniportal.application.admission.exception.AdmissionPlanNotFoundException;
+import com.swd.uniportal.application.admission.exception.InvalidAdmissionPlanDocumentException;
+import com.swd.uniportal.application.admission.loader.AdmissionPlanDetailLoader;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
+import com.swd.uniportal.application.common.BaseController;
+import com.swd.uniportal.application.common.CustomValidation;
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.domain.admission.AdmissionMajor;
+import com.swd.uniportal.domain.admission.AdmissionMajorMethod;
+import com.swd.uniportal.domain.admission.AdmissionMethod;
+import com.swd.uniportal.domain.admission.AdmissionPlan;
+import com.swd.uniportal.domain.admission.AdmissionTrainingProgram;
+import com.swd.uniportal.domain.admission.TrainingProgram;
+import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.institution.Institution;
+import com.swd.uniportal.domain.major.Major;
+import com.swd.uniportal.domain.subject.SubjectGroup;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
+import com.swd.uniportal.infrastructure.repository.AdmissionMajorMethodRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionMajorRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionMethodRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionTrainingProgramRepository;
+import com.swd.uniportal.infrastructure.repository.InstitutionRepository;
+import com.swd.uniportal.infrastructure.repository.MajorRepository;
+import com.swd.uniportal.infrastructure.repository.SubjectGroupRepository;
+import com.swd.uniportal.infrastructure.repository.TrainingProgramRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ImportAdmissionPlan {
+
+    @Data
+    public static class AdmissionPlanDocument {
+
+        @NotBlank(message = "Admission plan name must not be blank.")
+        private String name;
+
+        private String description;
+
+        @NotNull(message = "Admission plan year must be defined.")
+        @Min(value = 2000, message = "Admission plan year must be in or after 2000.")
+        @Max(value = 9999, message = "Admission plan year must be in or before 9999.")
+        private Integer year;
+
+        @NotNull(message = "Admission plan institution must be defined.")
+        @Min(value = 1, message = "Admission plan institution id must be positive.")
+        private Long institutionId;
+
+        @NotNull(message = "Training programs must be defined.")
+        @Valid
+        private List<TrainingProgramDocument> trainingPrograms = new ArrayList<>();
+
+        @NotNull(message = "Majors must be defined.")
+        @Valid
+        private List<MajorDocument> majors = new ArrayList<>();
+    }
+
+    @Data
+    public static class TrainingProgramDocument {
+
+        @NotBlank(message = "Admission training program name must not be blank.")
+        private String name;
+
+        @NotNull(message = "Admission training program must be linked to predefined training program.")
+        @Min(value = 1, message = "Training program id must be positive.")
+        private Long trainingProgramId;
+    }
+
+    @Data
+    public static class MajorDocument {
+
+        private String name;
+        private String description;
+
+        @NotNull(message = "Quota must be defined.")
+        @Min(value = 1, message = "Quota must be positive.")
+        private Integer quota;
+
+        @NotNull(message = "Major must be defined.")
+        @Min(value = 1, message = "Major id must be positive.")
+        private Long majorId;
+
+        @NotBlank(message = "Admission major must name one of the plan's training programs.")
+        private String trainingProgram;
+
+        @NotNull(message = "Admission major methods must be defined.")
+        @Valid
+        private List<MethodDocument> methods = new ArrayList<>();
+    }
+
+    @Data
+    public static class MethodDocument {
+
+        @NotBlank(message = "Admission major method must not be null or blank.")
+        private String name;
+
+        @NotNull(message = "Admission method id must be defined.")
+        @Min(value = 1, message = "Admission method id must be positive.")
+        private Long admissionMethodId;
+
+        @NotNull(message = "Subject group codes must be defined.")
+        private List<String> subjectGroups = new ArrayList<>();
+    }
+
+    @RestController
+    @Tag(name = "admission-plans")
+    public static class ImportAdmissionPlanController extends BaseController {
+
+        private final ImportAdmissionPlanService service;
+
+        @Autowired
+        public ImportAdmissionPlanController(ImportAdmissionPlanService service) {
+            this.service = service;
+        }
+
+        @PostMapping("/admission-plans/import")
+        @Operation(summary = "Import a whole admission plan with its training programs, majors and methods.")
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Admission plan document to import.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = AdmissionPlanDocument.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "200",
+                description = "Successful.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = AdmissionPlanDto.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid document, duplicated names or unknown references.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public ResponseEntity<Object> importPlan(@RequestBody AdmissionPlanDocument request) {
+            List<String> violations = CustomValidation.validate(request);
+            if (!violations.isEmpty()) {
+                return ResponseEntity.badRequest().body(new FailedResponse(violations));
+            }
+            try {
+                AdmissionPlanDto imported = service.importPlan(request);
+                return ResponseEntity.ok(imported);
+            } catch (InvalidAdmissionPlanDocumentException e) {
+                return ResponseEntity.badRequest().body(new FailedResponse(e.getErrors()));
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError().body(new FailedResponse(List
+                        .of("Server error.")));
+            }
+        }
+    }
+
+    /**
+     * Checks the whole document in memory, resolves every reference with one query per entity
+     * type and inserts the plan graph in a single transaction.
+     */
+    @Service
+    @Transactional(rollbackFor = Exception.class)
+    public static class ImportAdmissionPlanService {
+
+        private final ImportAdmissionPlanDatasource datasource;
+        private final AdmissionPlanDetailLoader loader;
+
+        @Autowired
+        public ImportAdmissionPlanService(ImportAdmissionPlanDatasource datasource, AdmissionPlanDetailLoader loader) {
+            this.datasource = datasource;
+            this.loader = loader;
+        }
+
+        public AdmissionPlanDto importPlan(AdmissionPlanDocument document)
+                throws InvalidAdmissionPlanDocumentException, AdmissionPlanNotFoundException {
+            List<String> errors = new ArrayList<>(findDuplicates(document));
+            if (datasource.institutionDoesNotExist(document.getInstitutionId())) {
+                errors.add(String.format("Institution with id '%d' not found.", document.getInstitutionId()));
+            }
+            Map<Long, TrainingProgram> trainingPrograms = datasource.getTrainingPrograms(document.getTrainingPrograms()
+                    .stream()
+                    .map(TrainingProgramDocument::getTrainingProgramId)
+                    .collect(Collectors.toSet()));
+            Map<Long, Major> majors = datasource.getMajors(document.getMajors().stream()
+                    .map(MajorDocument::getMajorId)
+                    .collect(Collectors.toSet()));
+            Map<Long, AdmissionMethod> admissionMethods = datasource.getAdmissionMethods(methods(document)
+                    .map(MethodDocument::getAdmissionMethodId)
+                    .collect(Collectors.toSet()));
+            Map<String, SubjectGroup> subjectGroups = datasource.getSubjectGroups(methods(document)
+                    .flatMap(method -> method.getSubjectGroups().stream())
+                    .map(StringUtils::trim)
+                    .collect(Collectors.toSet()));
+            errors.addAll(missing("Training program with id '%s' not found.", trainingPrograms.keySet(),
+                    document.getTrainingPrograms().stream().map(TrainingProgramDocument::getTrainingProgramId)));
+            errors.addAll(missing("Major with id '%s' not found.", majors.keySet(),
+                    document.getMajors().stream().map(MajorDocument::getMajorId)));
+            errors.addAll(missing("Admission method with id '%s' not found.", admissionMethods.keySet(),
+                    methods(document).map(MethodDocument::getAdmissionMethodId)));
+            errors.addAll(missing("Subject group with code '%s' not found.", subjectGroups.keySet(),
+                    methods(document).flatMap(method -> method.getSubjectGroups().stream()).map(StringUtils::trim)));
+            if (!errors.isEmpty()) {
+                throw new InvalidAdmissionPlanDocumentException(errors);
+            }
+
+            AdmissionPlan admissionPlan = datasource.savePlan(AdmissionPlan.builder()
+                    .name(StringUtils.trim(document.getName()))
+                    .description(StringUtils.trim(document.getDescription()))
+                    .year(document.getYear())
+                    .institution(datasource.getInstitutionReference(document.getInstitutionId()))
+                    .admissionMajors(new HashSet<>())
+                    .admissionTrainingPrograms(new HashSet<>())
+                    .build());
+            Map<String, AdmissionTrainingProgram> admissionTrainingPrograms = new HashMap<>();
+            for (TrainingProgramDocument trainingProgram : document.getTrainingPrograms()) {
+                admissionTrainingPrograms.put(StringUtils.trim(trainingProgram.getName()), AdmissionTrainingProgram
+                        .builder()
+                        .name(StringUtils.trim(trainingProgram.getName()))
+                        .trainingProgram(trainingPrograms.get(trainingProgram.getTrainingProgramId()))
+                        .admissionPlan(admissionPlan)
+                        .build());
+            }
+            List<AdmissionMajor> admissionMajors = new ArrayList<>();
+            List<AdmissionMajorMethod> admissionMajorMethods = new ArrayList<>();
+            for (MajorDocument major : document.getMajors()) {
+                AdmissionMajor admissionMajor = AdmissionMajor.builder()
+                        .name(StringUtils.trim(major.getName()))
+                        .description(StringUtils.trim(major.getDescription()))
+                        .quota(major.getQuota())
+                        .admissionPlan(admissionPlan)
+                        .major(majors.get(major.getMajorId()))
+                        .admissionTrainingProgram(admissionTrainingPrograms.get(StringUtils.trim(major
+                                .getTrainingProgram())))
+                        .build();
+                admissionMajors.add(admissionMajor);
+                for (MethodDocument method : major.getMethods()) {
+                    admissionMajorMethods.add(AdmissionMajorMethod.builder()
+                            .name(StringUtils.trim(method.getName()))
+                            .admissionMajor(admissionMajor)
+                            .admissionMethod(admissionMethods.get(method.getAdmissionMethodId()))
+                            .subjectGroups(method.getSubjectGroups().stream()
+                                    .map(code -> subjectGroups.get(StringUtils.trim(code)))
+                                    .collect(Collectors.toSet()))
+                            .build());
+                }
+            }
+            datasource.saveGraph(admissionPlan, admissionTrainingPrograms.values(), admissionMajors,
+                    admissionMajorMethods);
+            return loader.load(admissionPlan.getId())
+                    .orElseThrow(() -> new AdmissionPlanNotFoundException("Imported admission plan not found."));
+        }
+
+        private List<String> findDuplicates(AdmissionPlanDocument document) {
+            List<String> errors = new ArrayList<>();
+            Set<String> trainingProgramNames = new HashSet<>();
+            for (TrainingProgramDocument trainingProgram : document.getTrainingPrograms()) {
+                if (!trainingProgramNames.add(StringUtils.trim(trainingProgram.getName()))) {
+                    errors.add(String.format("Admission training program with name '%s' already exists.",
+                            StringUtils.trim(trainingProgram.getName())));
+                }
+            }
+            Set<String> majorNames = new HashSet<>();
+            for (MajorDocument major : document.getMajors()) {
+                String majorName = StringUtils.trim(major.getName());
+                if (Objects.nonNull(majorName) && !majorNames.add(majorName)) {
+                    errors.add(String.format("Admission major with name '%s' already exists.", majorName));
+                }
+                if (!trainingProgramNames.contains(StringUtils.trim(major.getTrainingProgram()))) {
+                    errors.add(String.format("Admission training program with name '%s' is not in the plan.",
+                            StringUtils.trim(major.getTrainingProgram())));
+                }
+                Set<String> methodNames = new HashSet<>();
+                for (MethodDocument method : major.getMethods()) {
+                    if (!methodNames.add(StringUtils.trim(method.getName()))) {
+                        errors.add(String.format("Admission major method with name '%s' already exists in '%s'.",
+                                StringUtils.trim(method.getName()), majorName));
+                    }
+                }
+            }
+            return errors;
+        }
+
+        private static Stream<MethodDocument> methods(AdmissionPlanDocument document) {
+            return document.getMajors().stream().flatMap(major -> major.getMethods().stream());
+        }
+
+        private static <T> List<String> missing(String format, Set<T> found, Stream<T> requested) {
+            return requested.filter(key -> !found.contains(key))
+                    .distinct()
+                    .map(key -> String.format(format, key))
+                    .toList();
+        }
+    }
+
+    @Datasource
+    public static class ImportAdmissionPlanDatasource {
+
+        private final AdmissionPlanRepository admissionPlanRepository;
+        private final AdmissionTrainingProgramRepository admissionTrainingProgramRepository;
+        private final AdmissionMajorRepository admissionMajorRepository;
+        private final AdmissionMajorMethodRepository admissionMajorMethodRepository;
+        private final InstitutionRepository institutionRepository;
+        private final TrainingProgramRepository trainingProgramRepository;
+        private final MajorRepository majorRepository;
+        private final AdmissionMethodRepository admissionMethodRepository;
+        private final SubjectGroupRepository subjectGroupRepository;
+        private final SearchIndexes searchIndexes;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+
+        @Autowired
+        @SuppressWarnings("java:S107")
+        public ImportAdmissionPlanDatasource(
+                AdmissionPlanRepository admissionPlanRepository,
+                AdmissionTrainingProgramRepository admissionTrainingProgramRepository,
+                AdmissionMajorRepository admissionMajorRepository,
+                AdmissionMajorMethodRepository admissionMajorMethodRepository,
+                InstitutionRepository institutionRepository,
+                TrainingProgramRepository trainingProgramRepository,
+                MajorRepository majorRepository,
+                AdmissionMethodRepository admissionMethodRepository,
+                SubjectGroupRepository subjectGroupRepository,
+                SearchIndexes searchIndexes,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats) {
+            this.admissionPlanRepository = admissionPlanRepository;
+            this.admissionTrainingProgramRepository = admissionTrainingProgramRepository;
+            this.admissionMajorRepository = admissionMajorRepository;
+            this.admissionMajorMethodRepository = admissionMajorMethodRepository;
+            this.institutionRepository = institutionRepository;
+            this.trainingProgramRepository = trainingProgramRepository;
+            this.majorRepository = majorRepository;
+            this.admissionMethodRepository = admissionMethodRepository;
+            this.subjectGroupRepository = subjectGroupRepository;
+            this.searchIndexes = searchIndexes;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+        }
+
+        public boolean institutionDoesNotExist(Long institutionId) {
+            return !institutionRepository.existsById(institutionId);
+        }
+
+        public Institution getInstitutionReference(Long institutionId) {
+            return institutionRepository.getReferenceById(institutionId);
+        }
+
+        public Map<Long, TrainingProgram> getTrainingPrograms(Set<Long> ids) {
+            return byId(trainingProgramRepository.findAllById(ids));
+        }
+
+        public Map<Long, Major> getMajors(Set<Long> ids) {
+            return byId(majorRepository.findAllById(ids));
+        }
+
+        public Map<Long, AdmissionMethod> getAdmissionMethods(Set<Long> ids) {
+            return byId(admissionMethodRepository.findAllById(ids));
+        }
+
+        public Map<String, SubjectGroup> getSubjectGroups(Set<String> codes) {
+            if (codes.isEmpty()) {
+                return Map.of();
+            }
+            return subjectGroupRepository.getByCodeIn(codes).stream()
+                    .collect(Collectors.toMap(SubjectGroup::getCode, Function.identity(), (first, second) -> first));
+        }
+
+        public AdmissionPlan savePlan(AdmissionPlan admissionPlan) {
+            AdmissionPlan saved = admissionPlanRepository.save(admissionPlan);
+            searchIndexes.put(SearchTarget.ADMISSION_PLAN, saved.getId(), saved.getName());
+            return saved;
+        }
+
+        public void saveGraph(AdmissionPlan admissionPlan,
+                              Collection<AdmissionTrainingProgram> admissionTrainingPrograms,
+                              List<AdmissionMajor> admissionMajors,
+                              List<AdmissionMajorMethod> admissionMajorMethods) {
+            admissionTrainingProgramRepository.saveAll(admissionTrainingPrograms);
+            admissionMajorRepository.saveAll(admissionMajors);
+            admissionMajorMethodRepository.saveAll(admissionMajorMethods);
+            admissionCatalog.invalidate();
+            admissionQuotaStats.apply(Contributions.empty(), admissionQuotaStats.capturePlan(admissionPlan.getId()));
+        }
+
+        private static <T extends BaseEntity> Map<Long, T> byId(List<T> entities) {
+            return entities.stream().collect(Collectors.toMap(BaseEntity::getId, Function.identity()));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.swd.uniportal.application.admission;
+
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.common.BaseController;
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RebuildAdmissionQuotaStats {
+
+    @RestController
+    @Tag(name = "admission-plans")
+    public static class RebuildAdmissionQuotaStatsController extends BaseController {
+
+        private final RebuildAdmissionQuotaStatsService service;
+
+        @Autowired
+        public RebuildAdmissionQuotaStatsController(RebuildAdmissionQuotaStatsService service) {
+            this.service = service;
+        }
+
+        @PostMapping("/admission-plans/stats/rebuild")
+        @Operation(summary = "Recompute the admission quota summary from the admission plans.")
+        @ApiResponse(
+                responseCode = "204",
+                description = "Rebuilt."
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public ResponseEntity<Object> rebuild() {
+            try {
+                service.rebuild();
+                return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError()
+                        .body(new FailedResponse(List.of("Server error.")));
+            }
+        }
+    }
+
+    @Service
+    public static class RebuildAdmissionQuotaStatsService {
+
+        private final RebuildAdmissionQuotaStatsDatasource datasource;
+
+        @Autowired
+        public RebuildAdmissionQuotaStatsService(RebuildAdmissionQuotaStatsDatasource datasource) {
+            this.datasource = datasource;
+        }
+
+        public void rebuild() {
+            datasource.rebuild();
+        }
+    }
+
+    @Datasource
+    public static class RebuildAdmissionQuotaStatsDatasource {
+
+        private final AdmissionQuotaStats admissionQuotaStats;
+
+        @Autowired
+        public RebuildAdmissionQuotaStatsDatasource(AdmissionQuotaStats admissionQuotaStats) {
+            this.admissionQuotaStats = admissionQuotaStats;
+        }
+
+        public void rebuild() {
+            admissionQuotaStats.rebuild();
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.swd.uniportal.application.admission;
 
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
 import com.swd.uniportal.application.admission.dto.AdmissionPlanDto;
 import com.swd.uniportal.application.admission.dto.ModifyAdmissionPlanDto;
 import com.swd.uniportal.application.admission.exception.AdmissionPlanNotFoundException;
+import com.swd.uniportal.application.admission.loader.AdmissionPlanDetailLoader;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.CustomValidation;
 import com.swd.uniportal.application.common.FailedResponse;
-import com.swd.uniportal.application.common.Mapper;
 import com.swd.uniportal.application.institution.exception.InstitutionNotFoundException;
 import com.swd.uniportal.domain.admission.AdmissionPlan;
 import com.swd.uniportal.domain.institution.Institution;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.InstitutionRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -105,14 +112,14 @@ public final class UpdateAdmissionPlan {
     public static class UpdateAdmissionPlanService {
 
         private final UpdateAdmissionPlanDatasource datasource;
-        private final Mapper<AdmissionPlan, AdmissionPlanDto> mapper;
+        private final AdmissionPlanDetailLoader loader;
 
         @Autowired
         public UpdateAdmissionPlanService(
                 UpdateAdmissionPlanDatasource datasource,
-                Mapper<AdmissionPlan, AdmissionPlanDto> mapper) {
+                AdmissionPlanDetailLoader loader) {
             this.datasource = datasource;
-            this.mapper = mapper;
+            this.loader = loader;
         }
 
         public AdmissionPlanDto update(Long id, ModifyAdmissionPlanDto request) throws AdmissionPlanNotFoundException, InstitutionNotFoundException {
@@ -128,7 +135,9 @@ public final class UpdateAdmissionPlan {
             }
             admissionPlan.setInstitution(datasource.getInstitutionReference(request.getInstitutionId()));
             admissionPlan = datasource.save(admissionPlan);
-            return mapper.toDto(admissionPlan);
+            return loader.load(admissionPlan.getId())
+                    .orElseThrow(() -> new AdmissionPlanNotFoundException(String
+                            .format("Admission plan with id '%d' not found.", id)));
         }
     }
 
@@ -137,17 +146,29 @@ public final class UpdateAdmissionPlan {
 
         private final AdmissionPlanRepository admissionPlanRepository;
         private final InstitutionRepository institutionRepository;
+        private final SearchIndexes searchIndexes;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+        private final ResponseCache responseCache;
 
         @Autowired
         public UpdateAdmissionPlanDatasource(
                 AdmissionPlanRepository admissionPlanRepository,
-                InstitutionRepository institutionRepository) {
+                InstitutionRepository institutionRepository,
+                SearchIndexes searchIndexes,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats,
+                ResponseCache responseCache) {
             this.admissionPlanRepository = admissionPlanRepository;
             this.institutionRepository = institutionRepository;
+            this.searchIndexes = searchIndexes;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+            this.responseCache = responseCache;
         }
 
         public Optional<AdmissionPlan> getById(Long id) {
-            return admissionPlanRepository.getByIdPopulated(id);
+            return admissionPlanRepository.findById(id);
         }
 
         public boolean institutionDoesNotExist(Long institutionId) {
@@ -159,7 +180,13 @@ public final class UpdateAdmissionPlan {
         }
 
         public AdmissionPlan save(AdmissionPlan admissionPlan) {
-            return admissionPlanRepository.save(admissionPlan);
+            Contributions before = admissionQuotaStats.capturePlan(admissionPlan.getId());
+            AdmissionPlan saved = admissionPlanRepository.save(admissionPlan);
+            searchIndexes.put(SearchTarget.ADMISSION_PLAN, saved.getId(), saved.getName());
+            admissionCatalog.invalidate();
+            responseCache.purge(CachedEntity.ADMISSION_PLAN, saved.getId());
+            admissionQuotaStats.apply(before, admissionQuotaStats.capturePlan(saved.getId()));
+            return saved;
         }
     }
 }
@@ -0,0 +1,130 @@
+package com.swd.uniportal.application.admission.catalog;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swd.uniportal.domain.admission.QAdmissionMajor;
+import com.swd.uniportal.domain.admission.QAdmissionMajorMethod;
+import com.swd.uniportal.domain.admission.QAdmissionMethod;
+import com.swd.uniportal.domain.admission.QAdmissionPlan;
+import com.swd.uniportal.domain.institution.QInstitution;
+import com.swd.uniportal.domain.major.QMajor;
+import com.swd.uniportal.domain.subject.QSubject;
+import com.swd.uniportal.domain.subject.QSubjectGroup;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Read-only, in-memory view of every admission major method of a year, with the subject groups
+ * each one accepts. Subject groups are kept once as bitsets over subject ids and referenced by
+ * index, so evaluating a student against the whole year touches no database rows. Snapshots are
+ * cached per year and dropped by the admission slices that change plans, majors or methods.
+ */
+@Datasource
+public class AdmissionCatalog {
+
+    private static final QSubjectGroup GROUP = QSubjectGroup.subjectGroup;
+    private static final QSubject SUBJECT = QSubject.subject;
+    private static final QAdmissionMajorMethod METHOD = QAdmissionMajorMethod.admissionMajorMethod;
+    private static final QAdmissionMajor MAJOR = QAdmissionMajor.admissionMajor;
+    private static final QAdmissionPlan PLAN = QAdmissionPlan.admissionPlan;
+    private static final QInstitution INSTITUTION = QInstitution.institution;
+    private static final QMajor BASE_MAJOR = QMajor.major;
+    private static final QAdmissionMethod BASE_METHOD = QAdmissionMethod.admissionMethod;
+
+    private final EntityManager entityManager;
+    private final ReferenceDataCache cache;
+
+    public record SubjectGroupEntry(Long id, String code, BitSet subjects) {
+    }
+
+    public record MajorMethodEntry(Long id, String name, String admissionMethodCode, Long admissionMajorId,
+                                   String admissionMajorName, Integer quota, String majorCode, String majorName,
+                                   int[] subjectGroups) {
+    }
+
+    public record PlanEntry(Long id, String name, Long institutionId, String institutionName,
+                            List<MajorMethodEntry> majorMethods) {
+    }
+
+    public record Snapshot(Integer year, List<SubjectGroupEntry> subjectGroups, List<PlanEntry> plans) {
+    }
+
+    @Autowired
+    public AdmissionCatalog(EntityManager entityManager, ReferenceDataCache cache) {
+        this.entityManager = entityManager;
+        this.cache = cache;
+    }
+
+    public Snapshot get(Integer year) {
+        return cache.get(ReferenceData.ADMISSION_CATALOG, year, () -> load(year));
+    }
+
+    public void invalidate() {
+        cache.invalidate(ReferenceData.ADMISSION_CATALOG);
+    }
+
+    private Snapshot load(Integer year) {
+        JPAQueryFactory factory = new JPAQueryFactory(entityManager);
+        List<SubjectGroupEntry> subjectGroups = new ArrayList<>();
+        Map<Long, Integer> groupIndexes = new HashMap<>();
+        for (Tuple row : factory.select(GROUP.id, GROUP.code, SUBJECT.id)
+                .from(GROUP)
+                .join(GROUP.subjects, SUBJECT)
+                .orderBy(GROUP.id.asc())
+                .fetch()) {
+            Long groupId = row.get(GROUP.id);
+            Integer index = groupIndexes.computeIfAbsent(groupId, id -> {
+                subjectGroups.add(new SubjectGroupEntry(id, row.get(GROUP.code), new BitSet()));
+                return subjectGroups.size() - 1;
+            });
+            subjectGroups.get(index).subjects().set(Math.toIntExact(row.get(SUBJECT.id)));
+        }
+
+        Map<Long, List<Integer>> methodGroups = new HashMap<>();
+        for (Tuple row : factory.select(METHOD.id, GROUP.id)
+                .from(METHOD)
+                .join(METHOD.admissionMajor, MAJOR)
+                .join(MAJOR.admissionPlan, PLAN)
+                .join(METHOD.subjectGroups, GROUP)
+                .where(PLAN.year.eq(year))
+                .fetch()) {
+            Integer index = groupIndexes.get(row.get(GROUP.id));
+            if (Objects.nonNull(index)) {
+                methodGroups.computeIfAbsent(row.get(METHOD.id), id -> new ArrayList<>()).add(index);
+            }
+        }
+
+        Map<Long, PlanEntry> plans = new LinkedHashMap<>();
+        for (Tuple row : factory.select(METHOD.id, METHOD.name, BASE_METHOD.code, MAJOR.id, MAJOR.name, MAJOR.quota,
+                        BASE_MAJOR.code, BASE_MAJOR.name, PLAN.id, PLAN.name, INSTITUTION.id, INSTITUTION.name)
+                .from(METHOD)
+                .join(METHOD.admissionMajor, MAJOR)
+                .join(MAJOR.admissionPlan, PLAN)
+                .join(PLAN.institution, INSTITUTION)
+                .leftJoin(MAJOR.major, BASE_MAJOR)
+                .leftJoin(METHOD.admissionMethod, BASE_METHOD)
+                .where(PLAN.year.eq(year))
+                .orderBy(PLAN.id.asc(), METHOD.id.asc())
+                .fetch()) {
+            Long methodId = row.get(METHOD.id);
+            PlanEntry plan = plans.computeIfAbsent(row.get(PLAN.id), id -> new PlanEntry(id, row.get(PLAN.name),
+                    row.get(INSTITUTION.id), row.get(INSTITUTION.name), new ArrayList<>()));
+            plan.majorMethods().add(new MajorMethodEntry(methodId, row.get(METHOD.name), row.get(BASE_METHOD.code),
+                    row.get(MAJOR.id), row.get(MAJOR.name), row.get(MAJOR.quota), row.get(BASE_MAJOR.code),
+                    row.get(BASE_MAJOR.name), methodGroups.getOrDefault(methodId, List.of()).stream()
+                            .mapToInt(Integer::intValue)
+                            .toArray()));
+        }
+        return new Snapshot(year, List.copyOf(subjectGroups), List.copyOf(plans.values()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.swd.uniportal.application.admission.dto;
 
 import java.io.Serializable;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -9,6 +10,7 @@ import lombok.Data;
  */
 @Data
 @Builder
+@AllArgsConstructor
 public class InstitutionDto implements Serializable {
 
     Long id;
@@ -0,0 +1,14 @@
+package com.swd.uniportal.application.admission.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public final class QuotaStatDto {
+
+    private Long id;
+    private String name;
+    private Long quota;
+    private Long admissionMajors;
+}
@@ -0,0 +1,15 @@
+package com.swd.uniportal.application.admission.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public final class QuotaStatsDto {
+
+    private Integer year;
+    private String groupBy;
+    private Integer size;
+    private List<QuotaStatDto> stats;
+}
@@ -0,0 +1,15 @@
+package com.swd.uniportal.application.admission.exception;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class InvalidAdmissionPlanDocumentException extends Exception {
+
+    private final List<String> errors;
+
+    public InvalidAdmissionPlanDocumentException(List<String> errors) {
+        super(String.join(" ", errors));
+        this.errors = List.copyOf(errors);
+    }
+}
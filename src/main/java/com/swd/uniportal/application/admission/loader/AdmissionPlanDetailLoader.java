@@ -0,0 +1,203 @@
+package com.swd.uniportal.application.admission.loader;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swd.uniportal.application.admission.dto.AdmissionMajorDto;
+import com.swd.uniportal.application.admission.dto.AdmissionMajorMethodDto;
+import com.swd.uniportal.application.admission.dto.AdmissionMethodDto;
+import com.swd.uniportal.application.admission.dto.AdmissionPlanDto;
+import com.swd.uniportal.application.admission.dto.AdmissionTrainingProgramDto;
+import com.swd.uniportal.application.admission.dto.InstitutionDto;
+import com.swd.uniportal.application.admission.dto.MajorDto;
+import com.swd.uniportal.application.admission.dto.SubjectGroupDto;
+import com.swd.uniportal.application.admission.dto.TrainingProgramDto;
+import com.swd.uniportal.domain.admission.QAdmissionMajor;
+import com.swd.uniportal.domain.admission.QAdmissionMajorMethod;
+import com.swd.uniportal.domain.admission.QAdmissionMethod;
+import com.swd.uniportal.domain.admission.QAdmissionPlan;
+import com.swd.uniportal.domain.admission.QAdmissionTrainingProgram;
+import com.swd.uniportal.domain.major.QMajor;
+import com.swd.uniportal.domain.subject.QSubjectGroup;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Loads an admission plan with its training programs, majors, major methods and subject groups.
+ * Each level is one projected query keyed by the ids of the level above (split into batches of
+ * {@value #BATCH_SIZE}), so the rows transferred grow with the size of the plan instead of with
+ * the product of its collections as a single fetch-join does.
+ */
+@Datasource
+public class AdmissionPlanDetailLoader {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final QAdmissionPlan PLAN = QAdmissionPlan.admissionPlan;
+    private static final QAdmissionTrainingProgram TRAINING_PROGRAM =
+            QAdmissionTrainingProgram.admissionTrainingProgram;
+    private static final QAdmissionMajor MAJOR = QAdmissionMajor.admissionMajor;
+    private static final QAdmissionMajorMethod METHOD = QAdmissionMajorMethod.admissionMajorMethod;
+    private static final QMajor BASE_MAJOR = QMajor.major;
+    private static final QAdmissionMethod BASE_METHOD = QAdmissionMethod.admissionMethod;
+    private static final QSubjectGroup SUBJECT_GROUP = QSubjectGroup.subjectGroup;
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public AdmissionPlanDetailLoader(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Optional<AdmissionPlanDto> load(Long id) {
+        JPAQueryFactory factory = new JPAQueryFactory(entityManager);
+        Tuple plan = factory.select(PLAN.id, PLAN.name, PLAN.description, PLAN.year,
+                        PLAN.institution.id, PLAN.institution.name, PLAN.institution.code,
+                        PLAN.institution.avatarLink)
+                .from(PLAN)
+                .where(PLAN.id.eq(id))
+                .fetchOne();
+        if (Objects.isNull(plan)) {
+            return Optional.empty();
+        }
+        List<AdmissionMajorDto> majors = loadMajors(factory, id);
+        return Optional.of(AdmissionPlanDto.builder()
+                .id(plan.get(PLAN.id))
+                .name(plan.get(PLAN.name))
+                .description(plan.get(PLAN.description))
+                .year(plan.get(PLAN.year))
+                .institution(InstitutionDto.builder()
+                        .id(plan.get(PLAN.institution.id))
+                        .name(plan.get(PLAN.institution.name))
+                        .code(plan.get(PLAN.institution.code))
+                        .avatarLink(plan.get(PLAN.institution.avatarLink))
+                        .build())
+                .admissionTrainingPrograms(loadTrainingPrograms(factory, id))
+                .admissionMajors(majors)
+                .build());
+    }
+
+    private List<AdmissionTrainingProgramDto> loadTrainingPrograms(JPAQueryFactory factory, Long planId) {
+        return factory.select(TRAINING_PROGRAM.id, TRAINING_PROGRAM.name,
+                        TRAINING_PROGRAM.trainingProgram.id, TRAINING_PROGRAM.trainingProgram.name)
+                .from(TRAINING_PROGRAM)
+                .where(TRAINING_PROGRAM.admissionPlan.id.eq(planId))
+                .orderBy(TRAINING_PROGRAM.id.asc())
+                .fetch()
+                .stream()
+                .map(row -> AdmissionTrainingProgramDto.builder()
+                        .id(row.get(TRAINING_PROGRAM.id))
+                        .name(row.get(TRAINING_PROGRAM.name))
+                        .trainingProgram(TrainingProgramDto.builder()
+                                .id(row.get(TRAINING_PROGRAM.trainingProgram.id))
+                                .name(row.get(TRAINING_PROGRAM.trainingProgram.name))
+                                .build())
+                        .build())
+                .toList();
+    }
+
+    private List<AdmissionMajorDto> loadMajors(JPAQueryFactory factory, Long planId) {
+        Map<Long, AdmissionMajorDto> majors = new LinkedHashMap<>();
+        List<Tuple> rows = factory.select(MAJOR.id, MAJOR.name, MAJOR.description, MAJOR.quota,
+                        BASE_MAJOR.id, BASE_MAJOR.name, BASE_MAJOR.code,
+                        TRAINING_PROGRAM.id, TRAINING_PROGRAM.name, TRAINING_PROGRAM.trainingProgram.id)
+                .from(MAJOR)
+                .leftJoin(MAJOR.major, BASE_MAJOR)
+                .join(MAJOR.admissionTrainingProgram, TRAINING_PROGRAM)
+                .where(MAJOR.admissionPlan.id.eq(planId))
+                .orderBy(MAJOR.id.asc())
+                .fetch();
+        for (Tuple row : rows) {
+            Long baseMajorId = row.get(BASE_MAJOR.id);
+            majors.put(row.get(MAJOR.id), AdmissionMajorDto.builder()
+                    .id(row.get(MAJOR.id))
+                    .name(row.get(MAJOR.name))
+                    .description(row.get(MAJOR.description))
+                    .quota(row.get(MAJOR.quota))
+                    .major(Objects.isNull(baseMajorId)
+                            ? null
+                            : MajorDto.builder()
+                                    .id(baseMajorId)
+                                    .name(row.get(BASE_MAJOR.name))
+                                    .code(row.get(BASE_MAJOR.code))
+                                    .build())
+                    .admissionTrainingProgram(AdmissionTrainingProgramDto.builder()
+                            .id(row.get(TRAINING_PROGRAM.id))
+                            .name(row.get(TRAINING_PROGRAM.name))
+                            .trainingProgram(TrainingProgramDto.builder()
+                                    .id(row.get(TRAINING_PROGRAM.trainingProgram.id))
+                                    .build())
+                            .build())
+                    .admissionMajorMethods(new ArrayList<>())
+                    .build());
+        }
+        Map<Long, AdmissionMajorMethodDto> methods = loadMethods(factory, majors);
+        loadSubjectGroups(factory, methods);
+        return new ArrayList<>(majors.values());
+    }
+
+    private Map<Long, AdmissionMajorMethodDto> loadMethods(JPAQueryFactory factory,
+                                                           Map<Long, AdmissionMajorDto> majors) {
+        Map<Long, AdmissionMajorMethodDto> methods = new LinkedHashMap<>();
+        for (List<Long> batch : batches(majors.keySet())) {
+            List<Tuple> rows = factory.select(METHOD.id, METHOD.name, METHOD.admissionMajor.id,
+                            BASE_METHOD.id, BASE_METHOD.name, BASE_METHOD.code)
+                    .from(METHOD)
+                    .leftJoin(METHOD.admissionMethod, BASE_METHOD)
+                    .where(METHOD.admissionMajor.id.in(batch))
+                    .orderBy(METHOD.id.asc())
+                    .fetch();
+            for (Tuple row : rows) {
+                Long baseMethodId = row.get(BASE_METHOD.id);
+                AdmissionMajorMethodDto method = AdmissionMajorMethodDto.builder()
+                        .id(row.get(METHOD.id))
+                        .name(row.get(METHOD.name))
+                        .admissionMethod(Objects.isNull(baseMethodId)
+                                ? null
+                                : AdmissionMethodDto.builder()
+                                        .id(baseMethodId)
+                                        .name(row.get(BASE_METHOD.name))
+                                        .code(row.get(BASE_METHOD.code))
+                                        .build())
+                        .subjectGroups(new ArrayList<>())
+                        .build();
+                methods.put(method.getId(), method);
+                majors.get(row.get(METHOD.admissionMajor.id)).getAdmissionMajorMethods().add(method);
+            }
+        }
+        return methods;
+    }
+
+    private void loadSubjectGroups(JPAQueryFactory factory, Map<Long, AdmissionMajorMethodDto> methods) {
+        for (List<Long> batch : batches(methods.keySet())) {
+            List<Tuple> rows = factory.select(METHOD.id, SUBJECT_GROUP.id, SUBJECT_GROUP.code)
+                    .from(METHOD)
+                    .join(METHOD.subjectGroups, SUBJECT_GROUP)
+                    .where(METHOD.id.in(batch))
+                    .orderBy(METHOD.id.asc(), SUBJECT_GROUP.id.asc())
+                    .fetch();
+            for (Tuple row : rows) {
+                methods.get(row.get(METHOD.id)).getSubjectGroups().add(SubjectGroupDto.builder()
+                        .id(row.get(SUBJECT_GROUP.id))
+                        .code(row.get(SUBJECT_GROUP.code))
+                        .build());
+            }
+        }
+    }
+
+    private static List<List<Long>> batches(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += BATCH_SIZE) {
+            batches.add(all.subList(from, Math.min(from + BATCH_SIZE, all.size())));
+        }
+        return batches;
+    }
+}
@@ -1,5 +1,6 @@
 package com.swd.uniportal.application.admission.major;
 
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
 import com.swd.uniportal.application.admission.dto.AdmissionMajorDto;
 import com.swd.uniportal.application.admission.dto.AdmissionPlanDto;
 import com.swd.uniportal.application.admission.dto.ModifyAdmissionMajorDto;
@@ -8,6 +9,8 @@ import com.swd.uniportal.application.admission.exception.AdmissionTrainingProgra
 import com.swd.uniportal.application.admission.exception.AdmissionTrainingProgramNotInAdmissionPlanException;
 import com.swd.uniportal.application.admission.exception.DuplicateAdmissionMajorNameException;
 import com.swd.uniportal.application.admission.exception.MajorNotFoundException;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.CustomValidation;
 import com.swd.uniportal.application.common.FailedResponse;
@@ -17,6 +20,8 @@ import com.swd.uniportal.domain.admission.AdmissionPlan;
 import com.swd.uniportal.domain.admission.AdmissionTrainingProgram;
 import com.swd.uniportal.domain.major.Major;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionTrainingProgramRepository;
@@ -45,7 +50,7 @@ public final class AddAdmissionMajor {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class AddAdmissionMajorController extends BaseController {
+    public static class AddAdmissionMajorController extends BaseController {
 
         private final AddAdmissionMajorService service;
 
@@ -119,7 +124,7 @@ public final class AddAdmissionMajor {
     }
 
     @Service
-    public static final class AddAdmissionMajorService {
+    public static class AddAdmissionMajorService {
 
         private final AddAdmissionMajorDatasource datasource;
         private final Mapper<AdmissionMajor, AdmissionMajorDto> mapper;
@@ -171,32 +176,42 @@ public final class AddAdmissionMajor {
                     .admissionPlan(admissionPlan)
                     .admissionMajorMethods(new HashSet<>())
                     .build();
-            return mapper.toDto(datasource.save(admissionMajor));
+            admissionMajor = datasource.save(admissionMajor);
+            return mapper.toDto(datasource.getPopulated(admissionMajor.getId()));
         }
     }
 
     @Datasource
-    public static final class AddAdmissionMajorDatasource {
+    public static class AddAdmissionMajorDatasource {
 
         private final AdmissionPlanRepository admissionPlanRepository;
         private final MajorRepository majorRepository;
         private final AdmissionTrainingProgramRepository admissionTrainingProgramRepository;
         private final AdmissionMajorRepository admissionMajorRepository;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+        private final ResponseCache responseCache;
 
         @Autowired
         public AddAdmissionMajorDatasource(
                 AdmissionPlanRepository admissionPlanRepository,
                 MajorRepository majorRepository,
                 AdmissionTrainingProgramRepository admissionTrainingProgramRepository,
-                AdmissionMajorRepository admissionMajorRepository) {
+                AdmissionMajorRepository admissionMajorRepository,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats,
+                ResponseCache responseCache) {
             this.admissionPlanRepository = admissionPlanRepository;
             this.majorRepository = majorRepository;
             this.admissionTrainingProgramRepository = admissionTrainingProgramRepository;
             this.admissionMajorRepository = admissionMajorRepository;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+            this.responseCache = responseCache;
         }
 
         public Optional<AdmissionPlan> getAdmissionPlan(Long admissionId) {
-            return admissionPlanRepository.getByIdTrainingProgramsPopulated(admissionId);
+            return admissionPlanRepository.getAdmissionPlanMajorsTrainingProgramsPopulated(admissionId);
         }
 
         public Optional<Major> getMajor(Long majorId) {
@@ -212,7 +227,16 @@ public final class AddAdmissionMajor {
         }
 
         public AdmissionMajor save(AdmissionMajor admissionMajor) {
-            return admissionMajorRepository.save(admissionMajor);
+            AdmissionMajor saved = admissionMajorRepository.save(admissionMajor);
+            admissionPlanRepository.incrementVersion(saved.getAdmissionPlan().getId());
+            admissionCatalog.invalidate();
+            responseCache.purge(CachedEntity.ADMISSION_PLAN, saved.getAdmissionPlan().getId());
+            admissionQuotaStats.apply(Contributions.empty(), admissionQuotaStats.captureMajor(saved.getId()));
+            return saved;
+        }
+
+        public AdmissionMajor getPopulated(Long admissionMajorId) {
+            return admissionMajorRepository.getPopulatedByIdIn(List.of(admissionMajorId)).getFirst();
         }
     }
 }
@@ -1,16 +1,23 @@
 package com.swd.uniportal.application.admission.major;
 
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
 import com.swd.uniportal.application.admission.exception.AdmissionMajorNotFoundException;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,7 +32,7 @@ public final class DeleteAdmissionMajor {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class DeleteAdmissionMajorController extends BaseController {
+    public static class DeleteAdmissionMajorController extends BaseController {
 
         private final DeleteAdmissionMajorService service;
 
@@ -77,7 +84,7 @@ public final class DeleteAdmissionMajor {
     }
 
     @Service
-    public static final class DeleteAdmissionMajorService {
+    public static class DeleteAdmissionMajorService {
 
         private final DeleteAdmissionMajorDatasource datasource;
 
@@ -96,13 +103,26 @@ public final class DeleteAdmissionMajor {
     }
 
     @Datasource
-    public static final class DeleteAdmissionMajorDatasource {
+    public static class DeleteAdmissionMajorDatasource {
 
         private final AdmissionMajorRepository admissionMajorRepository;
+        private final AdmissionPlanRepository admissionPlanRepository;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+        private final ResponseCache responseCache;
 
         @Autowired
-        public DeleteAdmissionMajorDatasource(AdmissionMajorRepository admissionMajorRepository) {
+        public DeleteAdmissionMajorDatasource(
+                AdmissionMajorRepository admissionMajorRepository,
+                AdmissionPlanRepository admissionPlanRepository,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats,
+                ResponseCache responseCache) {
             this.admissionMajorRepository = admissionMajorRepository;
+            this.admissionPlanRepository = admissionPlanRepository;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+            this.responseCache = responseCache;
         }
 
         public boolean admissionMajorDoesNotExist(Long admissionMajorId) {
@@ -110,7 +130,13 @@ public final class DeleteAdmissionMajor {
         }
 
         public void deleteAdmissionTrainingProgram(Long admissionMajorId) {
+            Contributions before = admissionQuotaStats.captureMajor(admissionMajorId);
+            Optional<Long> admissionPlanId = admissionPlanRepository.getIdByAdmissionMajorId(admissionMajorId);
             admissionMajorRepository.deleteById(admissionMajorId);
+            admissionPlanId.ifPresent(admissionPlanRepository::incrementVersion);
+            admissionCatalog.invalidate();
+            admissionPlanId.ifPresent(id -> responseCache.purge(CachedEntity.ADMISSION_PLAN, id));
+            admissionQuotaStats.apply(before, Contributions.empty());
         }
     }
 }
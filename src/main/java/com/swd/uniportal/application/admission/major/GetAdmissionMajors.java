@@ -32,7 +32,7 @@ public final class GetAdmissionMajors {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class GetAdmissionMajorsController extends BaseController {
+    public static class GetAdmissionMajorsController extends BaseController {
 
         private final GetAdmissionMajorsService service;
 
@@ -86,7 +86,7 @@ public final class GetAdmissionMajors {
     }
 
     @Service
-    public static final class GetAdmissionMajorsService {
+    public static class GetAdmissionMajorsService {
 
         private final GetAdmissionMajorsDatasource datasource;
         private final Mapper<AdmissionMajor, AdmissionMajorDto> mapper;
@@ -119,7 +119,7 @@ public final class GetAdmissionMajors {
     }
 
     @Datasource
-    public static final class GetAdmissionMajorsDatasource {
+    public static class GetAdmissionMajorsDatasource {
 
         private final AdmissionMajorRepository admissionMajorRepository;
 
@@ -129,7 +129,11 @@ public final class GetAdmissionMajors {
         }
 
         public List<AdmissionMajor> getBySearch(Long admissionId, String search, Pageable pageable) {
-            return admissionMajorRepository.getAdmissionMajorsBySearch(admissionId, search, pageable);
+            List<Long> ids = admissionMajorRepository.getAdmissionMajorIdsBySearch(admissionId, search, pageable);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            return admissionMajorRepository.getPopulatedByIdIn(ids);
         }
 
         public Integer countAllBySearch(Long admissionId, String search) {
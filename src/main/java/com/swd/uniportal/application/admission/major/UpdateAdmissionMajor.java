@@ -1,5 +1,6 @@
 package com.swd.uniportal.application.admission.major;
 
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
 import com.swd.uniportal.application.admission.dto.AdmissionMajorDto;
 import com.swd.uniportal.application.admission.dto.AdmissionPlanDto;
 import com.swd.uniportal.application.admission.dto.ModifyAdmissionMajorDto;
@@ -10,6 +11,8 @@ import com.swd.uniportal.application.admission.exception.AdmissionTrainingProgra
 import com.swd.uniportal.application.admission.exception.AdmissionTrainingProgramNotInAdmissionPlanException;
 import com.swd.uniportal.application.admission.exception.DuplicateAdmissionMajorNameException;
 import com.swd.uniportal.application.admission.exception.MajorNotFoundException;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.CustomValidation;
 import com.swd.uniportal.application.common.FailedResponse;
@@ -19,6 +22,8 @@ import com.swd.uniportal.domain.admission.AdmissionPlan;
 import com.swd.uniportal.domain.admission.AdmissionTrainingProgram;
 import com.swd.uniportal.domain.major.Major;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionTrainingProgramRepository;
@@ -46,7 +51,7 @@ public final class UpdateAdmissionMajor {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class UpdateAdmissionMajorController extends BaseController {
+    public static class UpdateAdmissionMajorController extends BaseController {
 
         private final UpdateAdmissionMajorService service;
 
@@ -126,7 +131,7 @@ public final class UpdateAdmissionMajor {
     }
 
     @Service
-    public static final class UpdateAdmissionMajorService {
+    public static class UpdateAdmissionMajorService {
 
         private final UpdateAdmissionMajorDatasource datasource;
         private final Mapper<AdmissionMajor, AdmissionMajorDto> mapper;
@@ -184,28 +189,37 @@ public final class UpdateAdmissionMajor {
             admissionMajor.setMajor(major);
             admissionMajor.setAdmissionTrainingProgram(admissionTrainingProgram);
             admissionMajor = datasource.save(admissionMajor);
-            return mapper.toDto(datasource.save(admissionMajor));
+            return mapper.toDto(datasource.getPopulated(admissionMajor.getId()));
         }
     }
 
     @Datasource
-    public static final class UpdateAdmissionMajorDatasource {
+    public static class UpdateAdmissionMajorDatasource {
 
         private final AdmissionPlanRepository admissionPlanRepository;
         private final MajorRepository majorRepository;
         private final AdmissionTrainingProgramRepository admissionTrainingProgramRepository;
         private final AdmissionMajorRepository admissionMajorRepository;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+        private final ResponseCache responseCache;
 
         @Autowired
         public UpdateAdmissionMajorDatasource(
                 AdmissionPlanRepository admissionPlanRepository,
                 MajorRepository majorRepository,
                 AdmissionTrainingProgramRepository admissionTrainingProgramRepository,
-                AdmissionMajorRepository admissionMajorRepository) {
+                AdmissionMajorRepository admissionMajorRepository,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats,
+                ResponseCache responseCache) {
             this.admissionPlanRepository = admissionPlanRepository;
             this.majorRepository = majorRepository;
             this.admissionTrainingProgramRepository = admissionTrainingProgramRepository;
             this.admissionMajorRepository = admissionMajorRepository;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+            this.responseCache = responseCache;
         }
 
         public Optional<Major> getMajor(Long majorId) {
@@ -221,7 +235,13 @@ public final class UpdateAdmissionMajor {
         }
 
         public AdmissionMajor save(AdmissionMajor admissionMajor) {
-            return admissionMajorRepository.save(admissionMajor);
+            Contributions before = admissionQuotaStats.captureMajor(admissionMajor.getId());
+            AdmissionMajor saved = admissionMajorRepository.save(admissionMajor);
+            admissionPlanRepository.incrementVersion(saved.getAdmissionPlan().getId());
+            admissionCatalog.invalidate();
+            responseCache.purge(CachedEntity.ADMISSION_PLAN, saved.getAdmissionPlan().getId());
+            admissionQuotaStats.apply(before, admissionQuotaStats.captureMajor(saved.getId()));
+            return saved;
         }
 
         public Optional<AdmissionPlan> getAdmissionPlan(Long admissionId) {
@@ -231,5 +251,9 @@ public final class UpdateAdmissionMajor {
         public Optional<AdmissionMajor> getAdmissionMajor(Long admissionMajorId) {
             return admissionMajorRepository.findById(admissionMajorId);
         }
+
+        public AdmissionMajor getPopulated(Long admissionMajorId) {
+            return admissionMajorRepository.getPopulatedByIdIn(List.of(admissionMajorId)).getFirst();
+        }
     }
 }
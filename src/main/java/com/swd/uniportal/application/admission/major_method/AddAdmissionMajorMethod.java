@@ -1,10 +1,13 @@
 package com.swd.uniportal.application.admission.major_method;
 
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
 import com.swd.uniportal.application.admission.dto.AdmissionMajorMethodDto;
 import com.swd.uniportal.application.admission.dto.ModifyAdmissionMajorMethodDto;
 import com.swd.uniportal.application.admission.exception.AdmissionMajorNotFoundException;
 import com.swd.uniportal.application.admission.exception.AdmissionMethodNotFound;
 import com.swd.uniportal.application.admission.exception.DuplicatedAdmissionMajorMethodNameException;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.CustomValidation;
 import com.swd.uniportal.application.common.FailedResponse;
@@ -16,9 +19,12 @@ import com.swd.uniportal.domain.admission.AdmissionMethod;
 import com.swd.uniportal.domain.common.BaseEntity;
 import com.swd.uniportal.domain.subject.SubjectGroup;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorMethodRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionMethodRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.SubjectGroupRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -48,7 +54,7 @@ public final class AddAdmissionMajorMethod {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class AddAdmissionMajorMethodController extends BaseController {
+    public static class AddAdmissionMajorMethodController extends BaseController {
 
         private final AddAdmissionMajorMethodService service;
 
@@ -127,7 +133,7 @@ public final class AddAdmissionMajorMethod {
     }
 
     @Service
-    public static final class AddAdmissionMajorMethodService {
+    public static class AddAdmissionMajorMethodService {
 
         private final AddAdmissionMajorMethodDatasource datasource;
         private final Mapper<AdmissionMajorMethod, AdmissionMajorMethodDto> mapper;
@@ -176,23 +182,35 @@ public final class AddAdmissionMajorMethod {
     }
 
     @Datasource
-    public static final class AddAdmissionMajorMethodDatasource {
+    public static class AddAdmissionMajorMethodDatasource {
 
         private final AdmissionMajorMethodRepository admissionMajorMethodRepository;
         private final AdmissionMajorRepository admissionMajorRepository;
+        private final AdmissionPlanRepository admissionPlanRepository;
         private final AdmissionMethodRepository admissionMethodRepository;
         private final SubjectGroupRepository subjectGroupRepository;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+        private final ResponseCache responseCache;
 
         @Autowired
         public AddAdmissionMajorMethodDatasource(
                 AdmissionMajorMethodRepository admissionMajorMethodRepository,
                 AdmissionMajorRepository admissionMajorRepository,
+                AdmissionPlanRepository admissionPlanRepository,
                 AdmissionMethodRepository admissionMethodRepository,
-                SubjectGroupRepository subjectGroupRepository) {
+                SubjectGroupRepository subjectGroupRepository,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats,
+                ResponseCache responseCache) {
             this.admissionMajorMethodRepository = admissionMajorMethodRepository;
             this.admissionMajorRepository = admissionMajorRepository;
+            this.admissionPlanRepository = admissionPlanRepository;
             this.admissionMethodRepository = admissionMethodRepository;
             this.subjectGroupRepository = subjectGroupRepository;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+            this.responseCache = responseCache;
         }
 
         public Optional<AdmissionMajor> getAdmissionMajor(Long admissionMajorId) {
@@ -200,7 +218,18 @@ public final class AddAdmissionMajorMethod {
         }
 
         public AdmissionMajorMethod save(AdmissionMajorMethod admissionMajorMethod) {
-            return admissionMajorMethodRepository.save(admissionMajorMethod);
+            Long admissionMajorId = admissionMajorMethod.getAdmissionMajor().getId();
+            Contributions before = admissionQuotaStats.captureMajor(admissionMajorId);
+            AdmissionMajorMethod saved = admissionMajorMethodRepository.save(admissionMajorMethod);
+            admissionPlanRepository.incrementVersion(admissionMajorMethod.getAdmissionMajor()
+                    .getAdmissionPlan()
+                    .getId());
+            admissionCatalog.invalidate();
+            responseCache.purge(CachedEntity.ADMISSION_PLAN, admissionMajorMethod.getAdmissionMajor()
+                    .getAdmissionPlan()
+                    .getId());
+            admissionQuotaStats.apply(before, admissionQuotaStats.captureMajor(admissionMajorId));
+            return saved;
         }
 
         public Optional<AdmissionMethod> getAdmissionMethod(Long admissionMethodId) {
@@ -1,16 +1,23 @@
 package com.swd.uniportal.application.admission.major_method;
 
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
 import com.swd.uniportal.application.admission.exception.AdmissionMajorMethodNotFound;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorMethodRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,7 +32,7 @@ public final class DeleteAdmissionMajorMethod {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class DeleteAdmissionMajorMethodController extends BaseController {
+    public static class DeleteAdmissionMajorMethodController extends BaseController {
 
         private final DeleteAdmissionMajorMethodService service;
 
@@ -77,7 +84,7 @@ public final class DeleteAdmissionMajorMethod {
     }
 
     @Service
-    public static final class DeleteAdmissionMajorMethodService {
+    public static class DeleteAdmissionMajorMethodService {
 
         private final DeleteAdmissionMajorMethodDatasource datasource;
 
@@ -97,17 +104,41 @@ public final class DeleteAdmissionMajorMethod {
     }
 
     @Datasource
-    public static final class DeleteAdmissionMajorMethodDatasource {
+    public static class DeleteAdmissionMajorMethodDatasource {
 
         private final AdmissionMajorMethodRepository admissionMajorMethodRepository;
+        private final AdmissionPlanRepository admissionPlanRepository;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+        private final ResponseCache responseCache;
 
         @Autowired
-        public DeleteAdmissionMajorMethodDatasource(AdmissionMajorMethodRepository admissionMajorMethodRepository) {
+        public DeleteAdmissionMajorMethodDatasource(
+                AdmissionMajorMethodRepository admissionMajorMethodRepository,
+                AdmissionPlanRepository admissionPlanRepository,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats,
+                ResponseCache responseCache) {
             this.admissionMajorMethodRepository = admissionMajorMethodRepository;
+            this.admissionPlanRepository = admissionPlanRepository;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+            this.responseCache = responseCache;
         }
 
         public void delete(Long admissionMajorMethodId) {
+            Optional<Long> admissionMajorId = admissionMajorMethodRepository.findById(admissionMajorMethodId)
+                    .map(admissionMajorMethod -> admissionMajorMethod.getAdmissionMajor().getId());
+            Contributions before = admissionMajorId
+                    .map(admissionQuotaStats::captureMajor)
+                    .orElseGet(Contributions::empty);
+            Optional<Long> admissionPlanId = admissionPlanRepository
+                    .getIdByAdmissionMajorMethodId(admissionMajorMethodId);
             admissionMajorMethodRepository.deleteById(admissionMajorMethodId);
+            admissionPlanId.ifPresent(admissionPlanRepository::incrementVersion);
+            admissionCatalog.invalidate();
+            admissionPlanId.ifPresent(id -> responseCache.purge(CachedEntity.ADMISSION_PLAN, id));
+            admissionMajorId.ifPresent(id -> admissionQuotaStats.apply(before, admissionQuotaStats.captureMajor(id)));
         }
 
         public boolean admissionMajorMethodDoesNotExist(Long admissionMajorMethodId) {
@@ -33,7 +33,7 @@ public final class GetAdmissionMajorMethods {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class GetAdmissionMajorMethodsController extends BaseController {
+    public static class GetAdmissionMajorMethodsController extends BaseController {
 
         private final GetAdmissionMajorMethodsService service;
 
@@ -89,7 +89,7 @@ public final class GetAdmissionMajorMethods {
     }
 
     @Service
-    public static final class GetAdmissionMajorMethodsService {
+    public static class GetAdmissionMajorMethodsService {
 
         private final GetAdmissionMajorMethodsDatasource datasource;
         private final Mapper<AdmissionMajorMethod, AdmissionMajorMethodDto> mapper;
@@ -122,7 +122,7 @@ public final class GetAdmissionMajorMethods {
     }
 
     @Datasource
-    public static final class GetAdmissionMajorMethodsDatasource {
+    public static class GetAdmissionMajorMethodsDatasource {
 
         private final AdmissionMajorMethodRepository admissionMajorMethodRepository;
 
@@ -132,7 +132,11 @@ public final class GetAdmissionMajorMethods {
         }
 
         public List<AdmissionMajorMethod> getBySearch(Long majorId, String search, Pageable pageable) {
-            return admissionMajorMethodRepository.getBySearch(majorId, search, pageable);
+            List<Long> ids = admissionMajorMethodRepository.getIdsBySearch(majorId, search, pageable);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            return admissionMajorMethodRepository.getPopulatedByIdIn(ids);
         }
 
         public Integer countAllBySearch(Long majorId, String search) {
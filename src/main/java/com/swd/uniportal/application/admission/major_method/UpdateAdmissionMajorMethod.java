@@ -1,5 +1,6 @@
 package com.swd.uniportal.application.admission.major_method;
 
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
 import com.swd.uniportal.application.admission.dto.AdmissionMajorMethodDto;
 import com.swd.uniportal.application.admission.dto.ModifyAdmissionMajorMethodDto;
 import com.swd.uniportal.application.admission.exception.AdmissionMajorMethodNotFound;
@@ -7,6 +8,8 @@ import com.swd.uniportal.application.admission.exception.AdmissionMajorMethodNot
 import com.swd.uniportal.application.admission.exception.AdmissionMajorNotFoundException;
 import com.swd.uniportal.application.admission.exception.AdmissionMethodNotFound;
 import com.swd.uniportal.application.admission.exception.DuplicatedAdmissionMajorMethodNameException;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats;
+import com.swd.uniportal.application.admission.stats.AdmissionQuotaStats.Contributions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.CustomValidation;
 import com.swd.uniportal.application.common.FailedResponse;
@@ -18,9 +21,12 @@ import com.swd.uniportal.domain.admission.AdmissionMethod;
 import com.swd.uniportal.domain.common.BaseEntity;
 import com.swd.uniportal.domain.subject.SubjectGroup;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorMethodRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionMethodRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.SubjectGroupRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -50,7 +56,7 @@ public final class UpdateAdmissionMajorMethod {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class UpdateAdmissionMajorMethodController extends BaseController {
+    public static class UpdateAdmissionMajorMethodController extends BaseController {
 
         private final UpdateAdmissionMajorMethodService service;
 
@@ -134,7 +140,7 @@ public final class UpdateAdmissionMajorMethod {
     }
 
     @Service
-    public static final class UpdateAdmissionMajorMethodService {
+    public static class UpdateAdmissionMajorMethodService {
 
         private final UpdateAdmissionMajorMethodDatasource datasource;
         private final Mapper<AdmissionMajorMethod, AdmissionMajorMethodDto> mapper;
@@ -187,29 +193,41 @@ public final class UpdateAdmissionMajorMethod {
             admissionMajorMethod.setName(request.getName());
             admissionMajorMethod.setAdmissionMethod(admissionMethod);
             admissionMajorMethod.setSubjectGroups(subjectGroups);
-            admissionMajorMethod = datasource.save(admissionMajorMethod);
+            datasource.save(admissionMajorMethod);
             return mapper.toDto(admissionMajorMethod);
         }
     }
 
     @Datasource
-    public static final class UpdateAdmissionMajorMethodDatasource {
+    public static class UpdateAdmissionMajorMethodDatasource {
 
         private final AdmissionMajorMethodRepository admissionMajorMethodRepository;
         private final AdmissionMajorRepository admissionMajorRepository;
+        private final AdmissionPlanRepository admissionPlanRepository;
         private final AdmissionMethodRepository admissionMethodRepository;
         private final SubjectGroupRepository subjectGroupRepository;
+        private final AdmissionCatalog admissionCatalog;
+        private final AdmissionQuotaStats admissionQuotaStats;
+        private final ResponseCache responseCache;
 
         @Autowired
         public UpdateAdmissionMajorMethodDatasource(
                 AdmissionMajorMethodRepository admissionMajorMethodRepository,
                 AdmissionMajorRepository admissionMajorRepository,
+                AdmissionPlanRepository admissionPlanRepository,
                 AdmissionMethodRepository admissionMethodRepository,
-                SubjectGroupRepository subjectGroupRepository) {
+                SubjectGroupRepository subjectGroupRepository,
+                AdmissionCatalog admissionCatalog,
+                AdmissionQuotaStats admissionQuotaStats,
+                ResponseCache responseCache) {
             this.admissionMajorMethodRepository = admissionMajorMethodRepository;
             this.admissionMajorRepository = admissionMajorRepository;
+            this.admissionPlanRepository = admissionPlanRepository;
             this.admissionMethodRepository = admissionMethodRepository;
             this.subjectGroupRepository = subjectGroupRepository;
+            this.admissionCatalog = admissionCatalog;
+            this.admissionQuotaStats = admissionQuotaStats;
+            this.responseCache = responseCache;
         }
 
         public Optional<AdmissionMajor> getAdmissionMajor(Long admissionMajorId) {
@@ -217,7 +235,18 @@ public final class UpdateAdmissionMajorMethod {
         }
 
         public AdmissionMajorMethod save(AdmissionMajorMethod admissionMajorMethod) {
-            return admissionMajorMethodRepository.save(admissionMajorMethod);
+            Long admissionMajorId = admissionMajorMethod.getAdmissionMajor().getId();
+            Contributions before = admissionQuotaStats.captureMajor(admissionMajorId);
+            AdmissionMajorMethod saved = admissionMajorMethodRepository.save(admissionMajorMethod);
+            admissionPlanRepository.incrementVersion(admissionMajorMethod.getAdmissionMajor()
+                    .getAdmissionPlan()
+                    .getId());
+            admissionCatalog.invalidate();
+            responseCache.purge(CachedEntity.ADMISSION_PLAN, admissionMajorMethod.getAdmissionMajor()
+                    .getAdmissionPlan()
+                    .getId());
+            admissionQuotaStats.apply(before, admissionQuotaStats.captureMajor(admissionMajorId));
+            return saved;
         }
 
         public Optional<AdmissionMethod> getAdmissionMethod(Long admissionMethodId) {
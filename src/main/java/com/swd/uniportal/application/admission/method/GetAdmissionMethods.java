@@ -6,7 +6,13 @@ import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.application.common.Mapper;
 import com.swd.uniportal.domain.admission.AdmissionMethod;
+import com.swd.uniportal.domain.admission.QAdmissionMethod;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
 import com.swd.uniportal.infrastructure.repository.AdmissionMethodRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,24 +26,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class GetAdmissionMethods {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class GetAdmissionMethodsController extends BaseController {
+    public static class GetAdmissionMethodsController extends BaseController {
 
         private final GetAdmissionMethodsService service;
+        private final ResponseCache responseCache;
 
         @Autowired
-        private GetAdmissionMethodsController(GetAdmissionMethodsService service) {
+        private GetAdmissionMethodsController(GetAdmissionMethodsService service, ResponseCache responseCache) {
             this.service = service;
+            this.responseCache = responseCache;
         }
 
         @GetMapping("/admission-plans/methods")
@@ -69,15 +79,21 @@ public final class GetAdmissionMethods {
         public ResponseEntity<Object> get(
                 @RequestParam(name = "search", defaultValue = "") String search,
                 @RequestParam(name = "page", defaultValue = "1") Integer page,
-                @RequestParam(name = "all", defaultValue = "false") boolean all) {
+                @RequestParam(name = "all", defaultValue = "false") boolean all,
+                WebRequest webRequest) {
             if (page < 1) {
                 return ResponseEntity.badRequest()
                         .body(new FailedResponse(List
                                 .of("Id must be positive.")));
             }
             try {
+                String entityTag = service.getEntityTag();
+                if (webRequest.checkNotModified(entityTag)) {
+                    return null;
+                }
                 AdmissionMethodsDto admissionMethods = service.get(search, page, all);
-                return ResponseEntity.ok(admissionMethods);
+                responseCache.tagAll(CachedEntity.ADMISSION_METHOD);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(admissionMethods);
             } catch (Exception e) {
                 return ResponseEntity.internalServerError()
                         .body(new FailedResponse(List.of("Server error.")));
@@ -86,10 +102,11 @@ public final class GetAdmissionMethods {
     }
 
     @Service
-    public static final class GetAdmissionMethodsService {
+    public static class GetAdmissionMethodsService {
 
         private final GetAdmissionMethodsDatasource datasource;
         private final Mapper<AdmissionMethod, AdmissionMethodDto> mapper;
+        private final ReferenceDataCache cache;
 
         @Value("${uniportal.pagination.size}")
         private Integer pageSize;
@@ -97,12 +114,23 @@ public final class GetAdmissionMethods {
         @Autowired
         public GetAdmissionMethodsService(
                 GetAdmissionMethodsDatasource datasource,
-                Mapper<AdmissionMethod, AdmissionMethodDto> mapper) {
+                Mapper<AdmissionMethod, AdmissionMethodDto> mapper,
+                ReferenceDataCache cache) {
             this.datasource = datasource;
             this.mapper = mapper;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.ADMISSION_METHOD, datasource::getEntityTag);
         }
 
         public AdmissionMethodsDto get(String search, Integer page, boolean all) {
+            return cache.get(ReferenceData.ADMISSION_METHOD, List.of(search, page, all),
+                    () -> load(search, page, all));
+        }
+
+        private AdmissionMethodsDto load(String search, Integer page, boolean all) {
             List<AdmissionMethod> admissionTrainingPrograms;
             if (all) {
                 admissionTrainingPrograms = datasource.getBySearch(search);
@@ -124,13 +152,21 @@ public final class GetAdmissionMethods {
     }
 
     @Datasource
-    public static final class GetAdmissionMethodsDatasource {
+    public static class GetAdmissionMethodsDatasource {
 
         private final AdmissionMethodRepository admissionMethodRepository;
+        private final EntityTags entityTags;
 
         @Autowired
-        public GetAdmissionMethodsDatasource(AdmissionMethodRepository admissionMethodRepository) {
+        public GetAdmissionMethodsDatasource(
+                AdmissionMethodRepository admissionMethodRepository,
+                EntityTags entityTags) {
             this.admissionMethodRepository = admissionMethodRepository;
+            this.entityTags = entityTags;
+        }
+
+        public String getEntityTag() {
+            return entityTags.ofTables(QAdmissionMethod.admissionMethod);
         }
 
         public Integer countAllBySearch(String search) {
@@ -0,0 +1,181 @@
+package com.swd.uniportal.application.admission.stats;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swd.uniportal.domain.address.QAddress;
+import com.swd.uniportal.domain.admission.QAdmissionMajor;
+import com.swd.uniportal.domain.admission.QAdmissionMajorMethod;
+import com.swd.uniportal.domain.admission.QAdmissionPlan;
+import com.swd.uniportal.domain.admission.QuotaDimension;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.repository.AdmissionQuotaStatRepository;
+import jakarta.persistence.EntityManager;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains {@code admission_quota_stat}, the quota of admission majors summed per year and per
+ * institution, major, admission method and city/province. Writers capture what the admission
+ * majors they touch contribute before and after the change, and only the difference is added to
+ * the summary rows. {@link #rebuild()} recomputes every dimension from scratch.
+ */
+@Datasource
+public class AdmissionQuotaStats {
+
+    private static final QAdmissionMajor MAJOR = QAdmissionMajor.admissionMajor;
+    private static final QAdmissionPlan PLAN = QAdmissionPlan.admissionPlan;
+    private static final QAdmissionMajorMethod METHOD = QAdmissionMajorMethod.admissionMajorMethod;
+    private static final QAddress ADDRESS = QAddress.address;
+
+    private final EntityManager entityManager;
+    private final AdmissionQuotaStatRepository statRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public record StatKey(Integer year, QuotaDimension dimension, Long dimensionId) {
+    }
+
+    public record Amount(long quota, long admissionMajors) {
+
+        private Amount plus(Amount other) {
+            return new Amount(quota + other.quota, admissionMajors + other.admissionMajors);
+        }
+
+        private Amount minus(Amount other) {
+            return new Amount(quota - other.quota, admissionMajors - other.admissionMajors);
+        }
+    }
+
+    /**
+     * What a set of admission majors adds to each summary row.
+     */
+    public record Contributions(Map<StatKey, Amount> amounts) {
+
+        public static Contributions empty() {
+            return new Contributions(Map.of());
+        }
+    }
+
+    @Autowired
+    public AdmissionQuotaStats(EntityManager entityManager, AdmissionQuotaStatRepository statRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.statRepository = statRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Contributions captureMajor(Long admissionMajorId) {
+        return capture(MAJOR.id.eq(admissionMajorId));
+    }
+
+    public Contributions capturePlan(Long admissionPlanId) {
+        return capture(PLAN.id.eq(admissionPlanId));
+    }
+
+    public void apply(Contributions before, Contributions after) {
+        Map<StatKey, Amount> deltas = new HashMap<>(after.amounts());
+        before.amounts().forEach((key, amount) -> deltas.merge(key, new Amount(0, 0).minus(amount), Amount::plus));
+        deltas.values().removeIf(delta -> delta.quota() == 0 && delta.admissionMajors() == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> deltas.forEach((key, delta) -> {
+            statRepository.addDelta(key.year(), key.dimension().name(), key.dimensionId(), delta.quota(),
+                    delta.admissionMajors());
+            if (delta.admissionMajors() < 0) {
+                statRepository.deleteIfEmpty(key.year(), key.dimension().name(), key.dimensionId());
+            }
+        }));
+    }
+
+    /**
+     * Recomputes the summary from the admission tables, one dimension per thread, each replacing
+     * its rows in its own transaction.
+     */
+    public void rebuild() {
+        Map<QuotaDimension, Runnable> rebuilds = new EnumMap<>(QuotaDimension.class);
+        rebuilds.put(QuotaDimension.INSTITUTION, statRepository::rebuildInstitutions);
+        rebuilds.put(QuotaDimension.MAJOR, statRepository::rebuildMajors);
+        rebuilds.put(QuotaDimension.METHOD, statRepository::rebuildMethods);
+        rebuilds.put(QuotaDimension.CITY_PROVINCE, statRepository::rebuildCityProvinces);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Void>> futures = rebuilds.entrySet().stream()
+                    .map(entry -> CompletableFuture.runAsync(() -> transactionTemplate
+                            .executeWithoutResult(status -> {
+                                statRepository.deleteByDimension(entry.getKey().name());
+                                entry.getValue().run();
+                            }), executor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Contributions capture(Predicate majors) {
+        JPAQueryFactory factory = new JPAQueryFactory(entityManager);
+        List<Tuple> rows = factory.select(MAJOR.id, MAJOR.quota, MAJOR.major.id, PLAN.year, PLAN.institution.id)
+                .from(MAJOR)
+                .join(MAJOR.admissionPlan, PLAN)
+                .where(majors)
+                .fetch();
+        if (rows.isEmpty()) {
+            return Contributions.empty();
+        }
+        Set<Long> majorIds = new HashSet<>();
+        Set<Long> institutionIds = new HashSet<>();
+        rows.forEach(row -> {
+            majorIds.add(row.get(MAJOR.id));
+            institutionIds.add(row.get(PLAN.institution.id));
+        });
+        Map<Long, Set<Long>> methods = new HashMap<>();
+        factory.selectDistinct(METHOD.admissionMajor.id, METHOD.admissionMethod.id)
+                .from(METHOD)
+                .where(METHOD.admissionMajor.id.in(majorIds), METHOD.admissionMethod.isNotNull())
+                .fetch()
+                .forEach(row -> methods.computeIfAbsent(row.get(METHOD.admissionMajor.id), id -> new HashSet<>())
+                        .add(row.get(METHOD.admissionMethod.id)));
+        Map<Long, Set<Long>> cityProvinces = new HashMap<>();
+        factory.selectDistinct(ADDRESS.institution.id, ADDRESS.cityProvince.id)
+                .from(ADDRESS)
+                .where(ADDRESS.institution.id.in(institutionIds))
+                .fetch()
+                .forEach(row -> cityProvinces.computeIfAbsent(row.get(ADDRESS.institution.id), id -> new HashSet<>())
+                        .add(row.get(ADDRESS.cityProvince.id)));
+
+        Map<StatKey, Amount> amounts = new HashMap<>();
+        for (Tuple row : rows) {
+            Integer year = row.get(PLAN.year);
+            Long institutionId = row.get(PLAN.institution.id);
+            Amount amount = new Amount(Objects.requireNonNullElse(row.get(MAJOR.quota), 0), 1);
+            amounts.merge(new StatKey(year, QuotaDimension.INSTITUTION, institutionId), amount, Amount::plus);
+            if (Objects.nonNull(row.get(MAJOR.major.id))) {
+                amounts.merge(new StatKey(year, QuotaDimension.MAJOR, row.get(MAJOR.major.id)), amount,
+                        Amount::plus);
+            }
+            for (Long methodId : methods.getOrDefault(row.get(MAJOR.id), Set.of())) {
+                amounts.merge(new StatKey(year, QuotaDimension.METHOD, methodId), amount, Amount::plus);
+            }
+            for (Long cityProvinceId : cityProvinces.getOrDefault(institutionId, Set.of())) {
+                amounts.merge(new StatKey(year, QuotaDimension.CITY_PROVINCE, cityProvinceId), amount,
+                        Amount::plus);
+            }
+        }
+        return new Contributions(amounts);
+    }
+}
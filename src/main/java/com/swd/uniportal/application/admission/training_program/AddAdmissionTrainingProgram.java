@@ -14,6 +14,8 @@ import com.swd.uniportal.domain.admission.AdmissionPlan;
 import com.swd.uniportal.domain.admission.AdmissionTrainingProgram;
 import com.swd.uniportal.domain.admission.TrainingProgram;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionTrainingProgramRepository;
 import com.swd.uniportal.infrastructure.repository.TrainingProgramRepository;
@@ -40,7 +42,7 @@ public final class AddAdmissionTrainingProgram {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class AddAdmissionTrainingProgramController extends BaseController {
+    public static class AddAdmissionTrainingProgramController extends BaseController {
 
         private final AddAdmissionTrainingProgramService service;
 
@@ -111,7 +113,7 @@ public final class AddAdmissionTrainingProgram {
     }
 
     @Service
-    public static final class AddAdmissionTrainingProgramService {
+    public static class AddAdmissionTrainingProgramService {
 
         private final AddAdmissionTrainingProgramDatasource datasource;
         private final Mapper<AdmissionTrainingProgram, AdmissionTrainingProgramDto> mapper;
@@ -151,20 +153,23 @@ public final class AddAdmissionTrainingProgram {
     }
 
     @Datasource
-    public static final class AddAdmissionTrainingProgramDatasource {
+    public static class AddAdmissionTrainingProgramDatasource {
 
         private final AdmissionPlanRepository admissionPlanRepository;
         private final TrainingProgramRepository trainingProgramRepository;
         private final AdmissionTrainingProgramRepository admissionTrainingProgramRepository;
+        private final ResponseCache responseCache;
 
         @Autowired
         public AddAdmissionTrainingProgramDatasource(
                 AdmissionPlanRepository admissionPlanRepository,
                 TrainingProgramRepository trainingProgramRepository,
-                AdmissionTrainingProgramRepository admissionTrainingProgramRepository) {
+                AdmissionTrainingProgramRepository admissionTrainingProgramRepository,
+                ResponseCache responseCache) {
             this.admissionPlanRepository = admissionPlanRepository;
             this.trainingProgramRepository = trainingProgramRepository;
             this.admissionTrainingProgramRepository = admissionTrainingProgramRepository;
+            this.responseCache = responseCache;
         }
 
         public Optional<AdmissionPlan> getAdmissionPlanById(Long admissionId) {
@@ -176,7 +181,10 @@ public final class AddAdmissionTrainingProgram {
         }
 
         public AdmissionTrainingProgram update(AdmissionTrainingProgram admissionTrainingProgram) {
-            return admissionTrainingProgramRepository.save(admissionTrainingProgram);
+            AdmissionTrainingProgram saved = admissionTrainingProgramRepository.save(admissionTrainingProgram);
+            admissionPlanRepository.incrementVersion(saved.getAdmissionPlan().getId());
+            responseCache.purge(CachedEntity.ADMISSION_PLAN, saved.getAdmissionPlan().getId());
+            return saved;
         }
     }
 }
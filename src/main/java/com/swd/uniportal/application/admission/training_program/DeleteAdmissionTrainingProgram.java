@@ -5,7 +5,10 @@ import com.swd.uniportal.application.admission.exception.AdmissionTrainingProgra
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionMajorRepository;
+import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionTrainingProgramRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,6 +16,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,7 +31,7 @@ public final class DeleteAdmissionTrainingProgram {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class DeleteAdmissionTrainingProgramController extends BaseController {
+    public static class DeleteAdmissionTrainingProgramController extends BaseController {
 
         private final DeleteAdmissionTrainingProgramService service;
 
@@ -80,7 +84,7 @@ public final class DeleteAdmissionTrainingProgram {
     }
 
     @Service
-    public static final class DeleteAdmissionTrainingProgramService {
+    public static class DeleteAdmissionTrainingProgramService {
 
         private final DeleteAdmissionTrainingProgramDatasource datasource;
 
@@ -105,18 +109,24 @@ public final class DeleteAdmissionTrainingProgram {
     }
 
     @Datasource
-    public static final class DeleteAdmissionTrainingProgramDatasource {
+    public static class DeleteAdmissionTrainingProgramDatasource {
 
         private final AdmissionTrainingProgramRepository admissionTrainingProgramRepository;
         private final AdmissionMajorRepository admissionMajorRepository;
+        private final AdmissionPlanRepository admissionPlanRepository;
+        private final ResponseCache responseCache;
 
         @Autowired
         public DeleteAdmissionTrainingProgramDatasource(
                 AdmissionTrainingProgramRepository admissionTrainingProgramRepository,
-                AdmissionMajorRepository admissionMajorRepository
+                AdmissionMajorRepository admissionMajorRepository,
+                AdmissionPlanRepository admissionPlanRepository,
+                ResponseCache responseCache
         ) {
             this.admissionTrainingProgramRepository = admissionTrainingProgramRepository;
             this.admissionMajorRepository = admissionMajorRepository;
+            this.admissionPlanRepository = admissionPlanRepository;
+            this.responseCache = responseCache;
         }
 
         public boolean admissionTrainingProgramDoesNotExist(Long trainingProgramId) {
@@ -124,7 +134,11 @@ public final class DeleteAdmissionTrainingProgram {
         }
 
         public void deleteAdmissionTrainingProgram(Long trainingProgramId) {
+            Optional<Long> admissionPlanId = admissionPlanRepository
+                    .getIdByAdmissionTrainingProgramId(trainingProgramId);
             admissionTrainingProgramRepository.deleteById(trainingProgramId);
+            admissionPlanId.ifPresent(admissionPlanRepository::incrementVersion);
+            admissionPlanId.ifPresent(id -> responseCache.purge(CachedEntity.ADMISSION_PLAN, id));
         }
 
         public boolean admissionTrainingProgramIsBeingUsed(Long trainingProgramId) {
@@ -32,7 +32,7 @@ public final class GetAdmissionTrainingPrograms {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class GetAdmissionTrainingProgramsController extends BaseController {
+    public static class GetAdmissionTrainingProgramsController extends BaseController {
 
         private final GetAdmissionTrainingProgramsService service;
 
@@ -86,7 +86,7 @@ public final class GetAdmissionTrainingPrograms {
     }
 
     @Service
-    public static final class GetAdmissionTrainingProgramsService {
+    public static class GetAdmissionTrainingProgramsService {
 
         private final GetAdmissionTrainingProgramsDatasource datasource;
         private final Mapper<AdmissionTrainingProgram, AdmissionTrainingProgramDto> mapper;
@@ -119,7 +119,7 @@ public final class GetAdmissionTrainingPrograms {
     }
 
     @Datasource
-    public static final class GetAdmissionTrainingProgramsDatasource {
+    public static class GetAdmissionTrainingProgramsDatasource {
 
         private final AdmissionTrainingProgramRepository admissionTrainingProgramRepository;
 
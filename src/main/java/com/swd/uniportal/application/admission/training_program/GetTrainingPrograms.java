@@ -4,8 +4,14 @@ import com.swd.uniportal.application.admission.dto.TrainingProgramDto;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.application.common.Mapper;
+import com.swd.uniportal.domain.admission.QTrainingProgram;
 import com.swd.uniportal.domain.admission.TrainingProgram;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
 import com.swd.uniportal.infrastructure.repository.TrainingProgramRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,11 +28,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class GetTrainingPrograms {
@@ -44,13 +52,15 @@ public final class GetTrainingPrograms {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class GetTrainingProgramsController extends BaseController {
+    public static class GetTrainingProgramsController extends BaseController {
 
         private final GetTrainingProgramsService service;
+        private final ResponseCache responseCache;
 
         @Autowired
-        public GetTrainingProgramsController(GetTrainingProgramsService service) {
+        public GetTrainingProgramsController(GetTrainingProgramsService service, ResponseCache responseCache) {
             this.service = service;
+            this.responseCache = responseCache;
         }
 
         @GetMapping("/admission-plans/training-programs")
@@ -81,14 +91,20 @@ public final class GetTrainingPrograms {
         )
         public ResponseEntity<Object> get(
                 @RequestParam(name = "search", defaultValue = "") String search,
-                @RequestParam(name = "page", defaultValue = "1") Integer page) {
+                @RequestParam(name = "page", defaultValue = "1") Integer page,
+                WebRequest webRequest) {
             Integer pageToUse = page;
             if (Objects.isNull(pageToUse) || pageToUse < 1) {
                 pageToUse = 1;
             }
             try {
+                String entityTag = service.getEntityTag();
+                if (webRequest.checkNotModified(entityTag)) {
+                    return null;
+                }
                 TrainingProgramsDto trainingPrograms = service.get(search, pageToUse);
-                return ResponseEntity.ok(trainingPrograms);
+                responseCache.tagAll(CachedEntity.TRAINING_PROGRAM);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(trainingPrograms);
             } catch (Exception e) {
                 return ResponseEntity.internalServerError()
                         .body(new FailedResponse(List.of("Server error.")));
@@ -97,22 +113,34 @@ public final class GetTrainingPrograms {
     }
 
     @Service
-    public static final class GetTrainingProgramsService {
+    public static class GetTrainingProgramsService {
 
         private final GetTrainingProgramsDatasource datasource;
         private final Mapper<TrainingProgram, TrainingProgramDto> mapper;
+        private final ReferenceDataCache cache;
 
         @Value("${uniportal.pagination.size}")
         private Integer pageSize;
 
         @Autowired
         public GetTrainingProgramsService(GetTrainingProgramsDatasource datasource,
-                                          Mapper<TrainingProgram, TrainingProgramDto> mapper) {
+                                          Mapper<TrainingProgram, TrainingProgramDto> mapper,
+                                          ReferenceDataCache cache) {
             this.datasource = datasource;
             this.mapper = mapper;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.TRAINING_PROGRAM, datasource::getEntityTag);
         }
 
         public TrainingProgramsDto get(String search, Integer pageToUse) {
+            return cache.get(ReferenceData.TRAINING_PROGRAM, List.of(search, pageToUse),
+                    () -> load(search, pageToUse));
+        }
+
+        private TrainingProgramsDto load(String search, Integer pageToUse) {
             Pageable pageable = PageRequest.of(pageToUse - 1, pageSize);
             List<TrainingProgram> trainingPrograms = datasource.get(search, pageable);
             List<TrainingProgramDto> mapped = trainingPrograms.stream()
@@ -129,13 +157,21 @@ public final class GetTrainingPrograms {
     }
 
     @Datasource
-    public static final class GetTrainingProgramsDatasource {
+    public static class GetTrainingProgramsDatasource {
 
         private final TrainingProgramRepository trainingProgramRepository;
+        private final EntityTags entityTags;
 
         @Autowired
-        public GetTrainingProgramsDatasource(TrainingProgramRepository trainingProgramRepository) {
+        public GetTrainingProgramsDatasource(
+                TrainingProgramRepository trainingProgramRepository,
+                EntityTags entityTags) {
             this.trainingProgramRepository = trainingProgramRepository;
+            this.entityTags = entityTags;
+        }
+
+        public String getEntityTag() {
+            return entityTags.ofTables(QTrainingProgram.trainingProgram);
         }
 
         public List<TrainingProgram> get(String search, Pageable pageable) {
@@ -15,6 +15,8 @@ import com.swd.uniportal.domain.admission.AdmissionPlan;
 import com.swd.uniportal.domain.admission.AdmissionTrainingProgram;
 import com.swd.uniportal.domain.admission.TrainingProgram;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
 import com.swd.uniportal.infrastructure.repository.AdmissionTrainingProgramRepository;
 import com.swd.uniportal.infrastructure.repository.TrainingProgramRepository;
@@ -41,7 +43,7 @@ public final class UpdateAdmissionTrainingProgram {
 
     @RestController
     @Tag(name = "admission-plans")
-    public static final class UpdateAdmissionTrainingProgramController extends BaseController {
+    public static class UpdateAdmissionTrainingProgramController extends BaseController {
 
         private final UpdateAdmissionTrainingProgramService service;
 
@@ -116,7 +118,7 @@ public final class UpdateAdmissionTrainingProgram {
     }
 
     @Service
-    public static final class UpdateAdmissionTrainingProgramService {
+    public static class UpdateAdmissionTrainingProgramService {
 
         private final UpdateAdmissionTrainingProgramDatasource datasource;
         private final Mapper<AdmissionTrainingProgram, AdmissionTrainingProgramDto> mapper;
@@ -152,25 +154,28 @@ public final class UpdateAdmissionTrainingProgram {
             }
             admissionTrainingProgram.setName(request.getName());
             admissionTrainingProgram.setTrainingProgram(trainingProgram);
-            admissionTrainingProgram = datasource.update(admissionTrainingProgram);
+            datasource.update(admissionTrainingProgram);
             return mapper.toDto(admissionTrainingProgram);
         }
     }
 
     @Datasource
-    public static final class UpdateAdmissionTrainingProgramDatasource {
+    public static class UpdateAdmissionTrainingProgramDatasource {
 
         private final AdmissionPlanRepository admissionPlanRepository;
         private final TrainingProgramRepository trainingProgramRepository;
         private final AdmissionTrainingProgramRepository admissionTrainingProgramRepository;
+        private final ResponseCache responseCache;
 
         public UpdateAdmissionTrainingProgramDatasource(
                 AdmissionPlanRepository admissionPlanRepository,
                 TrainingProgramRepository trainingProgramRepository,
-                AdmissionTrainingProgramRepository admissionTrainingProgramRepository) {
+                AdmissionTrainingProgramRepository admissionTrainingProgramRepository,
+                ResponseCache responseCache) {
             this.admissionPlanRepository = admissionPlanRepository;
             this.trainingProgramRepository = trainingProgramRepository;
             this.admissionTrainingProgramRepository = admissionTrainingProgramRepository;
+            this.responseCache = responseCache;
         }
 
         public Optional<AdmissionPlan> getAdmissionPlanById(Long admissionId) {
@@ -182,7 +187,10 @@ public final class UpdateAdmissionTrainingProgram {
         }
 
         public AdmissionTrainingProgram update(AdmissionTrainingProgram admissionTrainingProgram) {
-            return admissionTrainingProgramRepository.save(admissionTrainingProgram);
+            AdmissionTrainingProgram saved = admissionTrainingProgramRepository.save(admissionTrainingProgram);
+            admissionPlanRepository.incrementVersion(saved.getAdmissionPlan().getId());
+            responseCache.purge(CachedEntity.ADMISSION_PLAN, saved.getAdmissionPlan().getId());
+            return saved;
         }
 
         public Optional<AdmissionTrainingProgram> getAdmissionTrainingProgram(Long admissionId) {
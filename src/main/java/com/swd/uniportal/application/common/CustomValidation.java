@@ -2,22 +2,50 @@ package com.swd.uniportal.application.common;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
-import jakarta.validation.ValidatorFactory;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Email;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Validates request objects against their Bean Validation constraints. A single validator is
+ * built for the whole application, so constraint metadata is read once per class.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CustomValidation {
 
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
     private record EmailValidation(@Email String email){
     }
 
     public static List<String> validate(Object object) {
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            return factory.getValidator().validate(object).stream().map(ConstraintViolation::getMessage).toList();
+        try {
+            return VALIDATOR.validate(object).stream().map(ConstraintViolation::getMessage).toList();
+        } catch (Exception e) {
+            return List.of("Unable to validate.");
+        }
+    }
+
+    /**
+     * Validates every element of the collection and prefixes each violation with the index of
+     * the element it belongs to, e.g. {@code [2].mark: must not be null or blank.}
+     */
+    public static List<String> validateAll(Collection<?> objects) {
+        try {
+            List<String> violations = new ArrayList<>();
+            int index = 0;
+            for (Object object : objects) {
+                for (ConstraintViolation<Object> violation : VALIDATOR.validate(object)) {
+                    violations.add(indexed(index, violation));
+                }
+                index++;
+            }
+            return violations;
         } catch (Exception e) {
             return List.of("Unable to validate.");
         }
@@ -34,4 +62,13 @@ public final class CustomValidation {
     public static boolean emailIsNotValid(String email) {
         return !emailIsValid(email);
     }
+
+    private static String indexed(int index, ConstraintViolation<Object> violation) {
+        String path = violation.getPropertyPath().toString();
+        String message = violation.getMessage();
+        if (StringUtils.startsWith(message, path + ":")) {
+            return String.format("[%d].%s", index, message);
+        }
+        return String.format("[%d].%s: %s", index, path, message);
+    }
 }
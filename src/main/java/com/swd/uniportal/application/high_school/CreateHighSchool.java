@@ -8,6 +8,8 @@ import com.swd.uniportal.application.high_school.exception.DuplicatedHighSchoolE
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.domain.institution.HighSchool;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.CityProvinceRepository;
 import com.swd.uniportal.infrastructure.repository.HighSchoolRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -58,7 +60,7 @@ public class CreateHighSchool {
     @RestController
     @Tag(name = "high-schools")
     @AllArgsConstructor
-    public static final class CreateHighSchoolController extends BaseController {
+    public static class CreateHighSchoolController extends BaseController {
 
         private final CreateHighSchoolService service;
 
@@ -113,7 +115,7 @@ public class CreateHighSchool {
 
     @Service
     @AllArgsConstructor
-    public static final class CreateHighSchoolService {
+    public static class CreateHighSchoolService {
 
         private final CreateHighSchoolDatasource datasource;
 
@@ -145,13 +147,16 @@ public class CreateHighSchool {
 
     @Datasource
     @AllArgsConstructor
-    public static final class CreateHighSchoolDatasource {
+    public static class CreateHighSchoolDatasource {
 
         private final HighSchoolRepository highSchoolRepository;
         private final CityProvinceRepository cityProvinceRepository;
+        private final SearchIndexes searchIndexes;
 
         public HighSchool persist(HighSchool highSchool) {
-            return highSchoolRepository.save(highSchool);
+            HighSchool saved = highSchoolRepository.save(highSchool);
+            searchIndexes.put(SearchTarget.HIGH_SCHOOL, saved.getId(), saved.getName());
+            return saved;
         }
 
         public boolean highSchoolIsDuplicated(String searchName, Long cityProvinceId) {
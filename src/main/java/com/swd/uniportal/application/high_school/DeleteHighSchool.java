@@ -6,6 +6,8 @@ import com.swd.uniportal.application.high_school.exception.HighSchoolNotFoundExc
 import com.swd.uniportal.application.high_school.exception.RemovingReferencedHighSchoolException;
 import com.swd.uniportal.domain.institution.HighSchool;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.HighSchoolRepository;
 import com.swd.uniportal.infrastructure.repository.StudentRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,7 +35,7 @@ public class DeleteHighSchool {
     @RestController
     @Tag(name = "high-schools")
     @AllArgsConstructor
-    public static final class DeleteHighSchoolController extends BaseController {
+    public static class DeleteHighSchoolController extends BaseController {
 
         private final DeleteHighSchoolService service;
 
@@ -76,7 +78,7 @@ public class DeleteHighSchool {
 
     @Service
     @AllArgsConstructor
-    public static final class DeleteHighSchoolService {
+    public static class DeleteHighSchoolService {
 
         private final DeleteHighSchoolDatasource datasource;
 
@@ -101,10 +103,11 @@ public class DeleteHighSchool {
 
     @Datasource
     @AllArgsConstructor
-    public static final class DeleteHighSchoolDatasource {
+    public static class DeleteHighSchoolDatasource {
 
         private final HighSchoolRepository highSchoolRepository;
         private final StudentRepository studentRepository;
+        private final SearchIndexes searchIndexes;
 
         public HighSchool get(Long id) throws HighSchoolNotFoundException {
             return highSchoolRepository.findById(id).orElseThrow(() -> new HighSchoolNotFoundException("High School not found"));
@@ -116,6 +119,7 @@ public class DeleteHighSchool {
 
         public void delete(Long id) {
             highSchoolRepository.deleteById(id);
+            searchIndexes.remove(SearchTarget.HIGH_SCHOOL, id);
         }
     }
 }
@@ -33,7 +33,7 @@ public class GetHighSchool {
     @RestController
     @Tag(name = "high-schools")
     @AllArgsConstructor
-    public static final class GetHighSchoolController extends BaseController {
+    public static class GetHighSchoolController extends BaseController {
 
         private final GetHighSchoolService service;
 
@@ -76,7 +76,7 @@ public class GetHighSchool {
 
     @Service
     @AllArgsConstructor
-    public static final class GetHighSchoolService {
+    public static class GetHighSchoolService {
 
         private final GetHighSchoolDataSource datasource;
         public HighSchoolResponse get(Long id) throws HighSchoolNotFoundException {
@@ -92,7 +92,7 @@ public class GetHighSchool {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetHighSchoolDataSource {
+    public static class GetHighSchoolDataSource {
 
         private final HighSchoolRepository highSchoolRepository;
 
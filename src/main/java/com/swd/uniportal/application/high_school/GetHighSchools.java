@@ -1,23 +1,28 @@
 package com.swd.uniportal.application.high_school;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.core.types.Projections;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
-import com.swd.uniportal.application.common.Mapper;
+import com.swd.uniportal.application.high_school.dto.CityProvinceDto;
 import com.swd.uniportal.application.high_school.dto.HighSchoolDto;
 import com.swd.uniportal.application.high_school.dto.HighSchoolsDto;
-import com.swd.uniportal.domain.institution.HighSchool;
 import com.swd.uniportal.domain.institution.QHighSchool;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.HighSchoolRepository;
+import com.swd.uniportal.infrastructure.common.paging.Cursor;
+import com.swd.uniportal.infrastructure.common.paging.Keyset;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
+import com.swd.uniportal.infrastructure.common.paging.exception.InvalidCursorException;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -35,13 +40,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class GetHighSchools {
 
     @Builder
-    public record GetHighSchoolsRequest(String search, SortOrder sortOrder, Long page, boolean all) {
+    public record GetHighSchoolsRequest(String search, SortOrder sortOrder, Long page, boolean all, boolean count,
+                                        Cursor cursor) {
     }
 
     @RestController
     @Tag(name = "high-schools")
     @AllArgsConstructor
-    public static final class GetListOfInstitutionsController extends BaseController {
+    public static class GetListOfInstitutionsController extends BaseController {
 
         private final GetHighSchoolsService service;
 
@@ -75,7 +81,9 @@ public class GetHighSchools {
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
                 @RequestParam(name = "page", defaultValue = "1") Long page,
-                @RequestParam(name = "all", defaultValue = "false") boolean all) {
+                @RequestParam(name = "all", defaultValue = "false") boolean all,
+                @RequestParam(name = "cursor", required = false) String cursor,
+                @RequestParam(name = "count", defaultValue = "true") boolean count) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
@@ -86,8 +94,12 @@ public class GetHighSchools {
                         .sortOrder(sortOrder)
                         .page(page)
                         .all(all)
+                        .count(count)
+                        .cursor(Cursor.decode(cursor))
                         .build());
                 return ResponseEntity.ok(response);
+            } catch (InvalidCursorException e) {
+                return ResponseEntity.badRequest().body(new FailedResponse(List.of(e.getMessage())));
             } catch (Exception e) {
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
                         .of("Server error.", e.getMessage())));
@@ -97,90 +109,62 @@ public class GetHighSchools {
     }
 
     @Service
-    public static final class GetHighSchoolsService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetHighSchoolsService {
 
         private final GetHighSchoolsDataSource datasource;
-        private final Mapper<HighSchool, HighSchoolDto> mapper;
 
-        public GetHighSchoolsService(
-                GetHighSchoolsDataSource datasource,
-                Mapper<HighSchool, HighSchoolDto> mapper) {
+        public GetHighSchoolsService(GetHighSchoolsDataSource datasource) {
             this.datasource = datasource;
-            this.mapper = mapper;
         }
 
         public HighSchoolsDto get(GetHighSchoolsRequest request) {
-            List<HighSchool> highSchools;
-            if (request.all()) {
-                highSchools = datasource.getAllHighSchools(request.search());
-            } else {
-                highSchools = datasource.getHighSchools(request);
-            }
-            long count = datasource.getCountOfHighSchools(request);
-            long totalPages = (long) Math.ceil((double) count / pageSize);
+            PagedResult<HighSchoolDto> highSchools = datasource.getHighSchools(request);
             return HighSchoolsDto.builder()
                     .page(request.page())
-                    .totalPages(request.all() ? 1 : totalPages)
-                    .pageSize(request.all() ? count : pageSize)
-                    .currentPageSize((long) highSchools.size())
-                    .highSchools(highSchools.stream()
-                            .map(mapper::toDto)
-                            .toList())
+                    .totalPages(highSchools.totalPages())
+                    .pageSize(highSchools.pageSize())
+                    .currentPageSize(highSchools.currentPageSize())
+                    .highSchools(highSchools.content())
+                    .nextCursor(highSchools.nextCursor())
                     .build();
         }
 
     }
 
     @Datasource
-    public static final class GetHighSchoolsDataSource {
+    public static class GetHighSchoolsDataSource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final HighSchoolRepository highSchoolRepository;
-        private final EntityManager entityManager;
-
-        public GetHighSchoolsDataSource(
-                HighSchoolRepository highSchoolRepository,
-                EntityManager entityManager) {
-            this.highSchoolRepository = highSchoolRepository;
-            this.entityManager = entityManager;
-        }
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final SearchIndexes searchIndexes;
 
-        public List<HighSchool> getHighSchools(GetHighSchoolsRequest request) {
-            QHighSchool highSchool = QHighSchool.highSchool;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(highSchool.name.containsIgnoreCase(request.search()));
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(highSchool)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? highSchool.name.desc() : highSchool.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public GetHighSchoolsDataSource(PagedQueryExecutor pagedQueryExecutor, SearchIndexes searchIndexes) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.searchIndexes = searchIndexes;
         }
 
-        public long getCountOfHighSchools(GetHighSchoolsRequest request) {
+        public PagedResult<HighSchoolDto> getHighSchools(GetHighSchoolsRequest request) {
             QHighSchool highSchool = QHighSchool.highSchool;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
-                filters.and(highSchool.name.containsIgnoreCase(request.search()));
+                filters.and(searchIndexes.matching(SearchTarget.HIGH_SCHOOL,
+                        highSchool.id, highSchool.foldedName, request.search()));
             }
-            return factory.selectFrom(highSchool)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? highSchool.name.desc() : highSchool.name.asc())
-                    .stream().count();
-        }
-
-        public List<HighSchool> getAllHighSchools(String search) {
-            return highSchoolRepository.getAllBySearch(search);
+            return pagedQueryExecutor.fetch(highSchool, Projections.constructor(HighSchoolDto.class,
+                            highSchool.id, highSchool.name, highSchool.description,
+                            Projections.constructor(CityProvinceDto.class,
+                                    highSchool.cityProvince.id, highSchool.cityProvince.name)),
+                    filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .all(request.all())
+                            .count(request.count())
+                            .cursor(request.cursor())
+                            .build(),
+                    new Keyset(highSchool.name, highSchool.id, request.sortOrder()),
+                    h -> new Cursor(h.getName(), h.getId()));
         }
     }
 }
@@ -9,6 +9,8 @@ import com.swd.uniportal.application.high_school.exception.HighSchoolNotFoundExc
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.domain.institution.HighSchool;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.CityProvinceRepository;
 import com.swd.uniportal.infrastructure.repository.HighSchoolRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -64,7 +66,7 @@ public class UpdateHighSchool {
     @RestController
     @Tag(name = "high-schools")
     @AllArgsConstructor
-    public static final class UpdateHighSchoolController extends BaseController {
+    public static class UpdateHighSchoolController extends BaseController {
 
         private final UpdateHighSchoolService service;
 
@@ -127,7 +129,7 @@ public class UpdateHighSchool {
 
     @Service
     @AllArgsConstructor
-    public static final class UpdateHighSchoolService {
+    public static class UpdateHighSchoolService {
 
         private final UpdateHighSchoolDatasource datasource;
 
@@ -159,10 +161,11 @@ public class UpdateHighSchool {
 
     @Datasource
     @AllArgsConstructor
-    public static final class UpdateHighSchoolDatasource {
+    public static class UpdateHighSchoolDatasource {
 
         private final HighSchoolRepository highSchoolRepository;
         private final CityProvinceRepository cityProvinceRepository;
+        private final SearchIndexes searchIndexes;
 
         public HighSchool get(Long id) throws HighSchoolNotFoundException {
             return highSchoolRepository.getByIdPopulated(id).
@@ -170,7 +173,9 @@ public class UpdateHighSchool {
         }
 
         public HighSchool update(HighSchool highschool) {
-            return highSchoolRepository.save(highschool);
+            HighSchool saved = highSchoolRepository.save(highschool);
+            searchIndexes.put(SearchTarget.HIGH_SCHOOL, saved.getId(), saved.getName());
+            return saved;
         }
 
         public boolean highSchoolIsDuplicated(String searchName, Long cityProvinceId) {
@@ -1,10 +1,12 @@
 package com.swd.uniportal.application.high_school.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public final class HighSchoolDto {
 
     Long id;
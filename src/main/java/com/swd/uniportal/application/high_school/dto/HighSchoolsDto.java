@@ -5,6 +5,6 @@ import lombok.Builder;
 
 @Builder
 public record HighSchoolsDto(Long page, Long totalPages, Long pageSize, Long currentPageSize,
-                             List<HighSchoolDto> highSchools) {
+                             List<HighSchoolDto> highSchools, String nextCursor) {
 
 }
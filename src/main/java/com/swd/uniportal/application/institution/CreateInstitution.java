@@ -12,6 +12,8 @@ import com.swd.uniportal.domain.institution.Institution;
 import com.swd.uniportal.domain.institution.Phone;
 import com.swd.uniportal.domain.institution.Website;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.InstitutionRepository;
 import com.swd.uniportal.infrastructure.repository.WardRepository;
@@ -26,9 +28,13 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -186,8 +192,12 @@ public class CreateInstitution {
                     .build();
 
 
+            Map<Long, Ward> wards = datasource.getWardsById(request.getAddresses().stream()
+                    .map(AddressRequest::getWardId)
+                    .collect(Collectors.toSet()));
             request.getAddresses().forEach(addressRequest -> {
-                var ward = datasource.getWardById(addressRequest.wardId).orElseThrow(() -> new IllegalArgumentException("Ward not found"));
+                var ward = Optional.ofNullable(wards.get(addressRequest.wardId))
+                        .orElseThrow(() -> new IllegalArgumentException("Ward not found"));
                 Address address = Address.builder()
                         .houseNumber(addressRequest.houseNumber)
                         .streetName(addressRequest.streetName)
@@ -230,17 +240,21 @@ public class CreateInstitution {
         private final InstitutionRepository institutionRepository;
         private final AccountRepository accountRepository;
         private final WardRepository wardRepository;
+        private final SearchIndexes searchIndexes;
 
         public Optional<Account> getAccountById(Long id) {
             return accountRepository.findById(id);
         }
 
         public Institution persist(Institution institution) {
-            return institutionRepository.save(institution);
+            Institution saved = institutionRepository.save(institution);
+            searchIndexes.put(SearchTarget.INSTITUTION, saved.getId(), saved.getName());
+            return saved;
         }
 
-        public Optional<Ward> getWardById(Long id) {
-            return wardRepository.findById(id);
+        public Map<Long, Ward> getWardsById(Collection<Long> ids) {
+            return wardRepository.getPopulatedByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Ward::getId, Function.identity()));
         }
     }
 }
\ No newline at end of file
@@ -8,6 +8,10 @@ import com.swd.uniportal.domain.institution.Institution;
 import com.swd.uniportal.domain.institution.Phone;
 import com.swd.uniportal.domain.institution.Website;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.InstitutionRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -54,7 +58,7 @@ public class DeleteInstitutionById {
     @RestController
     @Tag(name = "institutions")
     @AllArgsConstructor
-    public static final class DeleteInstitutionController extends BaseController {
+    public static class DeleteInstitutionController extends BaseController {
 
         private final DeleteInstitutionService service;
 
@@ -119,9 +123,13 @@ public class DeleteInstitutionById {
     public static class DeleteInstitutionDatasource {
 
         private final InstitutionRepository institutionRepository;
+        private final SearchIndexes searchIndexes;
+        private final ResponseCache responseCache;
 
         public void deleteInstitution(Institution institution) {
             institutionRepository.delete(institution);
+            searchIndexes.remove(SearchTarget.INSTITUTION, institution.getId());
+            responseCache.purge(CachedEntity.INSTITUTION, institution.getId());
         }
 
         public Optional<Institution> findById(Long id) {
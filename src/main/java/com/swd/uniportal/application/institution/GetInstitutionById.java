@@ -1,32 +1,47 @@
 package com.swd.uniportal.application.institution;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.application.institution.exception.InstitutionNotFoundException;
+import com.swd.uniportal.domain.address.QAddress;
+import com.swd.uniportal.domain.address.QCityProvince;
+import com.swd.uniportal.domain.address.QDistrict;
+import com.swd.uniportal.domain.address.QWard;
 import com.swd.uniportal.domain.institution.Email;
 import com.swd.uniportal.domain.institution.Institution;
 import com.swd.uniportal.domain.institution.Phone;
+import com.swd.uniportal.domain.institution.QInstitution;
 import com.swd.uniportal.domain.institution.Website;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
 import com.swd.uniportal.infrastructure.repository.InstitutionRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetInstitutionById {
@@ -45,9 +60,10 @@ public class GetInstitutionById {
     @RestController
     @Tag(name = "institutions")
     @AllArgsConstructor
-    public static final class GetInstitutionByIdController extends BaseController {
+    public static class GetInstitutionByIdController extends BaseController {
 
         private final GetInstitutionByIdService service;
+        private final ResponseCache responseCache;
 
         @GetMapping("/institutions/{id}")
         @Operation(summary = "Get an institution based on its ID.")
@@ -75,9 +91,16 @@ public class GetInstitutionById {
                         schema = @Schema(implementation = FailedResponse.class)
                 )
         )
-        public ResponseEntity<Object> get(@PathVariable("id") Long id) {
+        public ResponseEntity<Object> get(@PathVariable("id") Long id, WebRequest webRequest) {
             try {
-                return ResponseEntity.ok(service.get(id));
+                Optional<String> entityTag = service.getEntityTag(id);
+                if (entityTag.isPresent() && webRequest.checkNotModified(entityTag.get())) {
+                    return null;
+                }
+                InstitutionResponse institution = service.get(id);
+                responseCache.tag(CachedEntity.INSTITUTION, id);
+                responseCache.tagAll(CachedEntity.CITY_PROVINCE, CachedEntity.DISTRICT, CachedEntity.WARD);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(institution);
             } catch (InstitutionNotFoundException e) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new FailedResponse(List.of(e.getMessage())));
             } catch (Exception e) {
@@ -88,10 +111,14 @@ public class GetInstitutionById {
 
     @Service
     @AllArgsConstructor
-    public static final class GetInstitutionByIdService {
+    public static class GetInstitutionByIdService {
 
         private final GetInstitutionByIdDatasource datasource;
 
+        public Optional<String> getEntityTag(Long id) {
+            return datasource.getEntityTag(id);
+        }
+
         public InstitutionResponse get(Long id) throws InstitutionNotFoundException {
             Institution institution = datasource.getInstitution(id);
 
@@ -122,13 +149,42 @@ public class GetInstitutionById {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetInstitutionByIdDatasource {
+    public static class GetInstitutionByIdDatasource {
+
+        private static final QInstitution INSTITUTION = QInstitution.institution;
+        private static final QAddress ADDRESS = QAddress.address;
+        private static final QWard WARD = QWard.ward;
+        private static final QDistrict DISTRICT = QDistrict.district;
+        private static final QCityProvince CITY_PROVINCE = QCityProvince.cityProvince;
 
         private final InstitutionRepository institutionRepository;
+        private final EntityManager entityManager;
 
         public Institution getInstitution(Long id) {
             return institutionRepository.findByIdWithAddresses(id);
         }
 
+        /**
+         * Address changes bump the institution version; the ward, district and city/province names
+         * shown in its addresses are versioned on their own and summed into the tag.
+         */
+        public Optional<String> getEntityTag(Long id) {
+            NumberExpression<Long> addressVersions = WARD.version.add(DISTRICT.version)
+                    .add(CITY_PROVINCE.version)
+                    .sum();
+            Tuple row = new JPAQueryFactory(entityManager)
+                    .select(INSTITUTION.version, addressVersions)
+                    .from(INSTITUTION)
+                    .leftJoin(INSTITUTION.addresses, ADDRESS)
+                    .leftJoin(ADDRESS.ward, WARD)
+                    .leftJoin(ADDRESS.district, DISTRICT)
+                    .leftJoin(ADDRESS.cityProvince, CITY_PROVINCE)
+                    .where(INSTITUTION.id.eq(id))
+                    .groupBy(INSTITUTION.version)
+                    .fetchOne();
+            return Optional.ofNullable(row).map(version -> EntityTags.of(version.get(INSTITUTION.version),
+                    Objects.requireNonNullElse(version.get(addressVersions), 0L)));
+        }
+
     }
 }
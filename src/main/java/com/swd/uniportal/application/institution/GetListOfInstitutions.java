@@ -1,19 +1,25 @@
 package com.swd.uniportal.application.institution;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.core.types.Projections;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
-import com.swd.uniportal.domain.institution.Institution;
 import com.swd.uniportal.domain.institution.QInstitution;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.paging.Cursor;
+import com.swd.uniportal.infrastructure.common.paging.Keyset;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
+import com.swd.uniportal.infrastructure.common.paging.exception.InvalidCursorException;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -30,13 +36,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class GetListOfInstitutions {
 
     @Builder
-    public record GetInstitutionsRequest(String search, SortOrder sortOrder, Long page, boolean all) {
+    public record GetInstitutionsRequest(String search, SortOrder sortOrder, Long page, boolean all, boolean count,
+                                         Cursor cursor) {
 
     }
 
     @Builder
     public record InstitutionsResponse(Long page, Long totalPages, Long pageSize, Long currentPageSize,
-                                       List<InstitutionResponse> institutions) {
+                                       List<InstitutionResponse> institutions, String nextCursor) {
 
     }
 
@@ -47,7 +54,7 @@ public class GetListOfInstitutions {
 
     @RestController
     @Tag(name = "institutions")
-    public static final class GetListOfInstitutionsController extends BaseController {
+    public static class GetListOfInstitutionsController extends BaseController {
 
         private final GetListOfInstitutionsService service;
 
@@ -85,7 +92,9 @@ public class GetListOfInstitutions {
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
                 @RequestParam(name = "page", defaultValue = "1") Long page,
-                @RequestParam(name = "all", defaultValue = "false") boolean all) {
+                @RequestParam(name = "all", defaultValue = "false") boolean all,
+                @RequestParam(name = "cursor", required = false) String cursor,
+                @RequestParam(name = "count", defaultValue = "true") boolean count) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
@@ -96,8 +105,12 @@ public class GetListOfInstitutions {
                         .sortOrder(sortOrder)
                         .page(page)
                         .all(all)
+                        .count(count)
+                        .cursor(Cursor.decode(cursor))
                         .build());
                 return ResponseEntity.ok(response);
+            } catch (InvalidCursorException e) {
+                return ResponseEntity.badRequest().body(new FailedResponse(List.of(e.getMessage())));
             } catch (Exception e) {
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
                         .of("Server error.", e.getMessage())));
@@ -107,10 +120,7 @@ public class GetListOfInstitutions {
     }
 
     @Service
-    public static final class GetListOfInstitutionsService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetListOfInstitutionsService {
 
         private final GetListOfInstitutionsDatasource datasource;
 
@@ -119,70 +129,51 @@ public class GetListOfInstitutions {
         }
 
         public InstitutionsResponse get(GetInstitutionsRequest request) {
-            List<Institution> institutions = datasource.getInstitutions(request);
-            long count = datasource.getCountOfInstitutions(request);
-            Long totalPages = Math.ceilDiv(count, request.all() ? count : pageSize);
+            PagedResult<InstitutionResponse> institutions = datasource.getInstitutions(request);
             return InstitutionsResponse.builder()
                     .page(request.page())
-                    .totalPages(totalPages)
-                    .pageSize(request.all() ? count : pageSize)
-                    .currentPageSize((long) institutions.size())
-                    .institutions(institutions.stream().map(institution -> InstitutionResponse.builder()
-                            .id(institution.getId())
-                            .name(institution.getName())
-                            .code(institution.getCode())
-                            .avatarLink(institution.getAvatarLink())
-                            .build()).toList())
+                    .totalPages(institutions.totalPages())
+                    .pageSize(institutions.pageSize())
+                    .currentPageSize(institutions.currentPageSize())
+                    .institutions(institutions.content())
+                    .nextCursor(institutions.nextCursor())
                     .build();
         }
 
     }
 
     @Datasource
-    public static final class GetListOfInstitutionsDatasource {
+    public static class GetListOfInstitutionsDatasource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final EntityManager entityManager;
-
-        public GetListOfInstitutionsDatasource(EntityManager entityManager) {
-            this.entityManager = entityManager;
-        }
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final SearchIndexes searchIndexes;
 
-        public List<Institution> getInstitutions(GetInstitutionsRequest request) {
-            QInstitution institution = QInstitution.institution;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(institution.name.containsIgnoreCase(request.search()));
-            }
-            if (request.all()) {
-                return factory.selectFrom(institution)
-                        .where(filters)
-                        .orderBy((request.sortOrder() == SortOrder.DESC) ? institution.name.desc() : institution.name.asc())
-                        .fetch();
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(institution)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? institution.name.desc() : institution.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public GetListOfInstitutionsDatasource(PagedQueryExecutor pagedQueryExecutor, SearchIndexes searchIndexes) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.searchIndexes = searchIndexes;
         }
 
-        public long getCountOfInstitutions(GetInstitutionsRequest request) {
+        public PagedResult<InstitutionResponse> getInstitutions(GetInstitutionsRequest request) {
             QInstitution institution = QInstitution.institution;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
-                filters.and(institution.name.containsIgnoreCase(request.search()));
+                filters.and(searchIndexes.matching(SearchTarget.INSTITUTION,
+                        institution.id, institution.foldedName, request.search()));
             }
-            return factory.selectFrom(institution)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? institution.name.desc() : institution.name.asc())
-                    .stream().count();
+            return pagedQueryExecutor.fetch(institution, Projections.constructor(InstitutionResponse.class,
+                            institution.id, institution.name, institution.code, institution.avatarLink),
+                    filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .all(request.all())
+                            .count(request.count())
+                            .cursor(request.cursor())
+                            .build(),
+                    new Keyset(institution.name, institution.id, request.sortOrder()),
+                    i -> new Cursor(i.name(), i.id()));
         }
 
     }
@@ -1,20 +1,24 @@
 package com.swd.uniportal.application.institution;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.address.QAddress;
-import com.swd.uniportal.domain.institution.Institution;
 import com.swd.uniportal.domain.institution.QInstitution;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -33,7 +37,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class GetListOfInstitutionsByCityProvinceId {
 
     @Builder
-    public record GetInstitutionsByCityProvinceIdRequest(String search, SortOrder sortOrder, Long page, Long cityProvinceId) {}
+    public record GetInstitutionsByCityProvinceIdRequest(String search, SortOrder sortOrder, Long page, Long cityProvinceId,
+                                                         boolean count) {}
 
     @Builder
     public record InstitutionsResponse(Long page, Long totalPages, Long pageSize, Long currentPageSize,
@@ -47,7 +52,7 @@ public class GetListOfInstitutionsByCityProvinceId {
     @RestController
     @Tag(name = "institutions")
     @AllArgsConstructor
-    public static final class GetListOfInstitutionsByCityProvinceIdController extends BaseController {
+    public static class GetListOfInstitutionsByCityProvinceIdController extends BaseController {
 
         private final GetListOfInstitutionsByCityProvinceIdService service;
 
@@ -81,7 +86,8 @@ public class GetListOfInstitutionsByCityProvinceId {
                 @PathVariable("id") Long cityProvinceId,
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
-                @RequestParam(name = "page", defaultValue = "1") Long page) {
+                @RequestParam(name = "page", defaultValue = "1") Long page,
+                @RequestParam(name = "count", defaultValue = "true") boolean count) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
@@ -92,6 +98,7 @@ public class GetListOfInstitutionsByCityProvinceId {
                         .search(StringUtils.trimToNull(search))
                         .sortOrder(sortOrder)
                         .page(page)
+                        .count(count)
                         .build());
                 return ResponseEntity.ok(response);
             } catch (Exception e) {
@@ -102,10 +109,7 @@ public class GetListOfInstitutionsByCityProvinceId {
     }
 
     @Service
-    public static final class GetListOfInstitutionsByCityProvinceIdService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetListOfInstitutionsByCityProvinceIdService {
 
         private final GetListOfInstitutionsByCityProvinceIdDatasource datasource;
 
@@ -116,78 +120,53 @@ public class GetListOfInstitutionsByCityProvinceId {
 
         public InstitutionsResponse get(
                 GetInstitutionsByCityProvinceIdRequest request) {
-            List<Institution> institutions = datasource.getInstitutionsByCityProvinceId(request);
-            Long totalPages = (long) Math.ceil((double) datasource.getCountOfInstitutions(request) / pageSize);
+            PagedResult<InstitutionResponse> institutions = datasource.getInstitutionsByCityProvinceId(request);
             return InstitutionsResponse.builder()
                     .page(request.page())
-                    .totalPages(totalPages)
-                    .pageSize(pageSize)
-                    .currentPageSize((long) institutions.size())
-                    .institutions(institutions.stream().map(institution -> InstitutionResponse.builder()
-                                    .code(institution.getCode())
-                                    .name(institution.getName())
-                                    .id(institution.getId())
-                                    .avatarLink(institution.getAvatarLink())
-                                    .build())
-                            .toList())
+                    .totalPages(institutions.totalPages())
+                    .pageSize(institutions.pageSize())
+                    .currentPageSize(institutions.currentPageSize())
+                    .institutions(institutions.content())
                     .build();
         }
     }
 
     @Datasource
-    public static final class GetListOfInstitutionsByCityProvinceIdDatasource {
+    public static class GetListOfInstitutionsByCityProvinceIdDatasource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final EntityManager entityManager;
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final SearchIndexes searchIndexes;
 
-        public GetListOfInstitutionsByCityProvinceIdDatasource(EntityManager entityManager) {
-            this.entityManager = entityManager;
+        public GetListOfInstitutionsByCityProvinceIdDatasource(
+                PagedQueryExecutor pagedQueryExecutor,
+                SearchIndexes searchIndexes) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.searchIndexes = searchIndexes;
         }
 
-        @SuppressWarnings("Duplicates")
-        public List<Institution> getInstitutionsByCityProvinceId(GetInstitutionsByCityProvinceIdRequest request) {
+        public PagedResult<InstitutionResponse> getInstitutionsByCityProvinceId(
+                GetInstitutionsByCityProvinceIdRequest request) {
             QInstitution institution = QInstitution.institution;
             QAddress address = QAddress.address;
-
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-
             BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(institution.name.containsIgnoreCase(request.search()));
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-
-            return factory.selectDistinct(institution)
+            filters.and(institution.id.in(JPAExpressions.select(address.institution.id)
                     .from(address)
-                    .leftJoin(address.institution, institution)
-                    .where(address.cityProvince.id.eq(request.cityProvinceId))
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? institution.name.desc() : institution.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
-        }
-
-        @SuppressWarnings("Duplicates")
-        public long getCountOfInstitutions(GetInstitutionsByCityProvinceIdRequest request) {
-            QInstitution institution = QInstitution.institution;
-            QAddress address = QAddress.address;
-
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-
-            BooleanBuilder filters = new BooleanBuilder();
+                    .where(address.cityProvince.id.eq(request.cityProvinceId()))));
             if (StringUtils.isNotBlank(request.search)) {
-                filters.and(institution.name.containsIgnoreCase(request.search()));
+                filters.and(searchIndexes.matching(SearchTarget.INSTITUTION,
+                        institution.id, institution.foldedName, request.search()));
             }
-            return factory.selectDistinct(institution)
-                    .from(address)
-                    .leftJoin(address.institution, institution)
-                    .where(address.cityProvince.id.eq(request.cityProvinceId))
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? institution.name.desc() : institution.name.asc())
-                    .stream().count();
+            return pagedQueryExecutor.fetch(institution, Projections.constructor(InstitutionResponse.class,
+                            institution.id, institution.name, institution.code, institution.avatarLink),
+                    filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .count(request.count())
+                            .build(),
+                    (request.sortOrder() == SortOrder.DESC) ? institution.name.desc() : institution.name.asc());
         }
 
     }
@@ -0,0 +1,540 @@
+package com.swd.uniportal.application.institution;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swd.uniportal.application.common.BaseController;
+import com.swd.uniportal.application.common.CustomValidation;
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.application.institution.CreateInstitution.AddressRequest;
+import com.swd.uniportal.application.institution.CreateInstitution.CreateInstitutionRequest;
+import com.swd.uniportal.domain.address.Address;
+import com.swd.uniportal.domain.address.CityProvince;
+import com.swd.uniportal.domain.address.District;
+import com.swd.uniportal.domain.address.QWard;
+import com.swd.uniportal.domain.address.Ward;
+import com.swd.uniportal.domain.institution.Email;
+import com.swd.uniportal.domain.institution.Institution;
+import com.swd.uniportal.domain.institution.Phone;
+import com.swd.uniportal.domain.institution.Website;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
+import com.swd.uniportal.infrastructure.repository.InstitutionRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImportInstitutions {
+
+    public static final int BATCH_SIZE = 100;
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public enum ImportFormat {
+        JSON,
+        CSV
+    }
+
+    public enum ImportStatus {
+        CREATED,
+        FAILED
+    }
+
+    /**
+     * One CSV line holds an institution with a single address. Consecutive lines sharing a code
+     * add further addresses to the same institution.
+     */
+    @Data
+    public static class InstitutionCsvRow {
+
+        private String name;
+        private String code;
+        private String description;
+        private String avatarLink;
+        private String website;
+        private String websiteTitle;
+        private String email;
+        private String emailTitle;
+        private String phone;
+        private String phoneTitle;
+        private String houseNumber;
+        private String streetName;
+        private Long wardId;
+        private String addressDescription;
+    }
+
+    @Builder
+    public record ImportedInstitutionResponse(Long row, String code, ImportStatus status, Long id,
+                                              List<String> errors) {
+    }
+
+    public record WardPath(Long wardId, Long districtId, Long cityProvinceId) {
+    }
+
+    private record PendingRow(Long row, CreateInstitutionRequest request, List<String> violations) {
+    }
+
+    @RestController
+    @AllArgsConstructor
+    @Tag(name = "institutions")
+    public static class ImportInstitutionsController extends BaseController {
+
+        private final ImportInstitutionsService service;
+        private final ObjectMapper objectMapper;
+
+        @PostMapping(value = "/institutions/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "Import institutions from a JSON array.")
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Institutions to create.",
+                content = @Content(
+                        mediaType = "application/json",
+                        array = @ArraySchema(schema = @Schema(implementation = CreateInstitutionRequest.class))
+                )
+        )
+        @ApiResponse(
+                responseCode = "200",
+                description = "One result per institution, as newline-delimited JSON.",
+                content = @Content(
+                        mediaType = "application/x-ndjson",
+                        schema = @Schema(implementation = ImportedInstitutionResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public void importJson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            importInstitutions(ImportFormat.JSON, request, response);
+        }
+
+        @PostMapping(value = "/institutions/import", consumes = TEXT_CSV_VALUE)
+        @Operation(summary = "Import institutions from CSV with a header line.")
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Institutions to create, one address per line.",
+                content = @Content(
+                        mediaType = TEXT_CSV_VALUE,
+                        schema = @Schema(implementation = InstitutionCsvRow.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "200",
+                description = "One result per institution, as newline-delimited JSON.",
+                content = @Content(
+                        mediaType = "application/x-ndjson",
+                        schema = @Schema(implementation = ImportedInstitutionResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public void importCsv(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            importInstitutions(ImportFormat.CSV, request, response);
+        }
+
+        private void importInstitutions(ImportFormat format, HttpServletRequest request,
+                                        HttpServletResponse response) throws IOException {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            try {
+                service.importInstitutions(format, request.getInputStream(), response.getOutputStream());
+            } catch (Exception e) {
+                if (response.isCommitted()) {
+                    throw e;
+                }
+                response.reset();
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), new FailedResponse(List.of("Server error.")));
+            }
+        }
+    }
+
+    /**
+     * Reads the document one institution at a time and persists valid rows in batches of
+     * {@value #BATCH_SIZE}, each in its own transaction. Results are written after every batch in
+     * row order, so memory stays bounded by the batch whatever the size of the document.
+     */
+    @Service
+    @AllArgsConstructor
+    public static class ImportInstitutionsService {
+
+        private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+        private final ImportInstitutionsDatasource datasource;
+        private final TransactionTemplate transactionTemplate;
+        private final ObjectMapper objectMapper;
+
+        public void importInstitutions(ImportFormat format, InputStream input, OutputStream output)
+                throws IOException {
+            Map<Long, WardPath> wardPaths = datasource.getWardPaths();
+            List<PendingRow> batch = new ArrayList<>();
+            try (InstitutionReader reader = open(format, input)) {
+                PendingRow row = reader.next();
+                while (Objects.nonNull(row)) {
+                    batch.add(validate(row, wardPaths));
+                    if (batch.size() == BATCH_SIZE) {
+                        write(output, persist(batch, wardPaths));
+                        batch.clear();
+                    }
+                    row = reader.next();
+                }
+            } catch (JsonProcessingException e) {
+                write(output, persist(batch, wardPaths));
+                write(output, List.of(ImportedInstitutionResponse.builder()
+                        .status(ImportStatus.FAILED)
+                        .errors(List.of("Malformed document: " + e.getOriginalMessage()))
+                        .build()));
+                return;
+            }
+            write(output, persist(batch, wardPaths));
+        }
+
+        private InstitutionReader open(ImportFormat format, InputStream input) throws IOException {
+            return switch (format) {
+                case JSON -> new JsonInstitutionReader(objectMapper, input);
+                case CSV -> new CsvInstitutionReader(CSV_MAPPER, input);
+            };
+        }
+
+        private PendingRow validate(PendingRow row, Map<Long, WardPath> wardPaths) {
+            List<String> violations = new ArrayList<>(row.violations());
+            if (!violations.isEmpty()) {
+                return new PendingRow(row.row(), row.request(), violations);
+            }
+            if (Objects.isNull(row.request().getAddresses())) {
+                row.request().setAddresses(new ArrayList<>());
+            }
+            violations.addAll(CustomValidation.validate(row.request()));
+            for (AddressRequest address : row.request().getAddresses()) {
+                if (Objects.isNull(address)) {
+                    violations.add("addresses: must not contain null.");
+                } else if (Objects.nonNull(address.getWardId()) && !wardPaths.containsKey(address.getWardId())) {
+                    violations.add(String.format("wardId: ward with id %d not found.", address.getWardId()));
+                }
+            }
+            return new PendingRow(row.row(), row.request(), violations);
+        }
+
+        private List<ImportedInstitutionResponse> persist(List<PendingRow> rows, Map<Long, WardPath> wardPaths) {
+            List<PendingRow> valid = rows.stream()
+                    .filter(row -> row.violations().isEmpty())
+                    .toList();
+            Map<Long, Long> createdIds = new HashMap<>();
+            try {
+                createdIds.putAll(persistInTransaction(valid, wardPaths));
+            } catch (RuntimeException e) {
+                // Retry one row at a time so a single bad row does not fail the rest of its batch.
+                for (PendingRow row : valid) {
+                    try {
+                        createdIds.putAll(persistInTransaction(List.of(row), wardPaths));
+                    } catch (RuntimeException rowException) {
+                        row.violations().add("Unable to save institution.");
+                    }
+                }
+            }
+            return rows.stream()
+                    .map(row -> ImportedInstitutionResponse.builder()
+                            .row(row.row())
+                            .code(row.request().getCode())
+                            .status(createdIds.containsKey(row.row()) ? ImportStatus.CREATED : ImportStatus.FAILED)
+                            .id(createdIds.get(row.row()))
+                            .errors(row.violations().isEmpty() ? null : row.violations())
+                            .build())
+                    .toList();
+        }
+
+        private Map<Long, Long> persistInTransaction(List<PendingRow> rows, Map<Long, WardPath> wardPaths) {
+            if (rows.isEmpty()) {
+                return Map.of();
+            }
+            return transactionTemplate.execute(status -> {
+                List<Institution> saved = datasource.persist(rows.stream()
+                        .map(row -> toInstitution(row.request(), wardPaths))
+                        .toList());
+                Map<Long, Long> ids = new HashMap<>();
+                for (int i = 0; i < rows.size(); i++) {
+                    ids.put(rows.get(i).row(), saved.get(i).getId());
+                }
+                return ids;
+            });
+        }
+
+        private Institution toInstitution(CreateInstitutionRequest request, Map<Long, WardPath> wardPaths) {
+            Institution institution = Institution.builder()
+                    .name(StringUtils.trim(request.getName()))
+                    .code(StringUtils.trim(request.getCode()))
+                    .description(StringUtils.trimToNull(request.getDescription()))
+                    .avatarLink(StringUtils.trim(request.getAvatarLink()))
+                    .website1(request.getWebsite1())
+                    .website2(request.getWebsite2())
+                    .website3(request.getWebsite3())
+                    .email1(request.getEmail1())
+                    .email2(request.getEmail2())
+                    .email3(request.getEmail3())
+                    .phone1(request.getPhone1())
+                    .phone2(request.getPhone2())
+                    .phone3(request.getPhone3())
+                    .addresses(new ArrayList<>())
+                    .build();
+            for (AddressRequest addressRequest : request.getAddresses()) {
+                WardPath wardPath = wardPaths.get(addressRequest.getWardId());
+                institution.addAddress(Address.builder()
+                        .houseNumber(addressRequest.getHouseNumber())
+                        .streetName(addressRequest.getStreetName())
+                        .description(addressRequest.getDescription())
+                        .ward(datasource.getWardReference(wardPath.wardId()))
+                        .district(datasource.getDistrictReference(wardPath.districtId()))
+                        .cityProvince(datasource.getCityProvinceReference(wardPath.cityProvinceId()))
+                        .build());
+            }
+            return institution;
+        }
+
+        private void write(OutputStream output, List<ImportedInstitutionResponse> results) throws IOException {
+            for (ImportedInstitutionResponse result : results) {
+                output.write(objectMapper.writeValueAsBytes(result));
+                output.write('\n');
+            }
+            output.flush();
+        }
+    }
+
+    @Datasource
+    @AllArgsConstructor
+    public static class ImportInstitutionsDatasource {
+
+        private final InstitutionRepository institutionRepository;
+        private final EntityManager entityManager;
+        private final SearchIndexes searchIndexes;
+
+        public Map<Long, WardPath> getWardPaths() {
+            QWard ward = QWard.ward;
+            Map<Long, WardPath> wardPaths = new HashMap<>();
+            for (Tuple row : new JPAQueryFactory(entityManager)
+                    .select(ward.id, ward.district.id, ward.district.cityProvince.id)
+                    .from(ward)
+                    .fetch()) {
+                Long wardId = row.get(ward.id);
+                wardPaths.put(wardId, new WardPath(wardId, row.get(ward.district.id),
+                        row.get(ward.district.cityProvince.id)));
+            }
+            return wardPaths;
+        }
+
+        public Ward getWardReference(Long id) {
+            return entityManager.getReference(Ward.class, id);
+        }
+
+        public District getDistrictReference(Long id) {
+            return entityManager.getReference(District.class, id);
+        }
+
+        public CityProvince getCityProvinceReference(Long id) {
+            return entityManager.getReference(CityProvince.class, id);
+        }
+
+        public List<Institution> persist(List<Institution> institutions) {
+            List<Institution> saved = institutionRepository.saveAll(institutions);
+            saved.forEach(institution -> searchIndexes.put(SearchTarget.INSTITUTION, institution.getId(),
+                    institution.getName()));
+            return saved;
+        }
+    }
+
+    private interface InstitutionReader extends Closeable {
+
+        PendingRow next() throws IOException;
+    }
+
+    private static final class JsonInstitutionReader implements InstitutionReader {
+
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+        private long row;
+
+        private JsonInstitutionReader(ObjectMapper objectMapper, InputStream input) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(input);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of institutions.");
+            }
+        }
+
+        @Override
+        public PendingRow next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an institution object.");
+            }
+            row++;
+            JsonNode node = objectMapper.readTree(parser);
+            try {
+                return new PendingRow(row, objectMapper.treeToValue(node, CreateInstitutionRequest.class), List.of());
+            } catch (JsonProcessingException e) {
+                CreateInstitutionRequest request = new CreateInstitutionRequest();
+                request.setCode(codeOf(node));
+                return new PendingRow(row, request, List.of(malformed(e)));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class CsvInstitutionReader implements InstitutionReader {
+
+        private final CsvMapper csvMapper;
+        private final MappingIterator<JsonNode> rows;
+        private JsonNode lookahead;
+        private long row;
+
+        private CsvInstitutionReader(CsvMapper csvMapper, InputStream input) throws IOException {
+            this.csvMapper = csvMapper;
+            this.rows = csvMapper.readerFor(JsonNode.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(input);
+        }
+
+        /**
+         * Lines are read as untyped fields and bound one at a time, so a line that does not bind
+         * fails only the institution it belongs to.
+         */
+        @Override
+        public PendingRow next() throws IOException {
+            if (Objects.isNull(lookahead) && rows.hasNextValue()) {
+                lookahead = rows.nextValue();
+                row++;
+            }
+            if (Objects.isNull(lookahead)) {
+                return null;
+            }
+            long firstRow = row;
+            String code = codeOf(lookahead);
+            List<String> violations = new ArrayList<>();
+            CreateInstitutionRequest request = null;
+            JsonNode line = lookahead;
+            long lineRow = row;
+            lookahead = null;
+            while (Objects.nonNull(line)) {
+                try {
+                    InstitutionCsvRow csvRow = csvMapper.treeToValue(line, InstitutionCsvRow.class);
+                    if (Objects.isNull(request)) {
+                        request = toRequest(csvRow);
+                    } else {
+                        request.getAddresses().add(toAddress(csvRow));
+                    }
+                } catch (JsonProcessingException e) {
+                    violations.add(String.format("row %d: %s", lineRow, malformed(e)));
+                }
+                line = null;
+                if (rows.hasNextValue()) {
+                    JsonNode next = rows.nextValue();
+                    row++;
+                    if (StringUtils.equals(codeOf(next), code)) {
+                        line = next;
+                        lineRow = row;
+                    } else {
+                        lookahead = next;
+                    }
+                }
+            }
+            if (Objects.isNull(request)) {
+                request = new CreateInstitutionRequest();
+                request.setCode(code);
+            }
+            return new PendingRow(firstRow, request, violations);
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+
+        private static CreateInstitutionRequest toRequest(InstitutionCsvRow csvRow) {
+            CreateInstitutionRequest request = new CreateInstitutionRequest();
+            request.setName(csvRow.getName());
+            request.setCode(csvRow.getCode());
+            request.setDescription(csvRow.getDescription());
+            request.setAvatarLink(csvRow.getAvatarLink());
+            if (StringUtils.isNotBlank(csvRow.getWebsite())) {
+                request.setWebsite1(new Website(csvRow.getWebsite(), csvRow.getWebsiteTitle()));
+            }
+            if (StringUtils.isNotBlank(csvRow.getEmail())) {
+                request.setEmail1(new Email(csvRow.getEmail(), csvRow.getEmailTitle()));
+            }
+            if (StringUtils.isNotBlank(csvRow.getPhone())) {
+                request.setPhone1(new Phone(csvRow.getPhone(), csvRow.getPhoneTitle()));
+            }
+            request.getAddresses().add(toAddress(csvRow));
+            return request;
+        }
+
+        private static AddressRequest toAddress(InstitutionCsvRow csvRow) {
+            AddressRequest address = new AddressRequest();
+            address.setHouseNumber(csvRow.getHouseNumber());
+            address.setStreetName(csvRow.getStreetName());
+            address.setWardId(csvRow.getWardId());
+            address.setDescription(csvRow.getAddressDescription());
+            return address;
+        }
+    }
+
+    private static String codeOf(JsonNode node) {
+        JsonNode code = node.get("code");
+        return Objects.nonNull(code) && code.isValueNode() ? code.asText() : null;
+    }
+
+    private static String malformed(JsonProcessingException e) {
+        return "Malformed institution: " + e.getOriginalMessage();
+    }
+}
@@ -13,6 +13,10 @@ import com.swd.uniportal.domain.institution.Institution;
 import com.swd.uniportal.domain.institution.Phone;
 import com.swd.uniportal.domain.institution.Website;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.AddressRepository;
 import com.swd.uniportal.infrastructure.repository.InstitutionRepository;
@@ -22,14 +26,20 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -194,9 +204,12 @@ public class UpdateInstitutionById {
 
             institution.getAddresses().clear();
 
+            Map<Long, Ward> wards = datasource.getWardsById(request.getAddresses().stream()
+                    .map(AddressRequest::getWardId)
+                    .collect(Collectors.toSet()));
             List<Address> addresses = new ArrayList<>();
             for (AddressRequest addressRequest : request.getAddresses()) {
-                Ward ward = datasource.getWardById(addressRequest.getWardId())
+                Ward ward = Optional.ofNullable(wards.get(addressRequest.getWardId()))
                         .orElseThrow(() -> new IllegalArgumentException("Ward not found"));
                 Address address = Address.builder()
                         .houseNumber(addressRequest.getHouseNumber())
@@ -243,13 +256,17 @@ public class UpdateInstitutionById {
         private final WardRepository wardRepository;
         private final AccountRepository accountRepository;
         private final AddressRepository addressRepository;
+        private final SearchIndexes searchIndexes;
+        private final EntityManager entityManager;
+        private final ResponseCache responseCache;
 
         public Optional<Account> getAccountById(Long id) {
             return accountRepository.findById(id);
         }
 
-        public Optional<Ward> getWardById(Long id) {
-            return wardRepository.findById(id);
+        public Map<Long, Ward> getWardsById(Collection<Long> ids) {
+            return wardRepository.getPopulatedByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Ward::getId, Function.identity()));
         }
 
         public Institution getInstitution(Long id) {
@@ -257,7 +274,12 @@ public class UpdateInstitutionById {
         }
 
         public Institution update(Institution institution) {
-            return institutionRepository.save(institution);
+            // Replacing addresses only changes the inverse side, so the version is forced up.
+            entityManager.lock(institution, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            Institution saved = institutionRepository.save(institution);
+            searchIndexes.put(SearchTarget.INSTITUTION, saved.getId(), saved.getName());
+            responseCache.purge(CachedEntity.INSTITUTION, saved.getId());
+            return saved;
         }
     }
 }
@@ -56,7 +56,7 @@ public final class DoGoogleLogin {
 
     @RestController
     @Tag(name = "login")
-    public static final class DoGoogleLoginController extends BaseController {
+    public static class DoGoogleLoginController extends BaseController {
 
         private final DoGoogleLoginService service;
 
@@ -142,7 +142,7 @@ public final class DoLogin {
     }
 
     @Datasource
-    public static final class DoLoginDatasource {
+    public static class DoLoginDatasource {
 
         private final AccountRepository accountRepository;
 
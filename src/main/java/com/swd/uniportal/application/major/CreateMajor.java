@@ -9,6 +9,8 @@ import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.major.Department;
 import com.swd.uniportal.domain.major.Major;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.DepartmentRepository;
 import com.swd.uniportal.infrastructure.repository.MajorRepository;
@@ -157,6 +159,7 @@ public class CreateMajor {
         private final MajorRepository majorRepository;
         private final AccountRepository accountRepository;
         private final DepartmentRepository departmentRepository;
+        private final SearchIndexes searchIndexes;
 
         public Optional<Department> getDepartmentById(Long id){
             return departmentRepository.findById(id);
@@ -170,7 +173,9 @@ public class CreateMajor {
         }
 
         public Major persist(Major major) {
-            return majorRepository.save(major);
+            Major saved = majorRepository.save(major);
+            searchIndexes.put(SearchTarget.MAJOR, saved.getId(), saved.getName());
+            return saved;
         }
     }
 }
@@ -4,6 +4,10 @@ import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.major.Major;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.MajorRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,7 +37,7 @@ public class DeleteMajorById {
     @RestController
     @Tag(name = "majors")
     @AllArgsConstructor
-    public static final class DeleteMajorController extends BaseController {
+    public static class DeleteMajorController extends BaseController {
 
         private final DeleteMajorService service;
 
@@ -77,9 +81,13 @@ public class DeleteMajorById {
     public static class DeleteMajorDatasource {
 
         private final MajorRepository majorRepository;
+        private final SearchIndexes searchIndexes;
+        private final ResponseCache responseCache;
 
         public void deleteMajor(Major major) {
             majorRepository.delete(major);
+            searchIndexes.remove(SearchTarget.MAJOR, major.getId());
+            responseCache.purge(CachedEntity.MAJOR, major.getId());
         }
 
         public Optional<Major> findById(Long id) {
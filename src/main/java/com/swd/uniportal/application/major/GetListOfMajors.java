@@ -1,20 +1,26 @@
 package com.swd.uniportal.application.major;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.core.types.Projections;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.application.major.dto.DepartmentDto;
-import com.swd.uniportal.domain.major.Major;
 import com.swd.uniportal.domain.major.QMajor;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.paging.Cursor;
+import com.swd.uniportal.infrastructure.common.paging.Keyset;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
+import com.swd.uniportal.infrastructure.common.paging.exception.InvalidCursorException;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -31,12 +37,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class GetListOfMajors {
 
     @Builder
-    public record GetMajorsRequest(String search, SortOrder sortOrder, Long page, boolean all) {
+    public record GetMajorsRequest(String search, SortOrder sortOrder, Long page, boolean all, boolean count,
+                                   Cursor cursor) {
     }
 
     @Builder
     public record MajorsResponse(Long page, Long totalPages, Long pageSize, Long currentPageSize,
-                                 List<MajorResponse> majors) {
+                                 List<MajorResponse> majors, String nextCursor) {
     }
 
     @Builder
@@ -45,7 +52,7 @@ public class GetListOfMajors {
 
     @RestController
     @Tag(name = "majors")
-    public static final class GetListOfMajorsController extends BaseController {
+    public static class GetListOfMajorsController extends BaseController {
 
         private final GetListOfMajorsService service;
 
@@ -83,7 +90,9 @@ public class GetListOfMajors {
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
                 @RequestParam(name = "page", defaultValue = "1") Long page,
-                @RequestParam(name = "all", defaultValue = "false") boolean all) {
+                @RequestParam(name = "all", defaultValue = "false") boolean all,
+                @RequestParam(name = "cursor", required = false) String cursor,
+                @RequestParam(name = "count", defaultValue = "true") boolean count) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
@@ -94,8 +103,12 @@ public class GetListOfMajors {
                         .sortOrder(sortOrder)
                         .page(page)
                         .all(all)
+                        .count(count)
+                        .cursor(Cursor.decode(cursor))
                         .build());
                 return ResponseEntity.ok(response);
+            } catch (InvalidCursorException e) {
+                return ResponseEntity.badRequest().body(new FailedResponse(List.of(e.getMessage())));
             } catch (Exception e) {
                 e.printStackTrace(System.err);
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
@@ -106,10 +119,7 @@ public class GetListOfMajors {
     }
 
     @Service
-    public static final class GetListOfMajorsService {
-
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
+    public static class GetListOfMajorsService {
 
         private final GetListOfMajorsDatasource datasource;
 
@@ -118,76 +128,52 @@ public class GetListOfMajors {
         }
 
         public MajorsResponse get(GetMajorsRequest request) {
-            List<Major> majors = datasource.getMajors(request);
-            long count = datasource.getCountOfMajors(request);
-            long totalPages = Math.ceilDiv(count, request.all() ? count : pageSize);
+            PagedResult<MajorResponse> majors = datasource.getMajors(request);
             return MajorsResponse.builder()
                     .page(request.page())
-                    .totalPages(totalPages)
-                    .pageSize(request.all() ? count : pageSize)
-                    .currentPageSize((long) majors.size())
-                    .majors(majors.stream()
-                            .map(major -> MajorResponse.builder()
-                                    .id(major.getId())
-                                    .name(major.getName())
-                                    .code(major.getCode())
-                                    .description(major.getDescription())
-                                    .department(DepartmentDto.builder()
-                                            .id(major.getDepartment().getId())
-                                            .name(major.getDepartment().getName())
-                                            .code(major.getDepartment().getCode())
-                                            .build())
-                                    .build())
-                            .toList())
+                    .totalPages(majors.totalPages())
+                    .pageSize(majors.pageSize())
+                    .currentPageSize(majors.currentPageSize())
+                    .majors(majors.content())
+                    .nextCursor(majors.nextCursor())
                     .build();
         }
     }
 
     @Datasource
-    public static final class GetListOfMajorsDatasource {
+    public static class GetListOfMajorsDatasource {
 
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final EntityManager entityManager;
-
-        public GetListOfMajorsDatasource(EntityManager entityManager) {
-            this.entityManager = entityManager;
-        }
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final SearchIndexes searchIndexes;
 
-        public List<Major> getMajors(GetMajorsRequest request) {
-            QMajor major = QMajor.major;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(major.name.containsIgnoreCase(request.search()));
-            }
-            if (Boolean.TRUE.equals(request.all())) {
-                return factory.selectFrom(major)
-                        .where(filters)
-                        .orderBy((request.sortOrder() == SortOrder.DESC) ? major.name.desc() : major.name.asc())
-                        .fetch();
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(major)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? major.name.desc() : major.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public GetListOfMajorsDatasource(PagedQueryExecutor pagedQueryExecutor, SearchIndexes searchIndexes) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.searchIndexes = searchIndexes;
         }
 
-        public long getCountOfMajors(GetMajorsRequest request) {
+        public PagedResult<MajorResponse> getMajors(GetMajorsRequest request) {
             QMajor major = QMajor.major;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
-                filters.and(major.name.containsIgnoreCase(request.search()));
+                filters.and(searchIndexes.matching(SearchTarget.MAJOR,
+                        major.id, major.foldedName, request.search()));
             }
-            return factory.selectFrom(major)
-                    .where(filters)
-                    .orderBy((request.sortOrder() == SortOrder.DESC) ? major.name.desc() : major.name.asc())
-                    .stream().count();
+            return pagedQueryExecutor.fetch(major, Projections.constructor(MajorResponse.class,
+                            major.id, major.name, major.code, major.description,
+                            Projections.constructor(DepartmentDto.class,
+                                    major.department.id, major.department.name, major.department.code)),
+                    filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .all(request.all())
+                            .count(request.count())
+                            .cursor(request.cursor())
+                            .build(),
+                    new Keyset(major.name, major.id, request.sortOrder()),
+                    m -> new Cursor(m.name(), m.id()));
         }
 
     }
@@ -32,7 +32,7 @@ public class GetMajorById {
     @RestController
     @Tag(name = "majors")
     @AllArgsConstructor
-    public static final class GetMajorByIdController extends BaseController {
+    public static class GetMajorByIdController extends BaseController {
 
         private final GetMajorByIdService service;
 
@@ -53,7 +53,7 @@ public class GetMajorById {
 
     @Service
     @AllArgsConstructor
-    public static final class GetMajorByIdService {
+    public static class GetMajorByIdService {
 
         private final GetMajorByIdDatasource datasource;
 
@@ -86,7 +86,7 @@ public class GetMajorById {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetMajorByIdDatasource {
+    public static class GetMajorByIdDatasource {
 
         private final MajorRepository majorRepository;
 
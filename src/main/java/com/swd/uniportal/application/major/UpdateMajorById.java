@@ -5,6 +5,10 @@ import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.major.Department;
 import com.swd.uniportal.domain.major.Major;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.DepartmentRepository;
 import com.swd.uniportal.infrastructure.repository.MajorRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -143,6 +147,8 @@ public class UpdateMajorById {
 
         private final MajorRepository majorRepository;
         private final DepartmentRepository departmentRepository;
+        private final SearchIndexes searchIndexes;
+        private final ResponseCache responseCache;
 
         public Optional<Major> findById(Long id) {
             return majorRepository.findById(id);
@@ -153,7 +159,10 @@ public class UpdateMajorById {
         }
 
         public Major update(Major major) {
-            return majorRepository.save(major);
+            Major saved = majorRepository.save(major);
+            searchIndexes.put(SearchTarget.MAJOR, saved.getId(), saved.getName());
+            responseCache.purge(CachedEntity.MAJOR, saved.getId());
+            return saved;
         }
     }
 }
@@ -9,6 +9,12 @@ import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.major.Department;
 import com.swd.uniportal.domain.major.School;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.DepartmentRepository;
 import com.swd.uniportal.infrastructure.repository.SchoolRepository;
@@ -158,6 +164,9 @@ public class CreateDepartment {
         private final DepartmentRepository departmentRepository;
         private final AccountRepository accountRepository;
         private final SchoolRepository schoolRepository;
+        private final SearchIndexes searchIndexes;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<School> getSchoolById(Long id) {
             return schoolRepository.findById(id);
@@ -171,7 +180,11 @@ public class CreateDepartment {
         }
 
         public Department persist(Department department) {
-            return departmentRepository.save(department);
+            Department saved = departmentRepository.save(department);
+            searchIndexes.put(SearchTarget.DEPARTMENT, saved.getId(), saved.getName());
+            referenceDataCache.invalidate(ReferenceData.DEPARTMENT);
+            responseCache.purgeAll(CachedEntity.DEPARTMENT);
+            return saved;
         }
     }
 }
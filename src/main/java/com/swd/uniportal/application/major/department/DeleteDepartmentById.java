@@ -4,6 +4,12 @@ import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.major.Department;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.DepartmentRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,7 +39,7 @@ public class DeleteDepartmentById {
     @RestController
     @Tag(name = "majors")
     @AllArgsConstructor
-    public static final class DeleteDepartmentController extends BaseController {
+    public static class DeleteDepartmentController extends BaseController {
 
         private final DeleteDepartmentService service;
 
@@ -76,9 +82,15 @@ public class DeleteDepartmentById {
     public static class DeleteDepartmentDatasource {
 
         private final DepartmentRepository departmentRepository;
+        private final SearchIndexes searchIndexes;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public void deleteDepartment(Department department) {
             departmentRepository.delete(department);
+            searchIndexes.remove(SearchTarget.DEPARTMENT, department.getId());
+            referenceDataCache.invalidate(ReferenceData.DEPARTMENT);
+            responseCache.purgeAll(CachedEntity.DEPARTMENT);
         }
 
         public Optional<Department> findById(Long id) {
@@ -37,7 +37,7 @@ public class GetDepartmentById {
     @RestController
     @Tag(name = "majors")
     @AllArgsConstructor
-    public static final class GetDepartmentByIdController extends BaseController {
+    public static class GetDepartmentByIdController extends BaseController {
 
         private final GetDepartmentByIdService service;
 
@@ -86,7 +86,7 @@ public class GetDepartmentById {
 
     @Service
     @AllArgsConstructor
-    public static final class GetDepartmentByIdService {
+    public static class GetDepartmentByIdService {
 
         private final GetDepartmentByIdDatasource datasource;
 
@@ -115,7 +115,7 @@ public class GetDepartmentById {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetDepartmentByIdDatasource {
+    public static class GetDepartmentByIdDatasource {
 
         private final DepartmentRepository departmentRepository;
 
@@ -1,20 +1,27 @@
 package com.swd.uniportal.application.major.department;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.core.types.Projections;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
-import com.swd.uniportal.domain.major.Department;
 import com.swd.uniportal.domain.major.QDepartment;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.DepartmentRepository;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -23,12 +30,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetListOfDepartments {
@@ -41,6 +49,7 @@ public class GetListOfDepartments {
         SortOrder sortOrder;
         Long page;
         boolean all;
+        boolean count;
     }
 
     @Builder
@@ -55,9 +64,10 @@ public class GetListOfDepartments {
     @RestController
     @Tag(name = "majors")
     @AllArgsConstructor
-    public static final class GetDepartmentsController extends BaseController {
+    public static class GetDepartmentsController extends BaseController {
 
         private final GetDepartmentsService service;
+        private final ResponseCache responseCache;
 
         @GetMapping("/majors/departments")
         @Operation(summary = "Get list of departments.")
@@ -97,19 +107,27 @@ public class GetListOfDepartments {
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
                 @RequestParam(name = "page", defaultValue = "1") Long page,
-                @RequestParam(name = "all", defaultValue = "false") boolean all) {
+                @RequestParam(name = "all", defaultValue = "false") boolean all,
+                @RequestParam(name = "count", defaultValue = "true") boolean count,
+                WebRequest webRequest) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
                             .of("Page must be positive (page > 0)")));
                 }
+                String entityTag = service.getEntityTag();
+                if (webRequest.checkNotModified(entityTag)) {
+                    return null;
+                }
                 DepartmentsResponse response = service.get(GetDepartmentsRequest.builder()
                         .search(StringUtils.trimToEmpty(search))
                         .sortOrder(sortOrder)
                         .page(page)
                         .all(all)
+                        .count(count)
                         .build());
-                return ResponseEntity.ok(response);
+                responseCache.tagAll(CachedEntity.DEPARTMENT);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
             } catch (Exception e) {
                 e.printStackTrace(System.err);
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
@@ -121,39 +139,30 @@ public class GetListOfDepartments {
     @Service
     public static class GetDepartmentsService {
 
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
-
         private final GetDepartmentsDatasource datasource;
+        private final ReferenceDataCache cache;
 
-        public GetDepartmentsService(GetDepartmentsDatasource datasource) {
+        public GetDepartmentsService(GetDepartmentsDatasource datasource, ReferenceDataCache cache) {
             this.datasource = datasource;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.DEPARTMENT, datasource::getEntityTag);
         }
 
         public DepartmentsResponse get(GetDepartmentsRequest request) {
-            List<Department> departments;
-            if (request.isAll()) {
-                Sort sort = Sort.by((request.sortOrder == SortOrder.ASC)
-                        ? Sort.Direction.ASC
-                        : Sort.Direction.DESC,
-                        "name");
-                departments = datasource.getAll(request.search, sort);
-            } else {
-                departments = datasource.getDepartments(request);
-            }
-            Long count = datasource.getCountOfDepartments(request);
-            long totalPages = (long) Math.ceil((double) count / pageSize);
+            return cache.get(ReferenceData.DEPARTMENT, request, () -> load(request));
+        }
+
+        private DepartmentsResponse load(GetDepartmentsRequest request) {
+            PagedResult<DepartmentResponse> departments = datasource.getDepartments(request);
             return DepartmentsResponse.builder()
                     .page(request.getPage())
-                    .currentPageSize((long) departments.size())
-                    .pageSize(request.isAll() ? count : pageSize)
-                    .totalPages(request.isAll() ? 1 : totalPages)
-                    .departments(departments.stream().map(department -> DepartmentResponse.builder()
-                            .id(department.getId())
-                            .name(department.getName())
-                            .code(department.getCode())
-                            .description(department.getDescription())
-                            .build()).toList())
+                    .currentPageSize(departments.currentPageSize())
+                    .pageSize(departments.pageSize())
+                    .totalPages(departments.totalPages())
+                    .departments(departments.content())
                     .build();
         }
 
@@ -165,49 +174,39 @@ public class GetListOfDepartments {
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final DepartmentRepository departmentRepository;
-        private final EntityManager entityManager;
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final SearchIndexes searchIndexes;
+        private final EntityTags entityTags;
 
         public GetDepartmentsDatasource(
-                DepartmentRepository departmentRepository,
-                EntityManager entityManager) {
-            this.departmentRepository = departmentRepository;
-            this.entityManager = entityManager;
+                PagedQueryExecutor pagedQueryExecutor,
+                SearchIndexes searchIndexes,
+                EntityTags entityTags) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.searchIndexes = searchIndexes;
+            this.entityTags = entityTags;
         }
 
-        @SuppressWarnings("Duplicates")
-        public List<Department> getDepartments(GetDepartmentsRequest request) {
-            QDepartment department = QDepartment.department;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(department.name.containsIgnoreCase(request.getSearch()));
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(department)
-                    .where(filters)
-                    .orderBy((request.getSortOrder() == SortOrder.DESC) ? department.name.desc() : department.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public String getEntityTag() {
+            return entityTags.ofTables(QDepartment.department);
         }
 
-        @SuppressWarnings("Duplicates")
-        public Long getCountOfDepartments(GetDepartmentsRequest request) {
+        public PagedResult<DepartmentResponse> getDepartments(GetDepartmentsRequest request) {
             QDepartment department = QDepartment.department;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
-                filters.and(department.name.containsIgnoreCase(request.getSearch()));
+                filters.and(searchIndexes.matching(SearchTarget.DEPARTMENT,
+                        department.id, department.foldedName, request.getSearch()));
             }
-            return factory.selectFrom(department)
-                    .where(filters)
-                    .orderBy((request.getSortOrder() == SortOrder.DESC) ? department.name.desc() : department.name.asc())
-                    .stream().count();
-        }
-
-        public List<Department> getAll(String search, Sort sort) {
-            return departmentRepository.getAllBySearchOrdered(search, sort);
+            return pagedQueryExecutor.fetch(department, Projections.constructor(DepartmentResponse.class,
+                            department.id, department.name, department.code, department.description),
+                    filters, PageSpec.builder()
+                            .page(request.getPage())
+                            .pageSize(pageSize)
+                            .all(request.isAll())
+                            .count(request.isCount())
+                            .build(),
+                    (request.getSortOrder() == SortOrder.DESC) ? department.name.desc() : department.name.asc());
         }
     }
 
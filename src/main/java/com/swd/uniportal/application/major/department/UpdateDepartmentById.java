@@ -5,6 +5,12 @@ import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.major.Department;
 import com.swd.uniportal.domain.major.School;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.search.SearchIndexes;
+import com.swd.uniportal.infrastructure.common.search.SearchTarget;
 import com.swd.uniportal.infrastructure.repository.DepartmentRepository;
 import com.swd.uniportal.infrastructure.repository.SchoolRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -143,6 +149,9 @@ public class UpdateDepartmentById {
 
         private final DepartmentRepository departmentRepository;
         private final SchoolRepository schoolRepository;
+        private final SearchIndexes searchIndexes;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<Department> findById(Long id) {
             return departmentRepository.findById(id);
@@ -153,7 +162,11 @@ public class UpdateDepartmentById {
         }
 
         public Department update(Department department) {
-            return departmentRepository.save(department);
+            Department saved = departmentRepository.save(department);
+            searchIndexes.put(SearchTarget.DEPARTMENT, saved.getId(), saved.getName());
+            referenceDataCache.invalidate(ReferenceData.DEPARTMENT);
+            responseCache.purgeAll(CachedEntity.DEPARTMENT);
+            return saved;
         }
     }
 }
@@ -1,10 +1,12 @@
 package com.swd.uniportal.application.major.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public final class DepartmentDto {
 
     private Long id;
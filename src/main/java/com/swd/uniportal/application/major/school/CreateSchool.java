@@ -8,6 +8,10 @@ import com.swd.uniportal.application.major.exception.DuplicatedCodeException;
 import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.major.School;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.AccountRepository;
 import com.swd.uniportal.infrastructure.repository.SchoolRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -150,6 +154,8 @@ public class CreateSchool {
 
         private final SchoolRepository schoolRepository;
         private final AccountRepository accountRepository;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<Account> getAccountById(Long id) {
             return accountRepository.findById(id);
@@ -160,7 +166,10 @@ public class CreateSchool {
         }
 
         public School persist(School school) {
-            return schoolRepository.save(school);
+            School saved = schoolRepository.save(school);
+            referenceDataCache.invalidate(ReferenceData.SCHOOL);
+            responseCache.purgeAll(CachedEntity.SCHOOL);
+            return saved;
         }
     }
 
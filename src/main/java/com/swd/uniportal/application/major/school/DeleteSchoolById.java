@@ -4,6 +4,10 @@ import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.major.School;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.DepartmentRepository;
 import com.swd.uniportal.infrastructure.repository.MajorRepository;
 import com.swd.uniportal.infrastructure.repository.SchoolRepository;
@@ -35,7 +39,7 @@ public class DeleteSchoolById {
     @RestController
     @Tag(name = "majors")
     @AllArgsConstructor
-    public static final class DeleteSchoolController extends BaseController {
+    public static class DeleteSchoolController extends BaseController {
 
         private final DeleteSchoolService service;
 
@@ -81,9 +85,13 @@ public class DeleteSchoolById {
         private final SchoolRepository schoolRepository;
         private final DepartmentRepository departmentRepository;
         private final MajorRepository majorRepository;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public void deleteSchool(School school) {
             schoolRepository.delete(school);
+            referenceDataCache.invalidate(ReferenceData.SCHOOL, ReferenceData.DEPARTMENT);
+            responseCache.purgeAll(CachedEntity.SCHOOL, CachedEntity.DEPARTMENT);
         }
 
         public Optional<School> findById(Long id) {
@@ -1,20 +1,25 @@
 package com.swd.uniportal.application.major.school;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.core.types.Projections;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.major.QSchool;
-import com.swd.uniportal.domain.major.School;
 import com.swd.uniportal.infrastructure.common.SortOrder;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
-import com.swd.uniportal.infrastructure.repository.SchoolRepository;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
+import com.swd.uniportal.infrastructure.common.paging.PageSpec;
+import com.swd.uniportal.infrastructure.common.paging.PagedQueryExecutor;
+import com.swd.uniportal.infrastructure.common.paging.PagedResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.EntityManager;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -22,17 +27,19 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetListOfSchools {
 
     @Builder
-    public record GetSchoolsRequest(String search, SortOrder sortOrder, Long page) {
+    public record GetSchoolsRequest(String search, SortOrder sortOrder, Long page, boolean count) {
     }
 
     @Builder
@@ -46,9 +53,10 @@ public class GetListOfSchools {
     @RestController
     @Tag(name = "majors")
     @AllArgsConstructor
-    public static final class GetSchoolsController extends BaseController {
+    public static class GetSchoolsController extends BaseController {
 
         private final GetSchoolsService service;
+        private final ResponseCache responseCache;
 
         @GetMapping("/majors/departments/schools")
         @Operation(summary = "Get list of schools.")
@@ -87,18 +95,26 @@ public class GetListOfSchools {
         public ResponseEntity<Object> get(
                 @RequestParam(name = "search", required = false) String search,
                 @RequestParam(name = "sort", defaultValue = "ASC") SortOrder sortOrder,
-                @RequestParam(name = "page", defaultValue = "1") Long page) {
+                @RequestParam(name = "page", defaultValue = "1") Long page,
+                @RequestParam(name = "count", defaultValue = "true") boolean count,
+                WebRequest webRequest) {
             try {
                 if (page < 1) {
                     return ResponseEntity.badRequest().body(new FailedResponse(List
                             .of("Page must be positive (page > 0)")));
                 }
+                String entityTag = service.getEntityTag();
+                if (webRequest.checkNotModified(entityTag)) {
+                    return null;
+                }
                 SchoolsResponse response =  service.get(GetSchoolsRequest.builder()
                                 .search(StringUtils.trimToNull(search))
                                 .sortOrder(sortOrder)
                                 .page(page)
+                                .count(count)
                         .build());
-                return ResponseEntity.ok(response);
+                responseCache.tagAll(CachedEntity.SCHOOL);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
             } catch (Exception e) {
                 e.printStackTrace(System.err);
                 return ResponseEntity.internalServerError().body(new FailedResponse(List
@@ -110,29 +126,30 @@ public class GetListOfSchools {
     @Service
     public static class GetSchoolsService {
 
-        @Value("${uniportal.pagination.size}")
-        private Long pageSize;
-
         private final GetSchoolsDatasource datasource;
+        private final ReferenceDataCache cache;
 
-        public GetSchoolsService(GetSchoolsDatasource datasource) {
+        public GetSchoolsService(GetSchoolsDatasource datasource, ReferenceDataCache cache) {
             this.datasource = datasource;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.SCHOOL, datasource::getEntityTag);
         }
 
         public SchoolsResponse get(GetSchoolsRequest request) {
-            List<School> schools = datasource.getSchools(request);
-            Long totalPages = (long) Math.ceil((double) datasource.getCountOfSchools(request) / pageSize);
+            return cache.get(ReferenceData.SCHOOL, request, () -> load(request));
+        }
+
+        private SchoolsResponse load(GetSchoolsRequest request) {
+            PagedResult<SchoolResponse> schools = datasource.getSchools(request);
             return SchoolsResponse.builder()
                     .page(request.page())
-                    .currentPageSize((long) schools.size())
-                    .pageSize(pageSize)
-                    .totalPages(totalPages)
-                    .schools(schools.stream().map(school -> SchoolResponse.builder()
-                            .id(school.getId())
-                            .name(school.getName())
-                            .code(school.getCode())
-                            .description(school.getDescription())
-                            .build()).toList())
+                    .currentPageSize(schools.currentPageSize())
+                    .pageSize(schools.pageSize())
+                    .totalPages(schools.totalPages())
+                    .schools(schools.content())
                     .build();
         }
 
@@ -144,41 +161,32 @@ public class GetListOfSchools {
         @Value("${uniportal.pagination.size}")
         private Long pageSize;
 
-        private final SchoolRepository schoolRepository;
-        private final EntityManager entityManager;
+        private final PagedQueryExecutor pagedQueryExecutor;
+        private final EntityTags entityTags;
 
-        public GetSchoolsDatasource(SchoolRepository schoolRepository, EntityManager entityManager) {
-            this.schoolRepository = schoolRepository;
-            this.entityManager = entityManager;
+        public GetSchoolsDatasource(PagedQueryExecutor pagedQueryExecutor, EntityTags entityTags) {
+            this.pagedQueryExecutor = pagedQueryExecutor;
+            this.entityTags = entityTags;
         }
 
-        public List<School> getSchools(GetSchoolsRequest request) {
-            QSchool school = QSchool.school;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
-            BooleanBuilder filters = new BooleanBuilder();
-            if (StringUtils.isNotBlank(request.search)) {
-                filters.and(school.name.containsIgnoreCase(request.search()));
-            }
-            int offset = (int) ((request.page - 1) * pageSize);
-            return factory.selectFrom(school)
-                    .where(filters)
-                    .orderBy((request.sortOrder == SortOrder.DESC) ? school.name.desc() : school.name.asc())
-                    .offset(offset)
-                    .limit(pageSize)
-                    .fetch();
+        public String getEntityTag() {
+            return entityTags.ofTables(QSchool.school);
         }
 
-        public Long getCountOfSchools(GetSchoolsRequest request) {
+        public PagedResult<SchoolResponse> getSchools(GetSchoolsRequest request) {
             QSchool school = QSchool.school;
-            JPAQueryFactory factory = new JPAQueryFactory(entityManager);
             BooleanBuilder filters = new BooleanBuilder();
             if (StringUtils.isNotBlank(request.search)) {
                 filters.and(school.name.containsIgnoreCase(request.search()));
             }
-            return factory.selectFrom(school)
-                    .where(filters)
-                    .orderBy((request.sortOrder == SortOrder.DESC) ? school.name.desc() : school.name.asc())
-                    .stream().count();
+            return pagedQueryExecutor.fetch(school, Projections.constructor(SchoolResponse.class,
+                            school.id, school.name, school.code, school.description),
+                    filters, PageSpec.builder()
+                            .page(request.page())
+                            .pageSize(pageSize)
+                            .count(request.count())
+                            .build(),
+                    (request.sortOrder == SortOrder.DESC) ? school.name.desc() : school.name.asc());
         }
 
     }
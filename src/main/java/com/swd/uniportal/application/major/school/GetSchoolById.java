@@ -37,7 +37,7 @@ public class GetSchoolById {
     @RestController
     @Tag(name = "majors")
     @AllArgsConstructor
-    public static final class GetSchoolByIdController extends BaseController {
+    public static class GetSchoolByIdController extends BaseController {
 
         private final GetSchoolByIdService service;
 
@@ -86,7 +86,7 @@ public class GetSchoolById {
 
     @Service
     @AllArgsConstructor
-    public static final class GetSchoolByIdService {
+    public static class GetSchoolByIdService {
 
         private final GetSchoolByIdDatasource datasource;
 
@@ -116,7 +116,7 @@ public class GetSchoolById {
 
     @Datasource
     @AllArgsConstructor
-    public static final class GetSchoolByIdDatasource {
+    public static class GetSchoolByIdDatasource {
 
         private final SchoolRepository schoolRepository;
 
@@ -4,6 +4,10 @@ import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.domain.major.School;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
 import com.swd.uniportal.infrastructure.repository.SchoolRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -131,13 +135,18 @@ public class UpdateSchoolById {
     public static class UpdateSchoolDatasource {
 
         private final SchoolRepository schoolRepository;
+        private final ReferenceDataCache referenceDataCache;
+        private final ResponseCache responseCache;
 
         public Optional<School> findById(Long id) {
             return schoolRepository.findById(id);
         }
 
         public School update(School school) {
-            return schoolRepository.save(school);
+            School saved = schoolRepository.save(school);
+            referenceDataCache.invalidate(ReferenceData.SCHOOL);
+            responseCache.purgeAll(CachedEntity.SCHOOL);
+            return saved;
         }
     }
 }
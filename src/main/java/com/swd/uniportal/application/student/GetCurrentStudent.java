@@ -32,7 +32,7 @@ public final class GetCurrentStudent {
 
     @RestController
     @Tag(name = "students")
-    public static final class GetCurrentStudentController extends BaseController {
+    public static class GetCurrentStudentController extends BaseController {
 
         private final GetCurrentStudentService service;
 
@@ -74,7 +74,7 @@ public final class GetCurrentStudent {
     }
 
     @Service
-    public static final class GetCurrentStudentService {
+    public static class GetCurrentStudentService {
 
         private final GetCurrentStudentDatasource datasource;
         private final CustomSecurityUtils customSecurityUtils;
@@ -104,7 +104,7 @@ public final class GetCurrentStudent {
     }
 
     @Datasource
-    public static final class GetCurrentStudentDatasource {
+    public static class GetCurrentStudentDatasource {
 
         private final StudentRepository studentRepository;
 
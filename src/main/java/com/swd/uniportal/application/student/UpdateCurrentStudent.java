@@ -39,7 +39,7 @@ public final class UpdateCurrentStudent {
 
     @RestController
     @Tag(name = "students")
-    public static final class UpdateCurrentStudentController extends BaseController {
+    public static class UpdateCurrentStudentController extends BaseController {
 
         private final UpdateCurrentStudentService service;
 
@@ -102,7 +102,7 @@ public final class UpdateCurrentStudent {
     }
 
     @Service
-    public static final class UpdateCurrentStudentService {
+    public static class UpdateCurrentStudentService {
 
         private final UpdateCurrentStudentDatasource datasource;
         private final CustomSecurityUtils customSecurityUtils;
@@ -134,13 +134,13 @@ public final class UpdateCurrentStudent {
             student.setBirthDate(request.getBirthDate());
             student.setPhone(StringUtils.trim(request.getPhone()));
             student.setHighSchool(highSchool);
-            student = datasource.save(student);
+            datasource.save(student);
             return mapper.toDto(student);
         }
     }
 
     @Datasource
-    public static final class UpdateCurrentStudentDatasource {
+    public static class UpdateCurrentStudentDatasource {
 
         private final StudentRepository studentRepository;
         private final HighSchoolRepository highSchoolRepository;
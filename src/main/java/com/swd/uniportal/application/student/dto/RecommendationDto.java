@@ -0,0 +1,26 @@
+package com.swd.uniportal.application.student.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public final class RecommendationDto {
+
+    private Long rank;
+    private Boolean eligible;
+    private Float total;
+    private String subjectGroupCode;
+    private Long admissionMajorMethodId;
+    private String admissionMajorMethodName;
+    private String admissionMethodCode;
+    private Long admissionMajorId;
+    private String admissionMajorName;
+    private Integer quota;
+    private String majorCode;
+    private String majorName;
+    private Long admissionPlanId;
+    private String admissionPlanName;
+    private Long institutionId;
+    private String institutionName;
+}
@@ -0,0 +1,18 @@
+package com.swd.uniportal.application.student.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public final class RecommendationsDto {
+
+    private Integer year;
+    private Long page;
+    private Long totalPages;
+    private Long pageSize;
+    private Long size;
+    private Long eligible;
+    private List<RecommendationDto> recommendations;
+}
@@ -0,0 +1,13 @@
+package com.swd.uniportal.application.student.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public final class SubjectGroupScoreDto {
+
+    private Long subjectGroupId;
+    private String subjectGroupCode;
+    private Float total;
+}
@@ -0,0 +1,13 @@
+package com.swd.uniportal.application.student.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public final class SubjectGroupScoresDto {
+
+    private Integer size;
+    private List<SubjectGroupScoreDto> scores;
+}
@@ -0,0 +1,255 @@
+package com.swd.uniportal.application.student.recommendation;
+
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog;
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog.MajorMethodEntry;
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog.PlanEntry;
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog.Snapshot;
+import com.swd.uniportal.application.admission.catalog.AdmissionCatalog.SubjectGroupEntry;
+import com.swd.uniportal.application.common.BaseController;
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.application.common.exception.AccountNotFoundException;
+import com.swd.uniportal.application.student.dto.RecommendationDto;
+import com.swd.uniportal.application.student.dto.RecommendationsDto;
+import com.swd.uniportal.domain.account.Account;
+import com.swd.uniportal.domain.student.StudentRecord;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.config.security.CustomSecurityUtils;
+import com.swd.uniportal.infrastructure.repository.StudentRecordRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GetCurrentStudentRecommendations {
+
+    @RestController
+    @Tag(name = "students")
+    @AllArgsConstructor
+    public static class GetCurrentStudentRecommendationsController extends BaseController {
+
+        private final GetCurrentStudentRecommendationsService service;
+
+        @GetMapping("/students/current/recommendations")
+        @Operation(summary = "Rank admission major methods of a year by the current student's marks.")
+        @ApiResponse(
+                responseCode = "200",
+                description = "Ranked.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = RecommendationsDto.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid parameters.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "404",
+                description = "Student not found.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public ResponseEntity<Object> get(
+                @RequestParam(name = "year") Integer year,
+                @RequestParam(name = "page", defaultValue = "1") Long page,
+                @RequestParam(name = "eligibleOnly", defaultValue = "true") Boolean eligibleOnly) {
+            if (Objects.isNull(year) || year < 2000 || year > 9999) {
+                return ResponseEntity.badRequest()
+                        .body(new FailedResponse(List.of("Year must be between 2000 and 9999.")));
+            }
+            Long pageToUse = page;
+            if (Objects.isNull(pageToUse) || pageToUse < 1) {
+                pageToUse = 1L;
+            }
+            try {
+                RecommendationsDto response = service.get(year, pageToUse, Boolean.TRUE.equals(eligibleOnly));
+                return ResponseEntity.ok(response);
+            } catch (AccountNotFoundException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new FailedResponse(List.of("Student not found")));
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError()
+                        .body(new FailedResponse(List.of("Server error.")));
+            }
+        }
+    }
+
+    /**
+     * Scores the student once per subject group (a group counts only when the student has a mark
+     * for every subject in it), then gives every major method the best total among the groups it
+     * accepts. Plans are evaluated in parallel against the cached catalog of the year.
+     */
+    @Service
+    public static class GetCurrentStudentRecommendationsService {
+
+        private static final Comparator<Scored> RANKING = Comparator
+                .comparing(Scored::eligible).reversed()
+                .thenComparing(Scored::total, Comparator.reverseOrder())
+                .thenComparing(scored -> scored.method().quota(), Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(scored -> scored.method().id());
+
+        private final GetCurrentStudentRecommendationsDatasource datasource;
+        private final CustomSecurityUtils customSecurityUtils;
+        private final Long pageSize;
+
+        public GetCurrentStudentRecommendationsService(
+                GetCurrentStudentRecommendationsDatasource datasource,
+                CustomSecurityUtils customSecurityUtils,
+                @Value("${uniportal.pagination.size}") Long pageSize) {
+            this.datasource = datasource;
+            this.customSecurityUtils = customSecurityUtils;
+            this.pageSize = pageSize;
+        }
+
+        public RecommendationsDto get(Integer year, Long page, boolean eligibleOnly)
+                throws AccountNotFoundException {
+            Account currentAccount = customSecurityUtils.getCurrentAccount();
+            if (Objects.isNull(currentAccount)) {
+                throw new AccountNotFoundException("Current student account not found.");
+            }
+            Snapshot catalog = datasource.getCatalog(year);
+            float[] groupTotals = groupTotals(catalog.subjectGroups(), datasource.getRecords(currentAccount.getId()));
+            List<Scored> ranked = catalog.plans().parallelStream()
+                    .flatMap(plan -> evaluate(plan, groupTotals))
+                    .filter(scored -> !eligibleOnly || scored.eligible())
+                    .sorted(RANKING)
+                    .toList();
+            long eligible = eligibleOnly
+                    ? ranked.size()
+                    : ranked.stream().filter(Scored::eligible).count();
+            int from = (int) Math.min(ranked.size(), (page - 1) * pageSize);
+            int to = (int) Math.min(ranked.size(), from + pageSize);
+            List<RecommendationDto> recommendations = IntStream.range(from, to)
+                    .mapToObj(index -> toDto(ranked.get(index), catalog, index + 1L))
+                    .toList();
+            return RecommendationsDto.builder()
+                    .year(year)
+                    .page(page)
+                    .totalPages((ranked.size() + pageSize - 1) / pageSize)
+                    .pageSize(pageSize)
+                    .size((long) recommendations.size())
+                    .eligible(eligible)
+                    .recommendations(recommendations)
+                    .build();
+        }
+
+        private static float[] groupTotals(List<SubjectGroupEntry> subjectGroups, List<StudentRecord> records) {
+            BitSet recorded = new BitSet();
+            float[] marks = new float[records.stream()
+                    .mapToInt(studentRecord -> Math.toIntExact(studentRecord.getSubject().getId()) + 1)
+                    .max()
+                    .orElse(0)];
+            for (StudentRecord studentRecord : records) {
+                int subject = Math.toIntExact(studentRecord.getSubject().getId());
+                recorded.set(subject);
+                marks[subject] = studentRecord.getMark();
+            }
+            float[] totals = new float[subjectGroups.size()];
+            for (int group = 0; group < totals.length; group++) {
+                BitSet subjects = subjectGroups.get(group).subjects();
+                float total = subjects.isEmpty() ? Float.NaN : 0f;
+                for (int subject = subjects.nextSetBit(0); subject >= 0; subject = subjects.nextSetBit(subject + 1)) {
+                    if (!recorded.get(subject)) {
+                        total = Float.NaN;
+                        break;
+                    }
+                    total += marks[subject];
+                }
+                totals[group] = total;
+            }
+            return totals;
+        }
+
+        private static Stream<Scored> evaluate(PlanEntry plan, float[] groupTotals) {
+            return plan.majorMethods().stream().map(method -> {
+                int bestGroup = -1;
+                for (int group : method.subjectGroups()) {
+                    if (!Float.isNaN(groupTotals[group])
+                            && (bestGroup < 0 || groupTotals[group] > groupTotals[bestGroup])) {
+                        bestGroup = group;
+                    }
+                }
+                return new Scored(plan, method, bestGroup, bestGroup < 0 ? 0f : groupTotals[bestGroup]);
+            });
+        }
+
+        private static RecommendationDto toDto(Scored scored, Snapshot catalog, Long rank) {
+            MajorMethodEntry method = scored.method();
+            return RecommendationDto.builder()
+                    .rank(rank)
+                    .eligible(scored.eligible())
+                    .total(scored.eligible() ? scored.total() : null)
+                    .subjectGroupCode(scored.eligible()
+                            ? catalog.subjectGroups().get(scored.subjectGroup()).code()
+                            : null)
+                    .admissionMajorMethodId(method.id())
+                    .admissionMajorMethodName(method.name())
+                    .admissionMethodCode(method.admissionMethodCode())
+                    .admissionMajorId(method.admissionMajorId())
+                    .admissionMajorName(method.admissionMajorName())
+                    .quota(method.quota())
+                    .majorCode(method.majorCode())
+                    .majorName(method.majorName())
+                    .admissionPlanId(scored.plan().id())
+                    .admissionPlanName(scored.plan().name())
+                    .institutionId(scored.plan().institutionId())
+                    .institutionName(scored.plan().institutionName())
+                    .build();
+        }
+
+        private record Scored(PlanEntry plan, MajorMethodEntry method, int subjectGroup, float total) {
+
+            private boolean eligible() {
+                return subjectGroup >= 0;
+            }
+        }
+    }
+
+    @Datasource
+    @AllArgsConstructor
+    public static class GetCurrentStudentRecommendationsDatasource {
+
+        private final StudentRecordRepository studentRecordRepository;
+        private final AdmissionCatalog admissionCatalog;
+
+        public List<StudentRecord> getRecords(Long accountId) {
+            return studentRecordRepository.getByAccount(accountId);
+        }
+
+        public Snapshot getCatalog(Integer year) {
+            return admissionCatalog.get(year);
+        }
+    }
+}
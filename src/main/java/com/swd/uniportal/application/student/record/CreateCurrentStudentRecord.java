@@ -9,6 +9,7 @@ import com.swd.uniportal.application.student.dto.CreateStudentRecordDto;
 import com.swd.uniportal.application.student.dto.StudentRecordDto;
 import com.swd.uniportal.application.student.exception.StudentNotFoundException;
 import com.swd.uniportal.application.student.exception.SubjectNotFoundException;
+import com.swd.uniportal.application.student.score.SubjectGroupScores;
 import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.student.Student;
 import com.swd.uniportal.domain.student.StudentRecord;
@@ -26,6 +27,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.net.URI;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
@@ -122,11 +124,12 @@ public class CreateCurrentStudentRecord {
             Student student = datasource.findStudent(currentAccount.getId());
             Subject subject = datasource.findSubject(request.getSubjectId());
 
-            StudentRecord studentRecord = StudentRecord.builder()
-                    .mark(request.getMark())
-                    .student(student)
-                    .subject(subject)
-                    .build();
+            StudentRecord studentRecord = datasource.findRecord(student.getId(), subject.getId())
+                    .orElseGet(() -> StudentRecord.builder()
+                            .student(student)
+                            .subject(subject)
+                            .build());
+            studentRecord.setMark(request.getMark());
 
             studentRecord = datasource.persist(studentRecord);
 
@@ -141,6 +144,7 @@ public class CreateCurrentStudentRecord {
         private final StudentRecordRepository studentRecordRepository;
         private final StudentRepository studentRepository;
         private final SubjectRepository subjectRepository;
+        private final SubjectGroupScores subjectGroupScores;
 
         public Student findStudent(Long id) throws StudentNotFoundException {
             return studentRepository.findByAccount(id)
@@ -152,8 +156,14 @@ public class CreateCurrentStudentRecord {
                     .orElseThrow(() -> new SubjectNotFoundException("Subject not found"));
         }
 
+        public Optional<StudentRecord> findRecord(Long studentId, Long subjectId) {
+            return studentRecordRepository.getByStudentAndSubject(studentId, subjectId);
+        }
+
         public StudentRecord persist(StudentRecord studentRecord) {
-            return studentRecordRepository.save(studentRecord);
+            StudentRecord saved = studentRecordRepository.save(studentRecord);
+            subjectGroupScores.refresh(saved.getStudent().getId(), List.of(saved.getSubject().getId()));
+            return saved;
         }
     }
 }
@@ -5,6 +5,7 @@ import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.application.common.exception.AccountNotFoundException;
 import com.swd.uniportal.application.student.exception.CurrentAccountDoesNotHaveStudentRecordException;
 import com.swd.uniportal.application.student.exception.StudentRecordNotFoundException;
+import com.swd.uniportal.application.student.score.SubjectGroupScores;
 import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
 import com.swd.uniportal.infrastructure.config.security.CustomSecurityUtils;
@@ -109,9 +110,14 @@ public class DeleteCurrentStudentRecord {
     public static class DeleteStudentRecordDatasource {
 
         private final StudentRecordRepository studentRecordRepository;
+        private final SubjectGroupScores subjectGroupScores;
 
         public void delete(Long id) {
-            studentRecordRepository.deleteById(id);
+            studentRecordRepository.findById(id).ifPresent(studentRecord -> {
+                studentRecordRepository.delete(studentRecord);
+                subjectGroupScores.refresh(studentRecord.getStudent().getId(),
+                        List.of(studentRecord.getSubject().getId()));
+            });
         }
 
         public boolean studentRecordDoesNotExist(Long id) {
@@ -11,13 +11,13 @@ import com.swd.uniportal.application.student.dto.UpdatedStudentRecordDto;
 import com.swd.uniportal.application.student.exception.StudentNotFoundException;
 import com.swd.uniportal.application.student.exception.StudentRecordNotFoundException;
 import com.swd.uniportal.application.student.exception.SubjectNotFoundException;
+import com.swd.uniportal.application.student.score.SubjectGroupScores;
 import com.swd.uniportal.domain.account.Account;
 import com.swd.uniportal.domain.student.Student;
 import com.swd.uniportal.domain.student.StudentRecord;
 import com.swd.uniportal.domain.subject.Subject;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
 import com.swd.uniportal.infrastructure.config.security.CustomSecurityUtils;
-import com.swd.uniportal.infrastructure.repository.StudentRecordRepository;
 import com.swd.uniportal.infrastructure.repository.StudentRepository;
 import com.swd.uniportal.infrastructure.repository.SubjectRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,12 +27,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityManager;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -99,17 +101,14 @@ public class UpdateCurrentStudentRecord {
         )
         public ResponseEntity<Object> updateStudentRecord(
                 @RequestBody List<UpdatedStudentRecordDto> request) {
-            List<String> violations = new ArrayList<>();
-            List<String> finalViolations = violations;
-            request.forEach(sr -> finalViolations.addAll(CustomValidation.validate(sr)));
-            violations = violations.stream().distinct().toList();
+            List<String> violations = CustomValidation.validateAll(request);
             if (!violations.isEmpty()) {
                 return ResponseEntity.badRequest().body(new FailedResponse(violations));
             }
             try {
                 StudentRecordsDto response =  service.update(request);
                 return ResponseEntity.ok(response);
-            } catch (StudentNotFoundException | SubjectNotFoundException e) {
+            } catch (StudentNotFoundException | SubjectNotFoundException | StudentRecordNotFoundException e) {
                 return ResponseEntity.badRequest().body(new FailedResponse(List.of(e.getMessage())));
             } catch (Exception e) {
                 return ResponseEntity.internalServerError()
@@ -137,55 +136,59 @@ public class UpdateCurrentStudentRecord {
             if (Objects.isNull(currentAccount)) {
                 throw new AccountNotFoundException("Current student account not found.");
             }
-            Student student = datasource.getStudentByAccount(currentAccount.getId())
+            Student student = datasource.getStudentWithRecords(currentAccount.getId())
                     .orElseThrow(() -> new StudentNotFoundException("Cannot get current student account."));
+            Map<Long, Subject> subjects = datasource.getSubjects(request.stream()
+                    .map(UpdatedStudentRecordDto::getSubjectId)
+                    .collect(Collectors.toSet()));
+            Map<Long, StudentRecord> currentRecords = student.getStudentRecords().stream()
+                    .collect(Collectors.toMap(StudentRecord::getId, Function.identity()));
 
-            //remove
             Set<Long> updatedRecordIds = new HashSet<>();
             for (UpdatedStudentRecordDto updatedRecord : request) {
-                updatedRecordIds.add(updatedRecord.getId());
-            }
-
-            List<StudentRecord> recordsToRemove = new ArrayList<>();
-            for (StudentRecord studentRecord : student.getStudentRecords()) {
-                if (!updatedRecordIds.contains(studentRecord.getId())) {
-                    recordsToRemove.add(studentRecord);
+                if (Objects.nonNull(updatedRecord.getId())) {
+                    if (!currentRecords.containsKey(updatedRecord.getId())) {
+                        throw new StudentRecordNotFoundException(String
+                                .format("Student record with id %d not found", updatedRecord.getId()));
+                    }
+                    updatedRecordIds.add(updatedRecord.getId());
                 }
             }
 
-            for (StudentRecord studentRecord : recordsToRemove) {
-                student.removeStudentRecord(studentRecord);
-            }
-
-            em.flush();
-
-            //create
-            for (UpdatedStudentRecordDto updatedRecord : request) {
-                if (updatedRecord.getId() == null) {
-                    Subject subject = datasource.getSubject(updatedRecord.getSubjectId());
-
-                    StudentRecord sr = StudentRecord.builder()
-                            .mark(updatedRecord.getMark())
-                            .student(student)
-                            .subject(subject).build();
+            Set<Long> changedSubjectIds = new HashSet<>();
 
-                    student.addStudentRecord(sr);
+            //remove
+            for (StudentRecord studentRecord : currentRecords.values()) {
+                if (!updatedRecordIds.contains(studentRecord.getId())) {
+                    changedSubjectIds.add(studentRecord.getSubject().getId());
+                    student.removeStudentRecord(studentRecord);
                 }
             }
 
-            em.flush();
-
-            //update
+            //create and update, unchanged records are skipped by dirty checking
             for (UpdatedStudentRecordDto updatedRecord : request) {
-                if (updatedRecord.getId() != null) {
-                    StudentRecord sr = datasource.getStudentRecord(updatedRecord.getId());
-                    Subject subject = datasource.getSubject(updatedRecord.getSubjectId());
-
+                Subject subject = subjects.get(updatedRecord.getSubjectId());
+                if (Objects.isNull(updatedRecord.getId())) {
+                    changedSubjectIds.add(subject.getId());
+                    student.addStudentRecord(StudentRecord.builder()
+                            .mark(updatedRecord.getMark())
+                            .subject(subject)
+                            .build());
+                } else {
+                    StudentRecord sr = currentRecords.get(updatedRecord.getId());
+                    if (!Objects.equals(sr.getMark(), updatedRecord.getMark())
+                            || !Objects.equals(sr.getSubject().getId(), subject.getId())) {
+                        changedSubjectIds.add(sr.getSubject().getId());
+                        changedSubjectIds.add(subject.getId());
+                    }
                     sr.setMark(updatedRecord.getMark());
                     sr.setSubject(subject);
                 }
             }
 
+            em.flush();
+            datasource.refreshScores(student.getId(), changedSubjectIds);
+
             return StudentRecordsDto.builder()
                     .size(student.getStudentRecords().size())
                     .studentRecords(student.getStudentRecords().stream()
@@ -199,24 +202,27 @@ public class UpdateCurrentStudentRecord {
     @AllArgsConstructor
     public static class UpdateCurrentStudentRecordDatasource {
 
-        private final StudentRecordRepository studentRecordRepository;
         private final StudentRepository studentRepository;
         private final SubjectRepository subjectRepository;
+        private final SubjectGroupScores subjectGroupScores;
 
-        public Optional<Student> getStudentByAccount(Long id) {
-            return studentRepository.getByAccountPopulated(id);
+        public Optional<Student> getStudentWithRecords(Long id) {
+            return studentRepository.getByAccountWithRecords(id);
         }
 
-        public Subject getSubject(Long id) throws SubjectNotFoundException {
-            return subjectRepository.findById(id).orElseThrow(
-                    () -> new SubjectNotFoundException(String.format("Subject with id %d not found", id))
-            );
+        public Map<Long, Subject> getSubjects(Set<Long> ids) throws SubjectNotFoundException {
+            Map<Long, Subject> subjects = subjectRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Subject::getId, Function.identity()));
+            for (Long id : ids) {
+                if (!subjects.containsKey(id)) {
+                    throw new SubjectNotFoundException(String.format("Subject with id %d not found", id));
+                }
+            }
+            return subjects;
         }
 
-        public StudentRecord getStudentRecord(Long id) throws StudentRecordNotFoundException {
-            return studentRecordRepository.findById(id).orElseThrow(
-                    () -> new StudentRecordNotFoundException(String.format("Student record with id %d not found", id))
-            );
+        public void refreshScores(Long studentId, Set<Long> subjectIds) {
+            subjectGroupScores.refresh(studentId, subjectIds);
         }
     }
 }
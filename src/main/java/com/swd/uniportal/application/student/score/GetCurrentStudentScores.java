@@ -0,0 +1,115 @@
+package com.swd.uniportal.application.student.score;
+
+import com.swd.uniportal.application.common.BaseController;
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.application.common.exception.AccountNotFoundException;
+import com.swd.uniportal.application.student.dto.SubjectGroupScoreDto;
+import com.swd.uniportal.application.student.dto.SubjectGroupScoresDto;
+import com.swd.uniportal.domain.account.Account;
+import com.swd.uniportal.domain.student.StudentSubjectGroupScore;
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.config.security.CustomSecurityUtils;
+import com.swd.uniportal.infrastructure.repository.StudentSubjectGroupScoreRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GetCurrentStudentScores {
+
+    @RestController
+    @Tag(name = "students")
+    @AllArgsConstructor
+    public static class GetCurrentStudentScoresController extends BaseController {
+
+        private final GetCurrentStudentScoresService service;
+
+        @GetMapping("/students/current/scores")
+        @Operation(summary = "Get the current student's total for every subject group they have all marks for.")
+        @ApiResponse(
+                responseCode = "200",
+                description = "Found.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = SubjectGroupScoresDto.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "404",
+                description = "Student not found.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        @ApiResponse(
+                responseCode = "500",
+                description = "Server error.",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = FailedResponse.class)
+                )
+        )
+        public ResponseEntity<Object> get() {
+            try {
+                SubjectGroupScoresDto response = service.get();
+                return ResponseEntity.ok(response);
+            } catch (AccountNotFoundException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new FailedResponse(List.of("Student not found")));
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError()
+                        .body(new FailedResponse(List.of("Server error.")));
+            }
+        }
+    }
+
+    @Service
+    @AllArgsConstructor
+    public static class GetCurrentStudentScoresService {
+
+        private final GetCurrentStudentScoresDatasource datasource;
+        private final CustomSecurityUtils customSecurityUtils;
+
+        public SubjectGroupScoresDto get() throws AccountNotFoundException {
+            Account currentAccount = customSecurityUtils.getCurrentAccount();
+            if (Objects.isNull(currentAccount)) {
+                throw new AccountNotFoundException("Current student account not found.");
+            }
+            List<SubjectGroupScoreDto> scores = datasource.getScores(currentAccount.getId()).stream()
+                    .map(score -> SubjectGroupScoreDto.builder()
+                            .subjectGroupId(score.getSubjectGroup().getId())
+                            .subjectGroupCode(score.getSubjectGroup().getCode())
+                            .total(score.getTotal())
+                            .build())
+                    .toList();
+            return SubjectGroupScoresDto.builder()
+                    .size(scores.size())
+                    .scores(scores)
+                    .build();
+        }
+    }
+
+    @Datasource
+    @AllArgsConstructor
+    public static class GetCurrentStudentScoresDatasource {
+
+        private final StudentSubjectGroupScoreRepository scoreRepository;
+
+        public List<StudentSubjectGroupScore> getScores(Long accountId) {
+            return scoreRepository.getByAccount(accountId);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.swd.uniportal.application.student.score;
+
+import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.repository.StudentSubjectGroupScoreRepository;
+import java.util.Collection;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Keeps {@code student_subject_group_score} in step with student records. Only the groups that
+ * contain a changed subject are recomputed, with one delete and one insert-select each, inside
+ * the transaction that changed the records so the table never disagrees with them.
+ */
+@Datasource
+public class SubjectGroupScores {
+
+    private final StudentSubjectGroupScoreRepository scoreRepository;
+
+    @Autowired
+    public SubjectGroupScores(StudentSubjectGroupScoreRepository scoreRepository) {
+        this.scoreRepository = scoreRepository;
+    }
+
+    public void refresh(Long studentId, Collection<Long> subjectIds) {
+        if (subjectIds.isEmpty()) {
+            return;
+        }
+        scoreRepository.deleteByStudentAndSubjects(studentId, subjectIds);
+        scoreRepository.insertByStudentAndSubjects(studentId, subjectIds);
+    }
+
+    /**
+     * Recomputes one group for every student, for writers that change the subjects of a group.
+     */
+    public void refreshSubjectGroup(Long subjectGroupId) {
+        scoreRepository.deleteBySubjectGroup(subjectGroupId);
+        scoreRepository.insertBySubjectGroup(subjectGroupId);
+    }
+}
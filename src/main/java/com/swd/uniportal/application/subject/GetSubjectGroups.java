@@ -3,9 +3,16 @@ package com.swd.uniportal.application.subject;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.application.subject.dto.SubjectGroupDto;
+import com.swd.uniportal.domain.subject.QSubject;
+import com.swd.uniportal.domain.subject.QSubjectGroup;
 import com.swd.uniportal.domain.subject.Subject;
 import com.swd.uniportal.domain.subject.SubjectGroup;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
 import com.swd.uniportal.infrastructure.repository.SubjectGroupRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,12 +30,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetSubjectGroups {
@@ -49,10 +57,12 @@ public class GetSubjectGroups {
     public static class GetSubjectGroupsController extends BaseController {
 
         private final GetSubjectGroupsService service;
+        private final ResponseCache responseCache;
 
         @Autowired
-        public GetSubjectGroupsController(GetSubjectGroupsService service) {
+        public GetSubjectGroupsController(GetSubjectGroupsService service, ResponseCache responseCache) {
             this.service = service;
+            this.responseCache = responseCache;
         }
 
         @GetMapping("/subjects/groups")
@@ -92,13 +102,19 @@ public class GetSubjectGroups {
         public ResponseEntity<Object> get(
                 @RequestParam(name = "search", defaultValue = "") String search,
                 @RequestParam(name = "page", defaultValue = "1") Integer page,
-                @RequestParam(name = "all", defaultValue = "false") boolean all) {
+                @RequestParam(name = "all", defaultValue = "false") boolean all,
+                WebRequest webRequest) {
             if (page < 1) {
                 return ResponseEntity.badRequest().body(new FailedResponse(List.of("Id is not positive.")));
             }
+            String entityTag = service.getEntityTag();
+            if (webRequest.checkNotModified(entityTag)) {
+                return null;
+            }
             SubjectGroupsResponse subjectGroupsResponse = service
                     .getSubjectGroups(StringUtils.trim(search), page, all);
-            return new ResponseEntity<>(subjectGroupsResponse, HttpStatus.OK);
+            responseCache.tagAll(CachedEntity.SUBJECT_GROUP, CachedEntity.SUBJECT);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(subjectGroupsResponse);
         }
     }
 
@@ -109,13 +125,23 @@ public class GetSubjectGroups {
         private Integer pageSize;
 
         private final GetSubjectGroupsDatasource datasource;
+        private final ReferenceDataCache cache;
 
         @Autowired
-        public GetSubjectGroupsService(GetSubjectGroupsDatasource datasource) {
+        public GetSubjectGroupsService(GetSubjectGroupsDatasource datasource, ReferenceDataCache cache) {
             this.datasource = datasource;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.SUBJECT_GROUP, datasource::getEntityTag);
         }
 
         public SubjectGroupsResponse getSubjectGroups(String search, Integer page, boolean all) {
+            return cache.get(ReferenceData.SUBJECT_GROUP, List.of(search, page, all), () -> load(search, page, all));
+        }
+
+        private SubjectGroupsResponse load(String search, Integer page, boolean all) {
             List<SubjectGroupDto> subjectGroupDto;
             if (all) {
                 subjectGroupDto = datasource.getAllBySearch(search);
@@ -140,16 +166,25 @@ public class GetSubjectGroups {
         private Integer pageSize;
 
         private final SubjectGroupRepository subjectGroupRepository;
+        private final EntityTags entityTags;
 
         @Autowired
-        public GetSubjectGroupsDatasource(SubjectGroupRepository subjectGroupRepository) {
+        public GetSubjectGroupsDatasource(SubjectGroupRepository subjectGroupRepository, EntityTags entityTags) {
             this.subjectGroupRepository = subjectGroupRepository;
+            this.entityTags = entityTags;
+        }
+
+        public String getEntityTag() {
+            return entityTags.ofTables(QSubjectGroup.subjectGroup, QSubject.subject);
         }
 
         public List<SubjectGroupDto> getSubjectGroupsBySearch(String search, Integer page) {
             Pageable pageable = PageRequest.of(page - 1, pageSize);
-            List<SubjectGroup> subjectGroups = subjectGroupRepository
-                    .getSubjectGroupsBySearch(search, pageable);
+            List<Long> ids = subjectGroupRepository.getSubjectGroupIdsBySearch(search, pageable);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            List<SubjectGroup> subjectGroups = subjectGroupRepository.getByIdInWithSubjects(ids);
             return subjectGroups.stream()
                     .map(sg -> SubjectGroupDto.builder()
                             .id(sg.getId())
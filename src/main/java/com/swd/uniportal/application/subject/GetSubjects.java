@@ -3,8 +3,14 @@ package com.swd.uniportal.application.subject;
 import com.swd.uniportal.application.common.BaseController;
 import com.swd.uniportal.application.common.FailedResponse;
 import com.swd.uniportal.application.subject.dto.SubjectDto;
+import com.swd.uniportal.domain.subject.QSubject;
 import com.swd.uniportal.domain.subject.Subject;
 import com.swd.uniportal.infrastructure.common.annotation.Datasource;
+import com.swd.uniportal.infrastructure.common.cache.CachedEntity;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceData;
+import com.swd.uniportal.infrastructure.common.cache.ReferenceDataCache;
+import com.swd.uniportal.infrastructure.common.cache.ResponseCache;
+import com.swd.uniportal.infrastructure.common.etag.EntityTags;
 import com.swd.uniportal.infrastructure.repository.SubjectRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,11 +27,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class GetSubjects {
@@ -43,13 +51,15 @@ public final class GetSubjects {
 
     @RestController
     @Tag(name = "subjects")
-    public static final class GetSubjectsController extends BaseController {
+    public static class GetSubjectsController extends BaseController {
 
         private final GetSubjectsService service;
+        private final ResponseCache responseCache;
 
         @Autowired
-        public GetSubjectsController(GetSubjectsService service) {
+        public GetSubjectsController(GetSubjectsService service, ResponseCache responseCache) {
             this.service = service;
+            this.responseCache = responseCache;
         }
 
         @GetMapping("/subjects")
@@ -88,13 +98,19 @@ public final class GetSubjects {
         )
         public ResponseEntity<Object> get(
                 @RequestParam(name = "search", defaultValue = "") String search,
-                @RequestParam(name = "page", defaultValue = "1") Integer page) {
+                @RequestParam(name = "page", defaultValue = "1") Integer page,
+                WebRequest webRequest) {
             if (page < 1) {
                 return ResponseEntity.badRequest().body(new FailedResponse(List.of("Page is not positive.")));
             }
             try {
+                String entityTag = service.getEntityTag();
+                if (webRequest.checkNotModified(entityTag)) {
+                    return null;
+                }
                 SubjectsResponse response = service.getSubjectsBySearch(StringUtils.trimToEmpty(search), page);
-                return ResponseEntity.ok(response);
+                responseCache.tagAll(CachedEntity.SUBJECT);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
             } catch (Exception e) {
                 return ResponseEntity.internalServerError().body(new FailedResponse(List.of("Server error.")));
             }
@@ -108,13 +124,23 @@ public final class GetSubjects {
         private Integer pageSize;
 
         private final GetSubjectsDatasource datasource;
+        private final ReferenceDataCache cache;
 
         @Autowired
-        public GetSubjectsService(GetSubjectsDatasource datasource) {
+        public GetSubjectsService(GetSubjectsDatasource datasource, ReferenceDataCache cache) {
             this.datasource = datasource;
+            this.cache = cache;
+        }
+
+        public String getEntityTag() {
+            return cache.getEntityTag(ReferenceData.SUBJECT, datasource::getEntityTag);
         }
 
         public SubjectsResponse getSubjectsBySearch(String search, Integer page) {
+            return cache.get(ReferenceData.SUBJECT, List.of(search, page), () -> load(search, page));
+        }
+
+        private SubjectsResponse load(String search, Integer page) {
             Pageable pageable = PageRequest.of(page - 1, pageSize);
             List<Subject> subjects = datasource.getSubjectsBySearch(search, pageable);
             Integer subjectsCount = datasource.countSubjectsBySearch(search);
@@ -138,10 +164,16 @@ public final class GetSubjects {
     public static class GetSubjectsDatasource {
 
         private final SubjectRepository subjectRepository;
+        private final EntityTags entityTags;
 
         @Autowired
-        public GetSubjectsDatasource(SubjectRepository subjectRepository) {
+        public GetSubjectsDatasource(SubjectRepository subjectRepository, EntityTags entityTags) {
             this.subjectRepository = subjectRepository;
+            this.entityTags = entityTags;
+        }
+
+        public String getEntityTag() {
+            return entityTags.ofTables(QSubject.subject);
         }
 
         public List<Subject> getSubjectsBySearch(String search, Pageable pageable) {
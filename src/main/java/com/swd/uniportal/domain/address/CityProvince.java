@@ -1,6 +1,6 @@
 package com.swd.uniportal.domain.address;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -21,7 +21,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "city_province")
-public class CityProvince extends BaseEntity {
+public class CityProvince extends VersionedEntity {
 
     @Column(name = "name", nullable = false, unique = true)
     private String name;
@@ -1,6 +1,6 @@
 package com.swd.uniportal.domain.address;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -30,7 +30,7 @@ import lombok.experimental.SuperBuilder;
                 columnNames = { "name", "city_province_id" }
         )
 )
-public class District extends BaseEntity {
+public class District extends VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
@@ -1,6 +1,6 @@
 package com.swd.uniportal.domain.address;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -27,7 +27,7 @@ import lombok.experimental.SuperBuilder;
                 columnNames = { "name", "district_id" }
         )
 )
-public class Ward extends BaseEntity {
+public class Ward extends VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
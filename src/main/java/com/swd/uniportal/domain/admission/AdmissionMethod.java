@@ -1,6 +1,6 @@
 package com.swd.uniportal.domain.admission;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -17,7 +17,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "admission_method")
-public class AdmissionMethod extends BaseEntity {
+public class AdmissionMethod extends VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
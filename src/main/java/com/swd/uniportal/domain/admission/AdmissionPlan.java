@@ -1,7 +1,8 @@
 package com.swd.uniportal.domain.admission;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
 import com.swd.uniportal.domain.institution.Institution;
+import com.swd.uniportal.infrastructure.common.search.TextFolding;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -9,8 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,11 +28,15 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "admission_plan")
-public class AdmissionPlan extends BaseEntity {
+public class AdmissionPlan extends VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "folded_name", nullable = false)
+    private String foldedName;
+
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
@@ -45,6 +53,12 @@ public class AdmissionPlan extends BaseEntity {
     @OneToMany(mappedBy = "admissionPlan", cascade = { CascadeType.PERSIST, CascadeType.REMOVE }, orphanRemoval = true)
     private Set<AdmissionTrainingProgram> admissionTrainingPrograms;
 
+    @PrePersist
+    @PreUpdate
+    void foldName() {
+        foldedName = TextFolding.fold(name);
+    }
+
     @Override
     public boolean equals(Object object) {
         return super.equals(object);
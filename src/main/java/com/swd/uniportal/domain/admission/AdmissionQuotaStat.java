@@ -0,0 +1,56 @@
+package com.swd.uniportal.domain.admission;
+
+import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.converter.QuotaDimensionConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "admission_quota_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uc_admission_quota_stat",
+                columnNames = { "dimension", "year", "dimension_id" }
+        )
+)
+public class AdmissionQuotaStat extends BaseEntity {
+
+    @Column(name = "year", nullable = false)
+    private Integer year;
+
+    @Convert(converter = QuotaDimensionConverter.class)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private QuotaDimension dimension;
+
+    @Column(name = "dimension_id", nullable = false)
+    private Long dimensionId;
+
+    @Column(name = "quota", nullable = false)
+    private Long quota;
+
+    @Column(name = "admission_majors", nullable = false)
+    private Long admissionMajors;
+
+    @Override
+    public boolean equals(Object object) {
+        return super.equals(object);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
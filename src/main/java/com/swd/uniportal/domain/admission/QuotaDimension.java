@@ -0,0 +1,9 @@
+package com.swd.uniportal.domain.admission;
+
+public enum QuotaDimension {
+
+    INSTITUTION,
+    MAJOR,
+    METHOD,
+    CITY_PROVINCE
+}
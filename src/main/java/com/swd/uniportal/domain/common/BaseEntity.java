@@ -1,7 +1,6 @@
 package com.swd.uniportal.domain.common;
 
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import java.util.Objects;
@@ -10,6 +9,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 @Getter
 @Setter
@@ -19,8 +21,24 @@ import lombok.experimental.SuperBuilder;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+    /**
+     * Taken in blocks of 50 per table from {@code id_pool}, so inserts do not wait for the database
+     * to generate the key and can be sent in JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "id_pool")
+    @GenericGenerator(
+            name = "id_pool",
+            type = TableGenerator.class,
+            parameters = {
+                    @Parameter(name = TableGenerator.TABLE_PARAM, value = "id_pool"),
+                    @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = "entity_table"),
+                    @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = "next_val"),
+                    @Parameter(name = TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY, value = "true"),
+                    @Parameter(name = TableGenerator.INCREMENT_PARAM, value = "50"),
+                    @Parameter(name = TableGenerator.OPT_PARAM, value = "pooled-lo")
+            }
+    )
     private Long id;
 
     @Override
@@ -0,0 +1,28 @@
+package com.swd.uniportal.domain.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Base of the aggregates served with entity tags. The version is incremented by Hibernate on
+ * every update of the row; writes that only touch the children of an aggregate increment it
+ * explicitly.
+ */
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@MappedSuperclass
+public abstract class VersionedEntity extends BaseEntity {
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
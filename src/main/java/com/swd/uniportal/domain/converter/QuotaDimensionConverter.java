@@ -0,0 +1,19 @@
+package com.swd.uniportal.domain.converter;
+
+import com.swd.uniportal.domain.admission.QuotaDimension;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class QuotaDimensionConverter implements AttributeConverter<QuotaDimension, String> {
+
+    @Override
+    public String convertToDatabaseColumn(QuotaDimension attribute) {
+        return attribute.name();
+    }
+
+    @Override
+    public QuotaDimension convertToEntityAttribute(String dbData) {
+        return QuotaDimension.valueOf(dbData);
+    }
+}
@@ -2,12 +2,16 @@ package com.swd.uniportal.domain.institution;
 
 import com.swd.uniportal.domain.address.CityProvince;
 import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.infrastructure.common.search.TextFolding;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,6 +30,10 @@ public class HighSchool extends BaseEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "folded_name", nullable = false)
+    private String foldedName;
+
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
@@ -33,6 +41,12 @@ public class HighSchool extends BaseEntity {
     @JoinColumn(name = "city_province_id", nullable = false)
     private CityProvince cityProvince;
 
+    @PrePersist
+    @PreUpdate
+    void foldName() {
+        foldedName = TextFolding.fold(name);
+    }
+
     @Override
     public boolean equals(Object object) {
         return super.equals(object);
@@ -1,16 +1,20 @@
 package com.swd.uniportal.domain.institution;
 
 import com.swd.uniportal.domain.address.Address;
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
+import com.swd.uniportal.infrastructure.common.search.TextFolding;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,11 +28,15 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "institution")
-public class Institution extends BaseEntity {
+public class Institution extends VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "folded_name", nullable = false)
+    private String foldedName;
+
     @Column(name = "code", nullable = false, length = 20)
     private String code;
 
@@ -91,6 +99,12 @@ public class Institution extends BaseEntity {
         address.setInstitution(this);
     }
 
+    @PrePersist
+    @PreUpdate
+    void foldName() {
+        foldedName = TextFolding.fold(name);
+    }
+
     @Override
     public boolean equals(Object object) {
         return super.equals(object);
@@ -1,6 +1,7 @@
 package com.swd.uniportal.domain.major;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
+import com.swd.uniportal.infrastructure.common.search.TextFolding;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,8 +9,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,11 +27,15 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "department")
-public class Department extends BaseEntity {
+public class Department extends VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "folded_name", nullable = false)
+    private String foldedName;
+
     @Column(name = "code", nullable = false, unique = true)
     private String code;
 
@@ -41,6 +49,12 @@ public class Department extends BaseEntity {
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Major> majors;
 
+    @PrePersist
+    @PreUpdate
+    void foldName() {
+        foldedName = TextFolding.fold(name);
+    }
+
     @Override
     public boolean equals(Object object) {
         return super.equals(object);
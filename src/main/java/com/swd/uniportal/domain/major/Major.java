@@ -1,12 +1,16 @@
 package com.swd.uniportal.domain.major;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
+import com.swd.uniportal.infrastructure.common.search.TextFolding;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,11 +24,15 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "major")
-public class Major extends BaseEntity {
+public class Major extends VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "folded_name", nullable = false)
+    private String foldedName;
+
     @Column(name = "code", nullable = false, unique = true)
     private String code;
 
@@ -35,6 +43,12 @@ public class Major extends BaseEntity {
     @JoinColumn(name = "department_id", nullable = false)
     private Department department;
 
+    @PrePersist
+    @PreUpdate
+    void foldName() {
+        foldedName = TextFolding.fold(name);
+    }
+
     @Override
     public boolean equals(Object object) {
         return super.equals(object);
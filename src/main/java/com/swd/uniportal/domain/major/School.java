@@ -1,6 +1,6 @@
 package com.swd.uniportal.domain.major;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -21,7 +21,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "school")
-public class School extends BaseEntity {
+public class School extends VersionedEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
@@ -0,0 +1,53 @@
+package com.swd.uniportal.domain.student;
+
+import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.subject.SubjectGroup;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "student_subject_group_score",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uc_student_subject_group_score",
+                columnNames = { "student_id", "subject_group_id" }
+        )
+)
+public class StudentSubjectGroupScore extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subject_group_id", nullable = false)
+    private SubjectGroup subjectGroup;
+
+    @Column(name = "total", columnDefinition = "DECIMAL(6, 2)", nullable = false)
+    private Float total;
+
+    @Override
+    public boolean equals(Object object) {
+        return super.equals(object);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -1,6 +1,6 @@
 package com.swd.uniportal.domain.subject;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -17,7 +17,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "subject")
-public class Subject extends BaseEntity {
+public class Subject extends VersionedEntity {
 
     @Column(name = "name", nullable = false, unique = true)
     private String name;
@@ -1,6 +1,6 @@
 package com.swd.uniportal.domain.subject;
 
-import com.swd.uniportal.domain.common.BaseEntity;
+import com.swd.uniportal.domain.common.VersionedEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
@@ -22,7 +22,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @Table(name = "subject_group")
-public class SubjectGroup extends BaseEntity {
+public class SubjectGroup extends VersionedEntity {
 
     @Column(name = "code", nullable = false)
     private String code;
@@ -0,0 +1,16 @@
+package com.swd.uniportal.infrastructure.common.cache;
+
+public enum CachedEntity {
+    ADMISSION_PLAN,
+    INSTITUTION,
+    MAJOR,
+    CITY_PROVINCE,
+    DISTRICT,
+    WARD,
+    SCHOOL,
+    DEPARTMENT,
+    SUBJECT,
+    SUBJECT_GROUP,
+    ADMISSION_METHOD,
+    TRAINING_PROGRAM
+}
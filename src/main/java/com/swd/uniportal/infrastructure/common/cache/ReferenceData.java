@@ -0,0 +1,14 @@
+package com.swd.uniportal.infrastructure.common.cache;
+
+public enum ReferenceData {
+    CITY_PROVINCE,
+    DISTRICT,
+    WARD,
+    SUBJECT,
+    SUBJECT_GROUP,
+    ADMISSION_METHOD,
+    TRAINING_PROGRAM,
+    SCHOOL,
+    DEPARTMENT,
+    ADMISSION_CATALOG
+}
@@ -0,0 +1,127 @@
+package com.swd.uniportal.infrastructure.common.cache;
+
+import com.swd.uniportal.infrastructure.common.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache for the reference data list endpoints. Each {@link ReferenceData} set has its
+ * own region, bounded by entry count and time to live, and is cleared by the slices that write it
+ * once their transaction commits.
+ */
+@Component
+public final class ReferenceDataCache {
+
+    private static final Object ENTITY_TAG_KEY = new Object();
+
+    private final Map<ReferenceData, Region> regions = new EnumMap<>(ReferenceData.class);
+
+    @Autowired
+    public ReferenceDataCache(
+            MeterRegistry meterRegistry,
+            @Value("${uniportal.cache.reference-data.max-entries}") Integer maxEntries,
+            @Value("${uniportal.cache.reference-data.ttl}") Duration ttl) {
+        for (ReferenceData data : ReferenceData.values()) {
+            regions.put(data, new Region(data, maxEntries, ttl.toNanos(), meterRegistry));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ReferenceData data, Object key, Supplier<T> loader) {
+        return (T) regions.get(data).get(key, loader);
+    }
+
+    /**
+     * Caches the entity tag of a set next to its lists, so both are dropped by the same
+     * invalidation and a tag never describes content other than what the lists return.
+     */
+    public String getEntityTag(ReferenceData data, Supplier<String> loader) {
+        return get(data, ENTITY_TAG_KEY, loader);
+    }
+
+    public void invalidate(ReferenceData... data) {
+        AfterCommit.run(() -> {
+            for (ReferenceData d : data) {
+                regions.get(d).clear();
+            }
+        });
+    }
+
+    private static final class Region {
+
+        private final Map<Object, Entry> entries;
+        private final long ttlNanos;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter evictions;
+        private long generation;
+
+        private Region(ReferenceData data, int maxEntries, long ttlNanos, MeterRegistry meterRegistry) {
+            String name = data.name().toLowerCase();
+            this.ttlNanos = ttlNanos;
+            this.hits = Counter.builder("uniportal.cache.gets")
+                    .tag("cache", name)
+                    .tag("result", "hit")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("uniportal.cache.gets")
+                    .tag("cache", name)
+                    .tag("result", "miss")
+                    .register(meterRegistry);
+            this.evictions = Counter.builder("uniportal.cache.evictions")
+                    .tag("cache", name)
+                    .register(meterRegistry);
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                    boolean full = size() > maxEntries;
+                    if (full) {
+                        evictions.increment();
+                    }
+                    return full;
+                }
+            };
+        }
+
+        private Object get(Object key, Supplier<?> loader) {
+            long loadedGeneration;
+            synchronized (this) {
+                Entry entry = entries.get(key);
+                if (entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos) {
+                    hits.increment();
+                    return entry.value();
+                }
+                if (entry != null) {
+                    entries.remove(key);
+                    evictions.increment();
+                }
+                loadedGeneration = generation;
+            }
+            misses.increment();
+            Object value = loader.get();
+            synchronized (this) {
+                // A write committed while loading; the value may predate it, so it is not kept.
+                if (loadedGeneration == generation) {
+                    entries.put(key, new Entry(value, System.nanoTime()));
+                }
+            }
+            return value;
+        }
+
+        private synchronized void clear() {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    private record Entry(Object value, long loadedAt) {
+    }
+}
@@ -0,0 +1,195 @@
+package com.swd.uniportal.infrastructure.common.cache;
+
+import com.swd.uniportal.infrastructure.common.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Whole-response cache for anonymous GETs, holding gzipped bodies so that a hit is a copy of
+ * bytes. Caching is opt-in: a controller tags its response with the entities it shows, and only
+ * tagged responses are kept. Write slices purge by the same tags once their transaction commits.
+ * See {@link ResponseCacheFilter} for the servlet side.
+ */
+@Component
+public final class ResponseCache {
+
+    private static final String TAGS_ATTRIBUTE = ResponseCache.class.getName() + ".tags";
+
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter evictions;
+    private long generation;
+
+    /**
+     * An entity of a type, or every entity of it when {@code id} is {@code null}.
+     */
+    public record Tag(CachedEntity entity, Long id) {
+
+        private boolean matches(CachedEntity purgedEntity, Long purgedId) {
+            return entity == purgedEntity && (Objects.isNull(id) || Objects.isNull(purgedId) || id.equals(purgedId));
+        }
+    }
+
+    record Entry(byte[] gzippedBody, String contentType, String entityTag, String cacheControl, Set<Tag> tags,
+                 long storedAt) {
+    }
+
+    @Autowired
+    public ResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${uniportal.cache.response.max-entries}") Integer maxEntries,
+            @Value("${uniportal.cache.response.ttl}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("uniportal.cache.gets")
+                .tag("cache", "response")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("uniportal.cache.gets")
+                .tag("cache", "response")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("uniportal.cache.gets")
+                .tag("cache", "response")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("uniportal.cache.evictions")
+                .tag("cache", "response")
+                .register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean full = size() > maxEntries;
+                if (full) {
+                    evictions.increment();
+                }
+                return full;
+            }
+        };
+    }
+
+    /**
+     * Marks the response of the current request as cacheable and showing the given entity.
+     */
+    public void tag(CachedEntity entity, Long id) {
+        if (Objects.nonNull(id)) {
+            currentTags().add(new Tag(entity, id));
+        }
+    }
+
+    /**
+     * Marks the response of the current request as cacheable and showing every entity of the
+     * given types, as a list does.
+     */
+    public void tagAll(CachedEntity... entities) {
+        Set<Tag> tags = currentTags();
+        for (CachedEntity entity : entities) {
+            tags.add(new Tag(entity, null));
+        }
+    }
+
+    /**
+     * Drops the responses showing the entity, including those tagged with its whole type.
+     */
+    public void purge(CachedEntity entity, Long id) {
+        AfterCommit.run(() -> remove(tag -> tag.matches(entity, id)));
+    }
+
+    /**
+     * Drops every response showing any entity of the given types.
+     */
+    public void purgeAll(CachedEntity... entities) {
+        Set<CachedEntity> purged = Set.of(entities);
+        AfterCommit.run(() -> remove(tag -> purged.contains(tag.entity())));
+    }
+
+    static Set<Tag> tagsOf(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Set<Tag> tags = (Set<Tag>) request.getAttribute(TAGS_ATTRIBUTE);
+        return Objects.requireNonNullElse(tags, Set.of());
+    }
+
+    synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.storedAt() < ttlNanos) {
+            hits.increment();
+            return entry;
+        }
+        if (entry != null) {
+            entries.remove(key);
+            evictions.increment();
+        }
+        return null;
+    }
+
+    /**
+     * Makes the caller the loader of the key, or returns the pending load of the request that
+     * already is. A loader must {@link #release(String, CompletableFuture, Entry)} its load.
+     */
+    CompletableFuture<Entry> join(String key, CompletableFuture<Entry> load) {
+        CompletableFuture<Entry> pending = loading.putIfAbsent(key, load);
+        if (pending != null) {
+            coalesced.increment();
+        } else {
+            misses.increment();
+        }
+        return pending;
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    void store(String key, Entry entry, long loadedGeneration) {
+        synchronized (this) {
+            // A write committed while loading; the response may predate it, so it is not kept.
+            if (loadedGeneration == generation) {
+                entries.put(key, entry);
+            }
+        }
+    }
+
+    /**
+     * Ends a load, handing the entry (or {@code null} when the response was not cacheable) to the
+     * requests that waited for it.
+     */
+    void release(String key, CompletableFuture<Entry> load, Entry entry) {
+        loading.remove(key, load);
+        load.complete(entry);
+    }
+
+    private synchronized void remove(Predicate<Tag> purged) {
+        generation++;
+        entries.values().removeIf(entry -> entry.tags().stream().anyMatch(purged));
+    }
+
+    private static Set<Tag> currentTags() {
+        RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+        @SuppressWarnings("unchecked")
+        Set<Tag> tags = (Set<Tag>) attributes.getAttribute(TAGS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (tags == null) {
+            tags = new HashSet<>();
+            attributes.setAttribute(TAGS_ATTRIBUTE, tags, RequestAttributes.SCOPE_REQUEST);
+        }
+        return tags;
+    }
+}
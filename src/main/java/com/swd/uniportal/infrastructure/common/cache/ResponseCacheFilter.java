@@ -0,0 +1,323 @@
+package com.swd.uniportal.infrastructure.common.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Serves anonymous GETs from {@link ResponseCache}. The key is the path with its query parameters
+ * sorted. On a miss the first request renders the response and the others for the same key wait
+ * for it, up to {@code uniportal.cache.response.wait-timeout}, after which they render it
+ * themselves. The body is captured only when the controller tagged the response by the time it starts
+ * writing, so untagged endpoints such as the exports keep streaming straight to the client.
+ */
+@Component
+public final class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final ResponseCache cache;
+    private final long waitTimeoutNanos;
+
+    @Autowired
+    public ResponseCacheFilter(ResponseCache cache,
+                               @Value("${uniportal.cache.response.wait-timeout}") Duration waitTimeout) {
+        this.cache = cache;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || Objects.nonNull(request.getHeader(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = keyOf(request);
+        ResponseCache.Entry entry = cache.get(key);
+        if (Objects.nonNull(entry)) {
+            write(entry, request, response);
+            return;
+        }
+        CompletableFuture<ResponseCache.Entry> load = new CompletableFuture<>();
+        CompletableFuture<ResponseCache.Entry> pending = cache.join(key, load);
+        if (Objects.nonNull(pending)) {
+            entry = await(pending);
+            if (Objects.nonNull(entry)) {
+                write(entry, request, response);
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+        ResponseCache.Entry loaded = null;
+        try {
+            long generation = cache.generation();
+            Runnable releaseWaiting = () -> cache.release(key, load, null);
+            CapturingResponse capturing = new CapturingResponse(response, request, releaseWaiting);
+            // The entry has to hold the whole body, so the conditional check is made here afterwards.
+            filterChain.doFilter(new UnconditionalRequest(request), capturing);
+            if (capturing.isCapturing()) {
+                loaded = capturing.toEntry();
+                cache.store(key, loaded, generation);
+                write(loaded, request, response);
+            }
+        } finally {
+            cache.release(key, load, loaded);
+        }
+    }
+
+    private ResponseCache.Entry await(CompletableFuture<ResponseCache.Entry> pending) {
+        try {
+            return pending.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static String keyOf(HttpServletRequest request) {
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        String query = parameters.entrySet().stream()
+                .flatMap(parameter -> Arrays.stream(parameter.getValue())
+                        .sorted()
+                        .map(value -> URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8) + "="
+                                + URLEncoder.encode(value, StandardCharsets.UTF_8)))
+                .collect(Collectors.joining("&"));
+        return request.getRequestURI() + "?" + query;
+    }
+
+    private static void write(ResponseCache.Entry entry, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (Objects.nonNull(entry.cacheControl())) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, entry.cacheControl());
+        }
+        if (Objects.nonNull(entry.entityTag())) {
+            response.setHeader(HttpHeaders.ETAG, entry.entityTag());
+            if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), entry.entityTag())) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = entry.gzippedBody();
+        if (StringUtils.containsIgnoreCase(request.getHeader(HttpHeaders.ACCEPT_ENCODING), GZIP)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        } else {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                body = in.readAllBytes();
+            }
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean matches(String ifNoneMatch, String entityTag) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        String tag = StringUtils.removeStart(entityTag, "W/");
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || StringUtils.removeStart(candidate, "W/").equals(tag));
+    }
+
+    /**
+     * Hides the conditional headers from the controllers, so a miss always renders the full body.
+     */
+    private static final class UnconditionalRequest extends HttpServletRequestWrapper {
+
+        private static final Set<String> HIDDEN = Set.of(
+                HttpHeaders.IF_NONE_MATCH.toLowerCase(),
+                HttpHeaders.IF_MODIFIED_SINCE.toLowerCase());
+
+        private UnconditionalRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return HIDDEN.contains(name.toLowerCase()) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return HIDDEN.contains(name.toLowerCase()) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            return HIDDEN.contains(name.toLowerCase()) ? -1 : super.getDateHeader(name);
+        }
+    }
+
+    /**
+     * Decides on the first write of the body: a tagged 200 is buffered, anything else is passed
+     * through and lets the waiting requests go ahead on their own.
+     */
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final Runnable onPassThrough;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private Boolean capturing;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private CapturingResponse(HttpServletResponse response, HttpServletRequest request, Runnable onPassThrough) {
+            super(response);
+            this.request = request;
+            this.onPassThrough = onPassThrough;
+        }
+
+        private boolean isCapturing() {
+            return Boolean.TRUE.equals(capturing);
+        }
+
+        private boolean decide() {
+            if (Objects.isNull(capturing)) {
+                capturing = getStatus() == HttpServletResponse.SC_OK && !ResponseCache.tagsOf(request).isEmpty();
+                if (!capturing) {
+                    onPassThrough.run();
+                }
+            }
+            return capturing;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (!decide()) {
+                return super.getOutputStream();
+            }
+            if (Objects.isNull(outputStream)) {
+                outputStream = new BufferingOutputStream(buffer);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (!decide()) {
+                return super.getWriter();
+            }
+            if (Objects.isNull(writer)) {
+                writer = new PrintWriter(new OutputStreamWriter(buffer, Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            if (!isCapturing()) {
+                super.setContentLength(length);
+            }
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (!isCapturing()) {
+                super.setContentLengthLong(length);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (!isCapturing()) {
+                super.flushBuffer();
+            }
+        }
+
+        private ResponseCache.Entry toEntry() throws IOException {
+            if (Objects.nonNull(writer)) {
+                writer.flush();
+            }
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+                buffer.writeTo(out);
+            }
+            return new ResponseCache.Entry(
+                    gzipped.toByteArray(),
+                    getContentType(),
+                    getHeader(HttpHeaders.ETAG),
+                    getHeader(HttpHeaders.CACHE_CONTROL),
+                    Set.copyOf(ResponseCache.tagsOf(request)),
+                    System.nanoTime());
+        }
+    }
+
+    private static final class BufferingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream buffer;
+
+        private BufferingOutputStream(ByteArrayOutputStream buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.write(b, off, len);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                writeListener.onWritePossible();
+            } catch (IOException e) {
+                writeListener.onError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.swd.uniportal.infrastructure.common.etag;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Strong entity tags built from the version columns of
+ * {@link com.swd.uniportal.domain.common.VersionedEntity} tables. Slices compute the tag with a
+ * version-only query and check {@code If-None-Match} against it before loading anything else.
+ */
+@Component
+public final class EntityTags {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public EntityTags(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Tags the whole content of the given tables. Versions only grow and ids are never reused, so
+     * the row count, the sum of versions and the highest id of a table cannot all come back to an
+     * earlier value after an insert, update or delete.
+     */
+    public String ofTables(EntityPath<?>... tables) {
+        JPAQueryFactory factory = new JPAQueryFactory(entityManager);
+        List<Object> parts = new ArrayList<>();
+        for (EntityPath<?> table : tables) {
+            NumberPath<Long> id = Expressions.numberPath(Long.class, table, "id");
+            NumberPath<Long> version = Expressions.numberPath(Long.class, table, "version");
+            Tuple row = Objects.requireNonNull(factory.select(id.count(), version.sum(), id.max())
+                    .from(table)
+                    .fetchOne());
+            parts.add(row.get(id.count()));
+            parts.add(Objects.requireNonNullElse(row.get(version.sum()), 0L));
+            parts.add(Objects.requireNonNullElse(row.get(id.max()), 0L));
+        }
+        return of(parts.toArray());
+    }
+
+    public static String of(Object... versions) {
+        return Arrays.stream(versions)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+}
@@ -0,0 +1,118 @@
+package com.swd.uniportal.infrastructure.common.metrics;
+
+import com.swd.uniportal.application.common.FailedResponse;
+import com.swd.uniportal.infrastructure.common.timing.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the slice controllers, services and datasources as
+ * {@code uniportal.slice}, tagged with the feature (the class enclosing the slice), the layer and
+ * the outcome. Controllers catch their exceptions and answer with a {@link FailedResponse}, so
+ * their outcome is read from the status, and a 5xx is also counted as
+ * {@code uniportal.slice.server-errors}. Percentiles are configured under
+ * {@code management.metrics.distribution}. Service time also goes to {@link RequestTimings}.
+ */
+@Aspect
+@Component
+public final class SliceMetrics {
+
+    private static final String TIMER = "uniportal.slice";
+    private static final String SERVER_ERRORS = "uniportal.slice.server-errors";
+    private static final ClassValue<String> FEATURES = new ClassValue<>() {
+
+        @Override
+        protected String computeValue(Class<?> type) {
+            Class<?> feature = type;
+            while (Objects.nonNull(feature.getEnclosingClass())) {
+                feature = feature.getEnclosingClass();
+            }
+            return feature.getSimpleName();
+        }
+    };
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SliceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("within(com.swd.uniportal.application..*)")
+    private void slices() {
+    }
+
+    @Around("slices() && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        String feature = featureOf(joinPoint);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, feature, "controller", "exception");
+            throw e;
+        }
+        String outcome = "success";
+        if (result instanceof ResponseEntity<?> response) {
+            if (response.getStatusCode().is5xxServerError()) {
+                outcome = "server_error";
+                Counter.builder(SERVER_ERRORS)
+                        .tag("feature", feature)
+                        .register(meterRegistry)
+                        .increment();
+            } else if (response.getStatusCode().is4xxClientError()) {
+                outcome = "client_error";
+            }
+        }
+        stop(sample, feature, "controller", outcome);
+        return result;
+    }
+
+    @Around("slices() && @within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    @Around("slices() && @within(com.swd.uniportal.infrastructure.common.annotation.Datasource)")
+    public Object timeDatasource(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "datasource");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        String feature = featureOf(joinPoint);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            stop(sample, feature, layer, "success");
+            return result;
+        } catch (Throwable e) {
+            stop(sample, feature, layer, "exception");
+            throw e;
+        }
+    }
+
+    private void stop(Timer.Sample sample, String feature, String layer, String outcome) {
+        long nanos = sample.stop(Timer.builder(TIMER)
+                .tag("feature", feature)
+                .tag("layer", layer)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        if (layer.equals("service")) {
+            RequestTimings.addService(nanos);
+        }
+    }
+
+    private static String featureOf(ProceedingJoinPoint joinPoint) {
+        return FEATURES.get(joinPoint.getSignature().getDeclaringType());
+    }
+}
@@ -0,0 +1,45 @@
+package com.swd.uniportal.infrastructure.common.paging;
+
+import com.swd.uniportal.infrastructure.common.paging.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Position of the last row of a page in a keyset-paginated list, encoded as an opaque string.
+ *
+ * @param key                           Sort key of the last row.
+ * @param id                            Id of the last row, used as tie-breaker.
+ */
+public record Cursor(String key, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+        String raw = String.valueOf(id) + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned as {@code nextCursor}.
+     *
+     * @param value                         Encoded cursor, may be blank.
+     * @return                              The cursor, or null when value is blank.
+     * @throws InvalidCursorException       When value is not a valid cursor.
+     */
+    public static Cursor decode(String value) throws InvalidCursorException {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 1) {
+                throw new InvalidCursorException("Invalid cursor.");
+            }
+            return new Cursor(raw.substring(separatorIndex + 1), Long.valueOf(raw.substring(0, separatorIndex)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor.", e);
+        }
+    }
+}
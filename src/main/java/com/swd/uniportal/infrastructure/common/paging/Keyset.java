@@ -0,0 +1,28 @@
+package com.swd.uniportal.infrastructure.common.paging;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.swd.uniportal.infrastructure.common.SortOrder;
+
+/**
+ * Ordering of a list by a sort key with the id as tie-breaker, so that rows after a {@link Cursor}
+ * can be sought with {@code WHERE (key, id) > (?, ?)} instead of skipping rows with an offset.
+ */
+public record Keyset(ComparableExpression<String> key, NumberExpression<Long> id, SortOrder sortOrder) {
+
+    public OrderSpecifier<?>[] orders() {
+        if (sortOrder == SortOrder.DESC) {
+            return new OrderSpecifier<?>[] { key.desc(), id.desc() };
+        }
+        return new OrderSpecifier<?>[] { key.asc(), id.asc() };
+    }
+
+    public Predicate after(Cursor cursor) {
+        if (sortOrder == SortOrder.DESC) {
+            return key.lt(cursor.key()).or(key.eq(cursor.key()).and(id.lt(cursor.id())));
+        }
+        return key.gt(cursor.key()).or(key.eq(cursor.key()).and(id.gt(cursor.id())));
+    }
+}
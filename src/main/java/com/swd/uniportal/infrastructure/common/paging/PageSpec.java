@@ -0,0 +1,20 @@
+package com.swd.uniportal.infrastructure.common.paging;
+
+import lombok.Builder;
+
+/**
+ * Paging parameters of a list query.
+ *
+ * @param page                          One-based page number.
+ * @param pageSize                      Maximum number of rows per page.
+ * @param all                           Fetch every matching row, ignoring page and page size.
+ * @param count                         Whether to run the count query for total pages.
+ * @param cursor                        Seek after this row instead of skipping to the page, may be null.
+ */
+@Builder
+public record PageSpec(Long page, Long pageSize, boolean all, boolean count, Cursor cursor) {
+
+    public long offset() {
+        return (page - 1) * pageSize;
+    }
+}
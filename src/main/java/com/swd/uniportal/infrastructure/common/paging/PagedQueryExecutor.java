@@ -0,0 +1,183 @@
+package com.swd.uniportal.infrastructure.common.paging;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a list query and its count query for a predicate. The count query is a projected
+ * {@code SELECT COUNT} without ordering, and may run concurrently on its own entity manager. A
+ * concurrent count holds a second pooled connection, so at most half the pool is given to them;
+ * past that the count runs after the page on the request's own connection.
+ */
+@Component
+public final class PagedQueryExecutor {
+
+    @Value("${uniportal.pagination.concurrent-count}")
+    private boolean concurrentCount;
+
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore concurrentCounts;
+
+    @Autowired
+    public PagedQueryExecutor(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") Integer poolSize) {
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.concurrentCounts = new Semaphore(Math.max(1, poolSize / 2));
+    }
+
+    public <T> PagedResult<T> fetch(EntityPathBase<T> root, Predicate predicate, PageSpec spec,
+                                    OrderSpecifier<?>... orders) {
+        return fetch(root, root, predicate, spec, orders);
+    }
+
+    public <T> PagedResult<T> fetch(EntityPathBase<?> root, Expression<T> projection, Predicate predicate,
+                                    PageSpec spec, OrderSpecifier<?>... orders) {
+        return execute(root, projection, predicate, predicate, spec, orders);
+    }
+
+    /**
+     * Fetches a page ordered by the keyset. When the spec carries a cursor, rows are sought after it
+     * instead of skipped by offset, and the result carries the cursor of its last row when more rows
+     * may follow.
+     */
+    public <T> PagedResult<T> fetch(EntityPathBase<?> root, Expression<T> projection, Predicate predicate,
+                                    PageSpec spec, Keyset keyset, Function<T, Cursor> cursorOf) {
+        Predicate listPredicate = predicate;
+        if (!spec.all() && Objects.nonNull(spec.cursor())) {
+            listPredicate = new BooleanBuilder(predicate).and(keyset.after(spec.cursor()));
+        }
+        PagedResult<T> result = execute(root, projection, listPredicate, predicate, spec, keyset.orders());
+        if (spec.all() || result.content().size() < spec.pageSize()) {
+            return result;
+        }
+        return result.toBuilder()
+                .nextCursor(cursorOf.apply(result.content().getLast()).encode())
+                .build();
+    }
+
+    public <T> PagedResult<T> fetch(EntityPathBase<T> root, Predicate predicate, PageSpec spec, Keyset keyset,
+                                    Function<T, Cursor> cursorOf) {
+        return fetch(root, root, predicate, spec, keyset, cursorOf);
+    }
+
+    private <T> PagedResult<T> execute(EntityPathBase<?> root, Expression<T> projection, Predicate listPredicate,
+                                       Predicate countPredicate, PageSpec spec, OrderSpecifier<?>... orders) {
+        if (spec.all()) {
+            List<T> content = select(new JPAQueryFactory(entityManager), root, projection, listPredicate, orders)
+                    .fetch();
+            return PagedResult.<T>builder()
+                    .content(content)
+                    .page(spec.page())
+                    .pageSize((long) content.size())
+                    .totalElements((long) content.size())
+                    .build();
+        }
+        if (!spec.count()) {
+            return PagedResult.<T>builder()
+                    .content(fetchPage(root, projection, listPredicate, spec, orders))
+                    .page(spec.page())
+                    .pageSize(spec.pageSize())
+                    .build();
+        }
+        List<T> content;
+        Long totalElements;
+        if (concurrentCount && concurrentCounts.tryAcquire()) {
+            CompletableFuture<Long> countFuture;
+            try {
+                countFuture = CompletableFuture
+                        .supplyAsync(() -> countOnDetachedEntityManager(root, countPredicate), executor);
+            } catch (RuntimeException e) {
+                concurrentCounts.release();
+                throw e;
+            }
+            countFuture.whenComplete((count, e) -> concurrentCounts.release());
+            content = fetchPage(root, projection, listPredicate, spec, orders);
+            totalElements = join(countFuture);
+        } else {
+            content = fetchPage(root, projection, listPredicate, spec, orders);
+            totalElements = count(new JPAQueryFactory(entityManager), root, countPredicate);
+        }
+        return PagedResult.<T>builder()
+                .content(content)
+                .page(spec.page())
+                .pageSize(spec.pageSize())
+                .totalElements(totalElements)
+                .build();
+    }
+
+    public long count(EntityPathBase<?> root, Predicate predicate) {
+        return count(new JPAQueryFactory(entityManager), root, predicate);
+    }
+
+    private <T> List<T> fetchPage(EntityPathBase<?> root, Expression<T> projection, Predicate predicate,
+                                  PageSpec spec, OrderSpecifier<?>... orders) {
+        JPAQuery<T> query = select(new JPAQueryFactory(entityManager), root, projection, predicate, orders);
+        if (Objects.isNull(spec.cursor())) {
+            query.offset(spec.offset());
+        }
+        return query.limit(spec.pageSize()).fetch();
+    }
+
+    private <T> JPAQuery<T> select(JPAQueryFactory factory, EntityPathBase<?> root, Expression<T> projection,
+                                   Predicate predicate, OrderSpecifier<?>... orders) {
+        return factory.select(projection)
+                .from(root)
+                .where(predicate)
+                .orderBy(orders);
+    }
+
+    private long count(JPAQueryFactory factory, EntityPathBase<?> root, Predicate predicate) {
+        Long count = factory.select(root.count())
+                .from(root)
+                .where(predicate)
+                .fetchOne();
+        return Objects.isNull(count) ? 0 : count;
+    }
+
+    private long countOnDetachedEntityManager(EntityPathBase<?> root, Predicate predicate) {
+        EntityManager detached = entityManagerFactory.createEntityManager();
+        try {
+            return count(new JPAQueryFactory(detached), root, predicate);
+        } finally {
+            detached.close();
+        }
+    }
+
+    private static long join(CompletableFuture<Long> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,32 @@
+package com.swd.uniportal.infrastructure.common.paging;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.Builder;
+
+/**
+ * Result of a paged query.
+ *
+ * @param content                       Rows of the requested page.
+ * @param page                          One-based page number.
+ * @param pageSize                      Page size used for the query.
+ * @param totalElements                 Number of matching rows, null when counting was skipped.
+ * @param nextCursor                    Encoded cursor of the last row when more rows may follow, otherwise null.
+ */
+@Builder(toBuilder = true)
+public record PagedResult<T>(List<T> content, Long page, Long pageSize, Long totalElements, String nextCursor) {
+
+    public Long totalPages() {
+        if (Objects.isNull(totalElements)) {
+            return null;
+        }
+        if (pageSize == 0) {
+            return 1L;
+        }
+        return Math.ceilDiv(totalElements, pageSize);
+    }
+
+    public Long currentPageSize() {
+        return (long) content.size();
+    }
+}
@@ -0,0 +1,20 @@
+package com.swd.uniportal.infrastructure.common.paging.exception;
+
+@SuppressWarnings("unused")
+public final class InvalidCursorException extends Exception {
+
+    public InvalidCursorException() {
+    }
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidCursorException(Throwable cause) {
+        super(cause);
+    }
+}
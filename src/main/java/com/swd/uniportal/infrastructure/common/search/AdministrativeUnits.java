@@ -0,0 +1,238 @@
+package com.swd.uniportal.infrastructure.common.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swd.uniportal.domain.address.QCityProvince;
+import com.swd.uniportal.domain.address.QDistrict;
+import com.swd.uniportal.domain.address.QWard;
+import com.swd.uniportal.infrastructure.common.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Builder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory copy of the city/province, district and ward hierarchy with a prefix trie over their
+ * folded names. Every word of a name starts a trie key, so "ho chi" and "chi minh" both reach
+ * "Thành phố Hồ Chí Minh". Loaded at startup and kept current by the address write slices.
+ */
+@Component
+public final class AdministrativeUnits {
+
+    public enum Type {
+
+        CITY_PROVINCE,
+        DISTRICT,
+        WARD
+    }
+
+    public record Unit(Long id, String name) {
+    }
+
+    @Builder
+    public record Hit(Type type, Unit ward, Unit district, Unit cityProvince) {
+    }
+
+    private record Key(Type type, Long id) {
+    }
+
+    private record Node(String name, Long parentId) {
+    }
+
+    private final EntityManager entityManager;
+    private final Map<Long, Node> cityProvinces = new HashMap<>();
+    private final Map<Long, Node> districts = new HashMap<>();
+    private final Map<Long, Node> wards = new HashMap<>();
+    private final PrefixTrie<Key> trie = new PrefixTrie<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public AdministrativeUnits(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        JPAQueryFactory factory = new JPAQueryFactory(entityManager);
+        QCityProvince cityProvince = QCityProvince.cityProvince;
+        QDistrict district = QDistrict.district;
+        QWard ward = QWard.ward;
+        List<Tuple> cityProvinceRows = factory.select(cityProvince.id, cityProvince.name)
+                .from(cityProvince)
+                .fetch();
+        List<Tuple> districtRows = factory.select(district.id, district.name, district.cityProvince.id)
+                .from(district)
+                .fetch();
+        List<Tuple> wardRows = factory.select(ward.id, ward.name, ward.district.id)
+                .from(ward)
+                .fetch();
+        lock.writeLock().lock();
+        try {
+            cityProvinces.clear();
+            districts.clear();
+            wards.clear();
+            trie.clear();
+            for (Tuple row : cityProvinceRows) {
+                index(Type.CITY_PROVINCE, row.get(cityProvince.id), new Node(row.get(cityProvince.name), null));
+            }
+            for (Tuple row : districtRows) {
+                index(Type.DISTRICT, row.get(district.id),
+                        new Node(row.get(district.name), row.get(district.cityProvince.id)));
+            }
+            for (Tuple row : wardRows) {
+                index(Type.WARD, row.get(ward.id), new Node(row.get(ward.name), row.get(ward.district.id)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putCityProvince(Long id, String name) {
+        AfterCommit.run(() -> write(() -> index(Type.CITY_PROVINCE, id, new Node(name, null))));
+    }
+
+    public void putDistrict(Long id, String name, Long cityProvinceId) {
+        AfterCommit.run(() -> write(() -> index(Type.DISTRICT, id, new Node(name, cityProvinceId))));
+    }
+
+    public void putWard(Long id, String name, Long districtId) {
+        AfterCommit.run(() -> write(() -> index(Type.WARD, id, new Node(name, districtId))));
+    }
+
+    /**
+     * Removes a city/province together with its districts and wards, mirroring the cascade on
+     * the entity.
+     */
+    public void removeCityProvince(Long id) {
+        AfterCommit.run(() -> write(() -> {
+            childrenOf(districts, id).forEach(this::unindexDistrict);
+            unindex(Type.CITY_PROVINCE, id);
+        }));
+    }
+
+    public void removeDistrict(Long id) {
+        AfterCommit.run(() -> write(() -> unindexDistrict(id)));
+    }
+
+    public void removeWard(Long id) {
+        AfterCommit.run(() -> write(() -> unindex(Type.WARD, id)));
+    }
+
+    /**
+     * Finds the units having a word of their name start with the folded query.
+     *
+     * @param query the raw text typed so far
+     * @param limit the maximum number of hits
+     * @return the hits ordered by the folded name from the matched word on, so a name matched by
+     *         a later word sorts by that word rather than by its first, each with its full ward,
+     *         district and city/province path
+     */
+    public List<Hit> search(String query, int limit) {
+        String folded = TextFolding.fold(query);
+        List<Hit> hits = new ArrayList<>();
+        if (folded.isEmpty()) {
+            return hits;
+        }
+        lock.readLock().lock();
+        try {
+            for (Key key : trie.collect(folded, limit)) {
+                hits.add(toHit(key));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Hit toHit(Key key) {
+        Hit.HitBuilder hit = Hit.builder().type(key.type());
+        Long districtId = key.id();
+        Long cityProvinceId = key.id();
+        if (key.type() == Type.WARD) {
+            Node ward = wards.get(key.id());
+            hit.ward(new Unit(key.id(), ward.name()));
+            districtId = ward.parentId();
+        }
+        if (key.type() != Type.CITY_PROVINCE) {
+            Node district = districts.get(districtId);
+            if (Objects.isNull(district)) {
+                return hit.build();
+            }
+            hit.district(new Unit(districtId, district.name()));
+            cityProvinceId = district.parentId();
+        }
+        Node cityProvince = cityProvinces.get(cityProvinceId);
+        if (Objects.nonNull(cityProvince)) {
+            hit.cityProvince(new Unit(cityProvinceId, cityProvince.name()));
+        }
+        return hit.build();
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Type type, Long id, Node node) {
+        unindex(type, id);
+        nodesOf(type).put(id, node);
+        Key key = new Key(type, id);
+        for (String suffix : wordSuffixes(node.name())) {
+            trie.put(suffix, key);
+        }
+    }
+
+    private void unindex(Type type, Long id) {
+        Node previous = nodesOf(type).remove(id);
+        if (Objects.isNull(previous)) {
+            return;
+        }
+        Key key = new Key(type, id);
+        for (String suffix : wordSuffixes(previous.name())) {
+            trie.remove(suffix, key);
+        }
+    }
+
+    private void unindexDistrict(Long id) {
+        childrenOf(wards, id).forEach(wardId -> unindex(Type.WARD, wardId));
+        unindex(Type.DISTRICT, id);
+    }
+
+    private Map<Long, Node> nodesOf(Type type) {
+        return switch (type) {
+            case CITY_PROVINCE -> cityProvinces;
+            case DISTRICT -> districts;
+            case WARD -> wards;
+        };
+    }
+
+    private static List<Long> childrenOf(Map<Long, Node> nodes, Long parentId) {
+        return nodes.entrySet().stream()
+                .filter(e -> Objects.equals(e.getValue().parentId(), parentId))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static List<String> wordSuffixes(String name) {
+        String folded = TextFolding.fold(name);
+        List<String> suffixes = new ArrayList<>();
+        for (int i = 0; i < folded.length(); i++) {
+            if (i == 0 || folded.charAt(i - 1) == ' ') {
+                suffixes.add(folded.substring(i));
+            }
+        }
+        return suffixes;
+    }
+}
@@ -0,0 +1,161 @@
+package com.swd.uniportal.infrastructure.common.search;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Character trie mapping folded keys to values. Each node keeps its edges as a sorted character
+ * array beside an array of children, and its values as a small array, so a node costs a few
+ * words rather than a map. Lookups walk the prefix by binary search and then collect values below
+ * it in key order, stopping as soon as the limit is reached. Not thread-safe.
+ */
+public final class PrefixTrie<T> {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private Node<T> root = new Node<>();
+
+    public void put(String key, T value) {
+        Node<T> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrAdd(key.charAt(i));
+        }
+        node.addValue(value);
+    }
+
+    public void remove(String key, T value) {
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> node = root;
+        for (int i = 0; i < key.length() && Objects.nonNull(node); i++) {
+            path.push(node);
+            node = node.child(key.charAt(i));
+        }
+        if (Objects.isNull(node)) {
+            return;
+        }
+        node.removeValue(value);
+        for (int i = key.length() - 1; i >= 0 && node.isEmpty(); i--) {
+            Node<T> parent = path.pop();
+            parent.removeChild(key.charAt(i));
+            node = parent;
+        }
+    }
+
+    public Set<T> collect(String prefix, int limit) {
+        Node<T> node = root;
+        for (int i = 0; i < prefix.length() && Objects.nonNull(node); i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        Set<T> found = new LinkedHashSet<>();
+        if (Objects.nonNull(node)) {
+            collect(node, found, limit);
+        }
+        return found;
+    }
+
+    public void clear() {
+        root = new Node<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void collect(Node<T> node, Set<T> found, int limit) {
+        for (Object value : node.values) {
+            if (found.size() >= limit) {
+                return;
+            }
+            found.add((T) value);
+        }
+        for (Node<?> child : node.children) {
+            if (found.size() >= limit) {
+                return;
+            }
+            collect((Node<T>) child, found, limit);
+        }
+    }
+
+    private static final class Node<T> {
+
+        private char[] keys = NO_KEYS;
+        private Node<?>[] children = NO_CHILDREN;
+        private Object[] values = NO_VALUES;
+
+        @SuppressWarnings("unchecked")
+        private Node<T> child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? (Node<T>) children[index] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<T> childOrAdd(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return (Node<T>) children[index];
+            }
+            int at = -index - 1;
+            Node<T> child = new Node<>();
+            char[] grownKeys = new char[keys.length + 1];
+            System.arraycopy(keys, 0, grownKeys, 0, at);
+            System.arraycopy(keys, at, grownKeys, at + 1, keys.length - at);
+            grownKeys[at] = c;
+            Node<?>[] grownChildren = new Node<?>[children.length + 1];
+            System.arraycopy(children, 0, grownChildren, 0, at);
+            System.arraycopy(children, at, grownChildren, at + 1, children.length - at);
+            grownChildren[at] = child;
+            keys = grownKeys;
+            children = grownChildren;
+            return child;
+        }
+
+        private void removeChild(char c) {
+            int at = Arrays.binarySearch(keys, c);
+            if (at < 0) {
+                return;
+            }
+            if (keys.length == 1) {
+                keys = NO_KEYS;
+                children = NO_CHILDREN;
+                return;
+            }
+            char[] shrunkKeys = new char[keys.length - 1];
+            System.arraycopy(keys, 0, shrunkKeys, 0, at);
+            System.arraycopy(keys, at + 1, shrunkKeys, at, keys.length - at - 1);
+            Node<?>[] shrunkChildren = new Node<?>[children.length - 1];
+            System.arraycopy(children, 0, shrunkChildren, 0, at);
+            System.arraycopy(children, at + 1, shrunkChildren, at, children.length - at - 1);
+            keys = shrunkKeys;
+            children = shrunkChildren;
+        }
+
+        private void addValue(T value) {
+            for (Object existing : values) {
+                if (existing.equals(value)) {
+                    return;
+                }
+            }
+            values = Arrays.copyOf(values, values.length + 1);
+            values[values.length - 1] = value;
+        }
+
+        private void removeValue(T value) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i].equals(value)) {
+                    Object[] shrunk = new Object[values.length - 1];
+                    System.arraycopy(values, 0, shrunk, 0, i);
+                    System.arraycopy(values, i + 1, shrunk, i, values.length - i - 1);
+                    values = shrunk.length == 0 ? NO_VALUES : shrunk;
+                    return;
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return keys.length == 0 && values.length == 0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.swd.uniportal.infrastructure.common.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swd.uniportal.domain.admission.QAdmissionPlan;
+import com.swd.uniportal.domain.institution.QHighSchool;
+import com.swd.uniportal.domain.institution.QInstitution;
+import com.swd.uniportal.domain.major.QDepartment;
+import com.swd.uniportal.domain.major.QMajor;
+import com.swd.uniportal.infrastructure.common.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds one {@link TrigramIndex} per searchable entity. The indexes are loaded from the database at
+ * startup and kept current by the create, update and delete slices, whose changes are applied once
+ * their transaction commits.
+ */
+@Component
+public final class SearchIndexes {
+
+    private static final int MAX_MATCHED_IDS = 1000;
+
+    private final EntityManager entityManager;
+    private final Map<SearchTarget, TrigramIndex> indexes = new EnumMap<>(SearchTarget.class);
+
+    @Autowired
+    public SearchIndexes(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        for (SearchTarget target : SearchTarget.values()) {
+            indexes.put(target, new TrigramIndex());
+        }
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        QInstitution institution = QInstitution.institution;
+        QHighSchool highSchool = QHighSchool.highSchool;
+        QMajor major = QMajor.major;
+        QDepartment department = QDepartment.department;
+        QAdmissionPlan admissionPlan = QAdmissionPlan.admissionPlan;
+        load(SearchTarget.INSTITUTION, institution, institution.id, institution.name);
+        load(SearchTarget.HIGH_SCHOOL, highSchool, highSchool.id, highSchool.name);
+        load(SearchTarget.MAJOR, major, major.id, major.name);
+        load(SearchTarget.DEPARTMENT, department, department.id, department.name);
+        load(SearchTarget.ADMISSION_PLAN, admissionPlan, admissionPlan.id, admissionPlan.name);
+    }
+
+    public void put(SearchTarget target, Long id, String name) {
+        AfterCommit.run(() -> indexes.get(target).put(id, name));
+    }
+
+    public void remove(SearchTarget target, Long id) {
+        AfterCommit.run(() -> indexes.get(target).remove(id));
+    }
+
+    public Set<Long> search(SearchTarget target, String query) {
+        return indexes.get(target).search(query);
+    }
+
+    /**
+     * Restricts {@code id} to the entities whose folded name contains the folded query, or to
+     * nothing when none does. The matches come from the index; when there are more than
+     * {@value #MAX_MATCHED_IDS} of them, the same containment test runs in the database on the
+     * stored {@code foldedName} instead of binding an id list that could grow past the driver's
+     * placeholder limit.
+     */
+    public Predicate matching(SearchTarget target, NumberPath<Long> id, StringPath foldedName, String query) {
+        Set<Long> ids = search(target, query);
+        if (ids.isEmpty()) {
+            return Expressions.FALSE.isTrue();
+        }
+        return ids.size() > MAX_MATCHED_IDS ? foldedName.contains(TextFolding.fold(query)) : id.in(ids);
+    }
+
+    private void load(SearchTarget target, EntityPathBase<?> root, NumberPath<Long> id, StringPath name) {
+        Map<Long, String> entries = new HashMap<>();
+        for (Tuple row : new JPAQueryFactory(entityManager).select(id, name).from(root).fetch()) {
+            entries.put(row.get(id), row.get(name));
+        }
+        indexes.get(target).replaceAll(entries);
+    }
+}
@@ -0,0 +1,10 @@
+package com.swd.uniportal.infrastructure.common.search;
+
+public enum SearchTarget {
+
+    INSTITUTION,
+    HIGH_SCHOOL,
+    MAJOR,
+    DEPARTMENT,
+    ADMISSION_PLAN
+}
@@ -0,0 +1,30 @@
+package com.swd.uniportal.infrastructure.common.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Folds text for accent-insensitive matching: Vietnamese diacritics are stripped ("Đại học Bách
+ * khoa" becomes "dai hoc bach khoa"), case is lowered and runs of whitespace are collapsed.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextFolding {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    public static String fold(String text) {
+        if (Objects.isNull(text)) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'D');
+        return WHITESPACES.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
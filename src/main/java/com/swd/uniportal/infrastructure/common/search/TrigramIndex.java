@@ -0,0 +1,142 @@
+package com.swd.uniportal.infrastructure.common.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from the trigrams of folded names to entity ids. A search intersects the posting
+ * sets of the query trigrams, then keeps the ids whose folded name really contains the query.
+ */
+public final class TrigramIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<Long, String> texts = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long id, String text) {
+        String folded = TextFolding.fold(text);
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+            texts.put(id, folded);
+            for (String gram : grams(folded)) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceAll(Map<Long, String> entries) {
+        lock.writeLock().lock();
+        try {
+            texts.clear();
+            postings.clear();
+            entries.forEach((id, text) -> {
+                String folded = TextFolding.fold(text);
+                texts.put(id, folded);
+                for (String gram : grams(folded)) {
+                    postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the ids whose folded name contains the folded query. Queries shorter than a trigram
+     * are matched by scanning the folded names, which are held in memory as well.
+     *
+     * @param query the raw search text
+     * @return the matching ids, empty when nothing matches
+     */
+    public Set<Long> search(String query) {
+        String folded = TextFolding.fold(query);
+        lock.readLock().lock();
+        try {
+            if (folded.length() < GRAM) {
+                return scan(texts.keySet(), folded);
+            }
+            List<Set<Long>> sets = new ArrayList<>();
+            for (String gram : grams(folded)) {
+                Set<Long> posting = postings.get(gram);
+                if (Objects.isNull(posting)) {
+                    return Collections.emptySet();
+                }
+                sets.add(posting);
+            }
+            sets.sort(Comparator.comparingInt(Set::size));
+            Set<Long> candidates = new HashSet<>(sets.getFirst());
+            for (int i = 1; i < sets.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(sets.get(i));
+            }
+            return scan(candidates, folded);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> scan(Set<Long> ids, String folded) {
+        Set<Long> matches = new HashSet<>();
+        for (Long id : ids) {
+            if (texts.get(id).contains(folded)) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    private void unindex(Long id) {
+        String previous = texts.remove(id);
+        if (Objects.isNull(previous)) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Set<Long> posting = postings.get(gram);
+            if (Objects.nonNull(posting)) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String folded) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= folded.length(); i++) {
+            grams.add(folded.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,57 @@
+package com.swd.uniportal.infrastructure.common.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Scopes {@link SqlStatements} to a request. The slice is the class enclosing the controller that
+ * handled it, and the endpoint is the mapped path pattern, both read back from the attributes the
+ * dispatcher leaves on the request.
+ */
+@Component
+@ConditionalOnAvailableEndpoint(endpoint = SqlStatementsEndpoint.class)
+public final class SqlStatementFilter extends OncePerRequestFilter {
+
+    private final SqlStatements statements;
+
+    @Autowired
+    public SqlStatementFilter(SqlStatements statements) {
+        this.statements = statements;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        statements.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements.end(endpointOf(request), sliceOf(request));
+        }
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + Objects.requireNonNullElse(pattern, request.getRequestURI());
+    }
+
+    private static String sliceOf(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            Class<?> controller = handler.getBeanType();
+            return Objects.requireNonNullElse(controller.getEnclosingClass(), controller).getSimpleName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,169 @@
+package com.swd.uniportal.infrastructure.common.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares for each HTTP request and adds them up per slice.
+ * A select prepared again with the same shape within one request is the mark of an N+1, so those
+ * shapes are kept as offenders. Statements run on other threads, such as the concurrent page
+ * counts, are not seen. Requests no handler matched, such as rejected scans of arbitrary paths,
+ * share one {@value #UNMATCHED} entry so they cannot grow the report. See
+ * {@link SqlStatementFilter} for where requests begin and end and {@link SqlStatementsEndpoint} for
+ * the report, which is only collected where that endpoint is exposed.
+ */
+@Component
+@ConditionalOnAvailableEndpoint(endpoint = SqlStatementsEndpoint.class)
+public final class SqlStatements implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final int MAX_OFFENDERS_PER_SLICE = 20;
+    private static final String UNMATCHED = "unmatched";
+
+    private final ThreadLocal<Request> current = new ThreadLocal<>();
+    private final ThreadLocal<Recording> recording = new ThreadLocal<>();
+    private final Map<String, SliceStats> slices = new ConcurrentHashMap<>();
+    private final int repeatThreshold;
+
+    /**
+     * What one request ran: the number of statements and the select shapes it repeated, with how
+     * many times each was prepared.
+     */
+    public record RequestSummary(String endpoint, String slice, int statements, Map<String, Integer> repeated) {
+    }
+
+    public record SliceReport(long requests, long statements, int maxStatements, Map<String, Integer> repeated) {
+    }
+
+    private static final class Request {
+
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int statements;
+    }
+
+    private static final class SliceStats {
+
+        private final Map<String, Integer> repeated = new HashMap<>();
+        private long requests;
+        private long statements;
+        private int maxStatements;
+    }
+
+    @Autowired
+    public SqlStatements(@Value("${uniportal.sql.repeat-threshold}") Integer repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Request request = current.get();
+        if (Objects.nonNull(request)) {
+            request.statements++;
+            request.shapes.merge(shapeOf(sql), 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    void begin() {
+        current.set(new Request());
+    }
+
+    void end(String endpoint, String slice) {
+        Request request = current.get();
+        current.remove();
+        if (Objects.isNull(request)) {
+            return;
+        }
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        request.shapes.forEach((shape, times) -> {
+            if (times >= repeatThreshold && shape.startsWith("select")) {
+                repeated.put(shape, times);
+            }
+        });
+        RequestSummary summary = new RequestSummary(endpoint, slice, request.statements, repeated);
+        SliceStats stats = slices.computeIfAbsent(Objects.requireNonNullElse(slice, UNMATCHED),
+                key -> new SliceStats());
+        synchronized (stats) {
+            stats.requests++;
+            stats.statements += summary.statements();
+            stats.maxStatements = Math.max(stats.maxStatements, summary.statements());
+            repeated.forEach((shape, times) -> {
+                if (stats.repeated.containsKey(shape) || stats.repeated.size() < MAX_OFFENDERS_PER_SLICE) {
+                    stats.repeated.merge(shape, times, Math::max);
+                }
+            });
+        }
+        Recording recorder = recording.get();
+        if (Objects.nonNull(recorder)) {
+            recorder.requests.add(summary);
+        }
+    }
+
+    public Map<String, SliceReport> report() {
+        Map<String, SliceReport> report = new HashMap<>();
+        slices.forEach((slice, stats) -> {
+            synchronized (stats) {
+                report.put(slice, new SliceReport(stats.requests, stats.statements, stats.maxStatements,
+                        Map.copyOf(stats.repeated)));
+            }
+        });
+        return report;
+    }
+
+    public void reset() {
+        slices.clear();
+    }
+
+    /**
+     * Collects the summaries of the requests completed on the calling thread until closed, which
+     * is how tests served by MockMvc check what an endpoint ran.
+     */
+    public Recording record() {
+        Recording recorder = new Recording();
+        recording.set(recorder);
+        return recorder;
+    }
+
+    public final class Recording implements AutoCloseable {
+
+        private final List<RequestSummary> requests = new ArrayList<>();
+
+        private Recording() {
+        }
+
+        public List<RequestSummary> requests() {
+            return Collections.unmodifiableList(requests);
+        }
+
+        @Override
+        public void close() {
+            recording.remove();
+        }
+    }
+
+    private static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+    }
+}
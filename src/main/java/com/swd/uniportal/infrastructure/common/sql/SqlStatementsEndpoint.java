@@ -0,0 +1,36 @@
+package com.swd.uniportal.infrastructure.common.sql;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Statements per slice since start-up or the last reset: requests served, statements run, the
+ * most a single request ran, and the select shapes repeated within a request (N+1 suspects).
+ */
+@Component
+@ConditionalOnAvailableEndpoint(endpoint = SqlStatementsEndpoint.class)
+@Endpoint(id = "sqlstatements")
+public final class SqlStatementsEndpoint {
+
+    private final SqlStatements statements;
+
+    @Autowired
+    public SqlStatementsEndpoint(SqlStatements statements) {
+        this.statements = statements;
+    }
+
+    @ReadOperation
+    public Map<String, SqlStatements.SliceReport> report() {
+        return statements.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statements.reset();
+    }
+}
@@ -0,0 +1,32 @@
+package com.swd.uniportal.infrastructure.common.timing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the JDBC execution time of each statement or batch to {@link RequestTimings}. Hibernate
+ * creates one per session from {@code hibernate.session.events.auto}.
+ */
+public final class DatabaseTimings implements SessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.addStatement(System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.addStatement(System.nanoTime() - startedAt);
+    }
+}
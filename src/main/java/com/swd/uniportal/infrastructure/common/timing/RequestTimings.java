@@ -0,0 +1,95 @@
+package com.swd.uniportal.infrastructure.common.timing;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Where the time of the current request went, kept per thread in one reused instance so that
+ * recording a phase allocates nothing. Phases overlap: the service time includes the statements
+ * its datasources ran, and the auth time includes loading the principal. Work on other threads,
+ * such as the concurrent page counts, is not seen.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = ThreadLocal.withInitial(RequestTimings::new);
+
+    private boolean active;
+    private long startedAt;
+    private long auth;
+    private long db;
+    private int statements;
+    private long service;
+    private long serialize;
+
+    public static void addAuth(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.auth += nanos;
+        }
+    }
+
+    public static void addStatement(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.db += nanos;
+            timings.statements++;
+        }
+    }
+
+    public static void addService(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.service += nanos;
+        }
+    }
+
+    public static void addSerialize(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.serialize += nanos;
+        }
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = CURRENT.get();
+        timings.active = true;
+        timings.startedAt = System.nanoTime();
+        timings.auth = 0;
+        timings.db = 0;
+        timings.statements = 0;
+        timings.service = 0;
+        timings.serialize = 0;
+        return timings;
+    }
+
+    void end() {
+        active = false;
+    }
+
+    long total() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * The {@code Server-Timing} header value, with durations in milliseconds.
+     */
+    String toHeader() {
+        StringBuilder header = new StringBuilder(128);
+        append(header, "auth", auth);
+        header.append(", ");
+        append(header, "db", db);
+        header.append(";desc=\"").append(statements).append(" statements\", ");
+        append(header, "service", service);
+        header.append(", ");
+        append(header, "serialize", serialize);
+        header.append(", ");
+        append(header, "total", total());
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String name, long nanos) {
+        long tenths = nanos / 100_000;
+        header.append(name).append(";dur=").append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
@@ -0,0 +1,124 @@
+package com.swd.uniportal.infrastructure.common.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Scopes {@link RequestTimings} to a request. With {@code uniportal.timing.header} on, the timings
+ * are reported in a {@code Server-Timing} header, added just before the body starts so that it is
+ * not lost to a committed response; it is off by default since it tells any client how many
+ * statements a request ran. Requests slower than {@code uniportal.timing.log-threshold} are logged
+ * with their breakdown; a zero threshold turns that off. With both off nothing is recorded.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public final class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean header;
+    private final long logThreshold;
+
+    @Autowired
+    public ServerTimingFilter(@Value("${uniportal.timing.header}") Boolean header,
+                              @Value("${uniportal.timing.log-threshold}") Duration logThreshold) {
+        this.header = header;
+        this.logThreshold = logThreshold.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !header && logThreshold == 0;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        TimingResponse timingResponse = header ? new TimingResponse(response, timings) : null;
+        try {
+            filterChain.doFilter(request, Objects.requireNonNullElse(timingResponse, response));
+        } finally {
+            if (Objects.nonNull(timingResponse)) {
+                timingResponse.addServerTiming();
+            }
+            if (logThreshold > 0 && timings.total() >= logThreshold) {
+                log.warn("Slow request {} {} ({}): {}", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), timings.toHeader());
+            }
+            timings.end();
+        }
+    }
+
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private boolean added;
+
+        private TimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        private void addServerTiming() {
+            if (!added && !isCommitted()) {
+                setHeader(SERVER_TIMING, timings.toHeader());
+            }
+            added = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.swd.uniportal.infrastructure.common.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replaces the default JSON converter to add the Jackson time to {@link RequestTimings}. The body
+ * still streams to the client: the time spent blocked in writes to the response is left out, and
+ * the response stream is only opened on the first write, so a body that fits Jackson's buffer is
+ * fully serialized by the time the {@code Server-Timing} header goes out.
+ */
+@Component
+public final class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    @Autowired
+    public TimedJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        TimedBody body = new TimedBody(outputMessage);
+        super.writeInternal(object, type, body);
+        body.finish();
+    }
+
+    private static final class TimedBody extends OutputStream implements HttpOutputMessage {
+
+        private final HttpOutputMessage outputMessage;
+        private final long startedAt = System.nanoTime();
+        private OutputStream delegate;
+        private long blocked;
+        private long reported;
+
+        private TimedBody(HttpOutputMessage outputMessage) {
+            this.outputMessage = outputMessage;
+        }
+
+        @Override
+        public @NonNull OutputStream getBody() {
+            return this;
+        }
+
+        @Override
+        public @NonNull HttpHeaders getHeaders() {
+            return outputMessage.getHeaders();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long before = open();
+            delegate.write(b);
+            blocked += System.nanoTime() - before;
+        }
+
+        @Override
+        public void write(@NonNull byte[] b, int off, int len) throws IOException {
+            long before = open();
+            delegate.write(b, off, len);
+            blocked += System.nanoTime() - before;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long before = open();
+            delegate.flush();
+            blocked += System.nanoTime() - before;
+        }
+
+        /**
+         * Reports the time serialized so far before the response stream is opened, since opening
+         * it is what lets the headers go out.
+         */
+        private long open() throws IOException {
+            long now = System.nanoTime();
+            if (Objects.isNull(delegate)) {
+                reported = now - startedAt;
+                RequestTimings.addSerialize(reported);
+                delegate = outputMessage.getBody();
+            }
+            return now;
+        }
+
+        private void finish() throws IOException {
+            open();
+            RequestTimings.addSerialize(System.nanoTime() - startedAt - blocked - reported);
+        }
+    }
+}
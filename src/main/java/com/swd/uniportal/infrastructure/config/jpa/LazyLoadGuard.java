@@ -0,0 +1,95 @@
+package com.swd.uniportal.infrastructure.config.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.NonNull;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEventListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Test mode for the fetch plans of the slices, on with {@code uniportal.jpa.lazy-load-guard=true}.
+ * Open-session-in-view is off, so whatever a slice maps has to be loaded by its datasource. The
+ * guard keeps a session open for the request only so that a lazy load made outside a transaction
+ * reaches Hibernate, where it is refused and the request fails naming the association instead of
+ * ending in the generic server error of the controller.
+ */
+@Component
+@ConditionalOnProperty(name = "uniportal.jpa.lazy-load-guard", havingValue = "true")
+public final class LazyLoadGuard extends OncePerRequestFilter implements WebMvcConfigurer {
+
+    private static final String VIOLATIONS_ATTRIBUTE = LazyLoadGuard.class.getName() + ".violations";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public LazyLoadGuard(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        listeners.prependListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) event ->
+                check(event.getCollection().getRole()));
+        listeners.prependListeners(EventType.LOAD, (LoadEventListener) (event, loadType) -> {
+            if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+                check(event.getEntityClassName() + "#" + event.getEntityId());
+            }
+        });
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+        @SuppressWarnings("unchecked")
+        List<String> violations = (List<String>) request.getAttribute(VIOLATIONS_ATTRIBUTE);
+        if (Objects.nonNull(violations)) {
+            throw new ServletException(String.join(" ", violations));
+        }
+    }
+
+    private static void check(String loaded) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (Objects.isNull(attributes) || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<String> violations = (List<String>) attributes
+                .getAttribute(VIOLATIONS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (Objects.isNull(violations)) {
+            violations = new ArrayList<>();
+            attributes.setAttribute(VIOLATIONS_ATTRIBUTE, violations, RequestAttributes.SCOPE_REQUEST);
+        }
+        String violation = String.format("Lazy load of '%s' outside the fetch plan of the slice.", loaded);
+        violations.add(violation);
+        throw new LazyInitializationException(violation);
+    }
+}
@@ -0,0 +1,64 @@
+package com.swd.uniportal.infrastructure.config.security;
+
+import com.swd.uniportal.infrastructure.common.AfterCommit;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the principals of recently authenticated JWT subjects so the filter does not reload the
+ * account on every request. An entry never outlives the token it was loaded for, and the account
+ * write slices evict their subject once their transaction commits.
+ */
+@Component
+public final class PrincipalCache {
+
+    private final Map<String, Entry> entries;
+    private long generation;
+
+    public PrincipalCache(@Value("${uniportal.security.principal-cache.max-entries}") Integer maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public UserDetails get(String subject, Instant tokenExpiresAt, Supplier<UserDetails> loader) {
+        long loadedGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(subject);
+            if (Objects.nonNull(entry) && Instant.now().isBefore(entry.expiresAt())) {
+                return entry.principal();
+            }
+            entries.remove(subject);
+            loadedGeneration = generation;
+        }
+        UserDetails principal = loader.get();
+        synchronized (this) {
+            if (loadedGeneration == generation && Objects.nonNull(tokenExpiresAt)) {
+                entries.put(subject, new Entry(principal, tokenExpiresAt));
+            }
+        }
+        return principal;
+    }
+
+    public void evict(String subject) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                generation++;
+                entries.remove(subject);
+            }
+        });
+    }
+
+    private record Entry(UserDetails principal, Instant expiresAt) {
+    }
+}
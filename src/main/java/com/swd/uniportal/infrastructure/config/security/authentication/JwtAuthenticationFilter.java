@@ -1,5 +1,7 @@
 package com.swd.uniportal.infrastructure.config.security.authentication;
 
+import com.swd.uniportal.infrastructure.common.timing.RequestTimings;
+import com.swd.uniportal.infrastructure.config.security.PrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,25 +26,32 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain)
             throws ServletException, IOException {
-        String email = checkIfAlreadyAuthenticatedAndExtractEmailFromJwtToken(request);
-        if (StringUtils.isNotBlank(email)) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        long startedAt = System.nanoTime();
+        VerifiedToken verifiedToken = checkIfAlreadyAuthenticatedAndVerifyJwtToken(request);
+        if (Objects.nonNull(verifiedToken)) {
+            String email = verifiedToken.subject();
+            UserDetails userDetails = principalCache.get(email, verifiedToken.expiresAt(),
+                    () -> userDetailsService.loadUserByUsername(email));
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities());
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
+        RequestTimings.addAuth(System.nanoTime() - startedAt);
         filterChain.doFilter(request, response);
     }
 
@@ -54,7 +63,7 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
         return bearerToken.substring(BEARER.length());
     }
 
-    private String checkIfAlreadyAuthenticatedAndExtractEmailFromJwtToken(HttpServletRequest request) {
+    private VerifiedToken checkIfAlreadyAuthenticatedAndVerifyJwtToken(HttpServletRequest request) {
         if (Objects.nonNull(SecurityContextHolder.getContext().getAuthentication())) {
             return null;
         }
@@ -62,6 +71,6 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (Objects.isNull(token)) {
             return null;
         }
-        return jwtService.validateJwtToken(token);
+        return jwtService.verify(token);
     }
 }
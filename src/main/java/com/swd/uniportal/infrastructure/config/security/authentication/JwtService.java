@@ -1,10 +1,16 @@
 package com.swd.uniportal.infrastructure.config.security.authentication;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.Validate;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -12,14 +18,33 @@ import org.springframework.stereotype.Service;
 @Service
 public final class JwtService {
 
-    @Value("${jwt.token.lifetime}")
-    private Long tokenLifetime;
+    private final Long tokenLifetime;
+    private final String tokenIssuer;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
 
-    @Value("${jwt.token.secret}")
-    private String tokenSecret;
+    /**
+     * Tokens that already passed verification, keyed by the whole token so a hit is only ever
+     * answered for the exact string that was verified. Expired entries are dropped when the map
+     * fills up, then arbitrary ones down to three quarters of the bound.
+     */
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final int maxVerifiedTokens;
 
-    @Value("${jwt.token.issuer}")
-    private String tokenIssuer;
+    @Autowired
+    public JwtService(
+            @Value("${jwt.token.lifetime}") Long tokenLifetime,
+            @Value("${jwt.token.secret}") String tokenSecret,
+            @Value("${jwt.token.issuer}") String tokenIssuer,
+            @Value("${uniportal.security.verified-token-cache.max-entries}") Integer maxVerifiedTokens) {
+        this.tokenLifetime = tokenLifetime;
+        this.tokenIssuer = tokenIssuer;
+        this.algorithm = Algorithm.HMAC256(tokenSecret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(tokenIssuer)
+                .build();
+        this.maxVerifiedTokens = maxVerifiedTokens;
+    }
 
     public String generateToken(UserDetails userDetails) {
         Validate.notNull(userDetails, "User details is null when generating JWT token.");
@@ -29,7 +54,7 @@ public final class JwtService {
                 .withSubject(userDetails.getUsername())
                 .withIssuedAt(issuedAt)
                 .withExpiresAt(issuedAt.plusMillis(tokenLifetime))
-                .sign(Algorithm.HMAC256(tokenSecret));
+                .sign(algorithm);
     }
 
     /**
@@ -39,17 +64,50 @@ public final class JwtService {
      * @return                              The subject of the token.
      */
     public String validateJwtToken(String token) {
+        VerifiedToken verifiedToken = verify(token);
+        return Objects.isNull(verifiedToken) ? null : verifiedToken.subject();
+    }
+
+    /**
+     * Validates the JWT token in String format and returns its subject and expiry. A token that
+     * verified before is answered from memory until it expires.
+     *
+     * @param token                         JWT token as String.
+     * @return                              The verified token, or null when it is invalid.
+     */
+    public VerifiedToken verify(String token) {
         Validate.notBlank(token, "Token is null or blank when validating.");
+        VerifiedToken cached = verifiedTokens.get(token);
+        if (Objects.nonNull(cached)) {
+            if (Instant.now().isBefore(cached.expiresAt())) {
+                return cached;
+            }
+            verifiedTokens.remove(token, cached);
+        }
         try {
-            DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC256(tokenSecret))
-                    .withIssuer(tokenIssuer)
-                    .build()
-                    .verify(token);
+            DecodedJWT decodedJWT = verifier.verify(token);
             String subject = decodedJWT.getSubject();
             Validate.notBlank(subject);
-            return subject;
+            VerifiedToken verifiedToken = new VerifiedToken(subject, decodedJWT.getExpiresAtAsInstant());
+            if (Objects.nonNull(verifiedToken.expiresAt()) && maxVerifiedTokens > 0) {
+                if (verifiedTokens.size() >= maxVerifiedTokens) {
+                    evictVerifiedTokens();
+                }
+                verifiedTokens.put(token, verifiedToken);
+            }
+            return verifiedToken;
         } catch (Exception e) {
             return null;
         }
     }
+
+    private void evictVerifiedTokens() {
+        Instant now = Instant.now();
+        verifiedTokens.values().removeIf(verifiedToken -> !now.isBefore(verifiedToken.expiresAt()));
+        Iterator<String> tokens = verifiedTokens.keySet().iterator();
+        while (verifiedTokens.size() > maxVerifiedTokens * 3 / 4 && tokens.hasNext()) {
+            tokens.next();
+            tokens.remove();
+        }
+    }
 }
@@ -0,0 +1,6 @@
+package com.swd.uniportal.infrastructure.config.security.authentication;
+
+import java.time.Instant;
+
+public record VerifiedToken(String subject, Instant expiresAt) {
+}
@@ -1,8 +1,20 @@
 package com.swd.uniportal.infrastructure.repository;
 
 import com.swd.uniportal.domain.address.Address;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
 
+    @Query(
+            value = """
+                    SELECT e FROM Address e
+                    LEFT JOIN FETCH e.ward
+                    LEFT JOIN FETCH e.district
+                    LEFT JOIN FETCH e.cityProvince
+                    WHERE e.id = ?1
+                    """
+    )
+    Optional<Address> getByIdPopulated(Long id);
 }
\ No newline at end of file
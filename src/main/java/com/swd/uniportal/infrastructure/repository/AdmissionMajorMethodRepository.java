@@ -1,6 +1,7 @@
 package com.swd.uniportal.infrastructure.repository;
 
 import com.swd.uniportal.domain.admission.AdmissionMajorMethod;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -9,19 +10,25 @@ import org.springframework.data.jpa.repository.Query;
 
 public interface AdmissionMajorMethodRepository extends JpaRepository<AdmissionMajorMethod, Long> {
 
+    @Query(
+            value = """
+                    SELECT e.id FROM AdmissionMajorMethod e
+                    WHERE e.admissionMajor.id = ?1 AND (e.name IS NULL OR e.name LIKE CONCAT('%', ?2, '%'))
+                    ORDER BY e.id
+                    """
+    )
+    List<Long> getIdsBySearch(Long admissionMajorId, String search, Pageable pageable);
+
     @Query(
             value = """
                     SELECT e FROM AdmissionMajorMethod e
                     LEFT JOIN FETCH e.admissionMethod
                     LEFT JOIN FETCH e.subjectGroups
-                    WHERE e.admissionMajor.id = ?1 AND (e.name IS NULL OR e.name LIKE CONCAT('%', ?2, '%'))
-                    """,
-            countQuery = """
-                        SELECT COUNT(e) FROM AdmissionMajorMethod e
-                        WHERE e.admissionMajor.id = ?1 AND (e.name IS NULL OR e.name LIKE CONCAT('%', ?2, '%'))
-                        """
+                    WHERE e.id IN ?1
+                    ORDER BY e.id
+                    """
     )
-    List<AdmissionMajorMethod> getBySearch(Long admissionMajorId, String search, Pageable pageable);
+    List<AdmissionMajorMethod> getPopulatedByIdIn(Collection<Long> ids);
 
     @Query(
             value = """
@@ -1,6 +1,7 @@
 package com.swd.uniportal.infrastructure.repository;
 
 import com.swd.uniportal.domain.admission.AdmissionMajor;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,15 @@ import org.springframework.data.jpa.repository.Query;
 
 public interface AdmissionMajorRepository extends JpaRepository<AdmissionMajor, Long> {
 
+    @Query(
+            value = """
+                    SELECT e.id FROM AdmissionMajor e
+                    WHERE e.admissionPlan.id = ?1 AND e.name LIKE CONCAT('%', ?2, '%')
+                    ORDER BY e.id
+                    """
+    )
+    List<Long> getAdmissionMajorIdsBySearch(Long admissionId, String search, Pageable pageable);
+
     @Query(
             value = """
                     SELECT e FROM AdmissionMajor e
@@ -18,14 +28,11 @@ public interface AdmissionMajorRepository extends JpaRepository<AdmissionMajor,
                     LEFT JOIN FETCH amm.admissionMethod
                     LEFT JOIN FETCH amm.subjectGroups
                     LEFT JOIN FETCH e.major
-                    WHERE e.admissionPlan.id = ?1 AND e.name LIKE CONCAT('%', ?2, '%')
-                    """,
-            countQuery = """
-                        SELECT COUNT(e) FROM AdmissionMajor e
-                        WHERE e.admissionPlan.id = ?1 AND e.name LIKE CONCAT('%', ?2, '%')
-                        """
+                    WHERE e.id IN ?1
+                    ORDER BY e.id
+                    """
     )
-    List<AdmissionMajor> getAdmissionMajorsBySearch(Long admissionId, String search, Pageable pageable);
+    List<AdmissionMajor> getPopulatedByIdIn(Collection<Long> ids);
 
     @Query(
             value = """
@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AdmissionPlanRepository extends JpaRepository<AdmissionPlan, Long> {
 
@@ -85,4 +87,43 @@ public interface AdmissionPlanRepository extends JpaRepository<AdmissionPlan, Lo
                     """
     )
     Integer countAdmissionPlansBySearchAndInstitutionId(String search, Long institutionId);
+
+    @Query(
+            value = """
+                    SELECT am.admissionPlan.id FROM AdmissionMajor am
+                    WHERE am.id = ?1
+                    """
+    )
+    Optional<Long> getIdByAdmissionMajorId(Long admissionMajorId);
+
+    @Query(
+            value = """
+                    SELECT amm.admissionMajor.admissionPlan.id FROM AdmissionMajorMethod amm
+                    WHERE amm.id = ?1
+                    """
+    )
+    Optional<Long> getIdByAdmissionMajorMethodId(Long admissionMajorMethodId);
+
+    @Query(
+            value = """
+                    SELECT atp.admissionPlan.id FROM AdmissionTrainingProgram atp
+                    WHERE atp.id = ?1
+                    """
+    )
+    Optional<Long> getIdByAdmissionTrainingProgramId(Long admissionTrainingProgramId);
+
+    /**
+     * Marks the plan as changed after a write to one of its training programs, majors or major
+     * methods, which Hibernate does not see as a change of the plan itself.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE AdmissionPlan e
+                    SET e.version = e.version + 1
+                    WHERE e.id = ?1
+                    """
+    )
+    void incrementVersion(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.swd.uniportal.infrastructure.repository;
+
+import com.swd.uniportal.domain.admission.AdmissionQuotaStat;
+import com.swd.uniportal.domain.admission.QuotaDimension;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface AdmissionQuotaStatRepository extends JpaRepository<AdmissionQuotaStat, Long> {
+
+    @Query(
+            value = """
+                    SELECT e FROM AdmissionQuotaStat e
+                    WHERE e.year = ?1
+                    AND e.dimension = ?2
+                    ORDER BY e.quota DESC, e.dimensionId ASC
+                    """
+    )
+    List<AdmissionQuotaStat> getByYearAndDimension(Integer year, QuotaDimension dimension);
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+                    VALUES (?1, ?2, ?3, ?4, ?5)
+                    ON DUPLICATE KEY UPDATE
+                        quota = quota + ?4,
+                        admission_majors = admission_majors + ?5
+                    """,
+            nativeQuery = true
+    )
+    void addDelta(Integer year, String dimension, Long dimensionId, Long quota, Long admissionMajors);
+
+    @Modifying
+    @Query(
+            value = """
+                    DELETE FROM admission_quota_stat
+                    WHERE dimension = ?2
+                    AND year = ?1
+                    AND dimension_id = ?3
+                    AND admission_majors <= 0
+                    """,
+            nativeQuery = true
+    )
+    void deleteIfEmpty(Integer year, String dimension, Long dimensionId);
+
+    @Modifying
+    @Query(
+            value = """
+                    DELETE FROM admission_quota_stat
+                    WHERE dimension = ?1
+                    """,
+            nativeQuery = true
+    )
+    void deleteByDimension(String dimension);
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+                    SELECT p.year, 'INSTITUTION', p.institution_id, SUM(am.quota), COUNT(*)
+                    FROM admission_major am
+                             JOIN admission_plan p ON p.id = am.admission_plan_id
+                    GROUP BY p.year, p.institution_id
+                    """,
+            nativeQuery = true
+    )
+    void rebuildInstitutions();
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+                    SELECT p.year, 'MAJOR', am.major_id, SUM(am.quota), COUNT(*)
+                    FROM admission_major am
+                             JOIN admission_plan p ON p.id = am.admission_plan_id
+                    WHERE am.major_id IS NOT NULL
+                    GROUP BY p.year, am.major_id
+                    """,
+            nativeQuery = true
+    )
+    void rebuildMajors();
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+                    SELECT p.year, 'METHOD', mm.admission_method_id, SUM(am.quota), COUNT(*)
+                    FROM (SELECT DISTINCT admission_major_id, admission_method_id
+                          FROM admission_major_method
+                          WHERE admission_method_id IS NOT NULL) mm
+                             JOIN admission_major am ON am.id = mm.admission_major_id
+                             JOIN admission_plan p ON p.id = am.admission_plan_id
+                    GROUP BY p.year, mm.admission_method_id
+                    """,
+            nativeQuery = true
+    )
+    void rebuildMethods();
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+                    SELECT p.year, 'CITY_PROVINCE', a.city_province_id, SUM(am.quota), COUNT(*)
+                    FROM (SELECT DISTINCT institution_id, city_province_id
+                          FROM address
+                          WHERE institution_id IS NOT NULL) a
+                             JOIN admission_plan p ON p.institution_id = a.institution_id
+                             JOIN admission_major am ON am.admission_plan_id = p.id
+                    GROUP BY p.year, a.city_province_id
+                    """,
+            nativeQuery = true
+    )
+    void rebuildCityProvinces();
+}
\ No newline at end of file
@@ -6,7 +6,16 @@ import org.springframework.data.jpa.repository.Query;
 
 public interface InstitutionRepository extends JpaRepository<Institution, Long> {
 
-    @Query("SELECT i FROM Institution i LEFT JOIN FETCH i.addresses WHERE i.id = ?1")
+    @Query(
+            value = """
+                    SELECT i FROM Institution i
+                    LEFT JOIN FETCH i.addresses a
+                    LEFT JOIN FETCH a.ward
+                    LEFT JOIN FETCH a.district
+                    LEFT JOIN FETCH a.cityProvince
+                    WHERE i.id = ?1
+                    """
+    )
     Institution findByIdWithAddresses(Long id);
 
 }
\ No newline at end of file
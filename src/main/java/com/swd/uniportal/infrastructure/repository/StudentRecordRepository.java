@@ -2,6 +2,7 @@ package com.swd.uniportal.infrastructure.repository;
 
 import com.swd.uniportal.domain.student.StudentRecord;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -28,4 +29,12 @@ public interface StudentRecordRepository extends JpaRepository<StudentRecord, Lo
                     """
     )
     List<StudentRecord> getByAccount(Long accountId);
+    @Query(
+            value = """
+                    SELECT e FROM StudentRecord e
+                    WHERE e.student.id = ?1
+                    AND e.subject.id = ?2
+                    """
+    )
+    Optional<StudentRecord> getByStudentAndSubject(Long studentId, Long subjectId);
 }
\ No newline at end of file
@@ -26,5 +26,15 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     )
     Optional<Student> getByAccountPopulated(Long accountId);
 
+    @Query(
+            value = """
+                    SELECT e FROM Student e
+                    LEFT JOIN FETCH e.studentRecords r
+                    LEFT JOIN FETCH r.subject
+                    WHERE e.account.id = ?1
+                    """
+    )
+    Optional<Student> getByAccountWithRecords(Long accountId);
+
     boolean existsByHighSchoolId(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.swd.uniportal.infrastructure.repository;
+
+import com.swd.uniportal.domain.student.StudentSubjectGroupScore;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface StudentSubjectGroupScoreRepository extends JpaRepository<StudentSubjectGroupScore, Long> {
+
+    @Query(
+            value = """
+                    SELECT e FROM StudentSubjectGroupScore e
+                    JOIN FETCH e.subjectGroup
+                    WHERE e.student.account.id = ?1
+                    ORDER BY e.total DESC, e.subjectGroup.code ASC
+                    """
+    )
+    List<StudentSubjectGroupScore> getByAccount(Long accountId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                    DELETE FROM student_subject_group_score
+                    WHERE student_id = ?1
+                    AND subject_group_id IN (
+                        SELECT subject_group_id FROM subject_group_subject
+                        WHERE subject_id IN ?2
+                    )
+                    """,
+            nativeQuery = true
+    )
+    void deleteByStudentAndSubjects(Long studentId, Collection<Long> subjectIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                    INSERT INTO student_subject_group_score (student_id, subject_group_id, total)
+                    SELECT r.student_id, sgs.subject_group_id, SUM(r.mark)
+                    FROM subject_group_subject sgs
+                    JOIN student_record r ON r.subject_id = sgs.subject_id
+                    WHERE r.student_id = ?1
+                    AND sgs.subject_group_id IN (
+                        SELECT subject_group_id FROM subject_group_subject
+                        WHERE subject_id IN ?2
+                    )
+                    GROUP BY r.student_id, sgs.subject_group_id
+                    HAVING COUNT(*) = (
+                        SELECT COUNT(*) FROM subject_group_subject c
+                        WHERE c.subject_group_id = sgs.subject_group_id
+                    )
+                    """,
+            nativeQuery = true
+    )
+    void insertByStudentAndSubjects(Long studentId, Collection<Long> subjectIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                    DELETE FROM student_subject_group_score
+                    WHERE subject_group_id = ?1
+                    """,
+            nativeQuery = true
+    )
+    void deleteBySubjectGroup(Long subjectGroupId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                    INSERT INTO student_subject_group_score (student_id, subject_group_id, total)
+                    SELECT r.student_id, sgs.subject_group_id, SUM(r.mark)
+                    FROM subject_group_subject sgs
+                    JOIN student_record r ON r.subject_id = sgs.subject_id
+                    WHERE sgs.subject_group_id = ?1
+                    GROUP BY r.student_id, sgs.subject_group_id
+                    HAVING COUNT(*) = (
+                        SELECT COUNT(*) FROM subject_group_subject c
+                        WHERE c.subject_group_id = sgs.subject_group_id
+                    )
+                    """,
+            nativeQuery = true
+    )
+    void insertBySubjectGroup(Long subjectGroupId);
+}
\ No newline at end of file
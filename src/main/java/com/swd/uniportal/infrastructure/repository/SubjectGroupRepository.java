@@ -1,6 +1,7 @@
 package com.swd.uniportal.infrastructure.repository;
 
 import com.swd.uniportal.domain.subject.SubjectGroup;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.domain.Pageable;
@@ -17,22 +18,29 @@ public interface SubjectGroupRepository extends JpaRepository<SubjectGroup, Long
     )
     Integer countSubjectGroupsBySearch(String search);
 
+    @Query(
+            value = """
+                    SELECT e.id FROM SubjectGroup e
+                    WHERE e.code LIKE CONCAT('%', ?1, '%')
+                    ORDER BY e.id
+                    """
+    )
+    List<Long> getSubjectGroupIdsBySearch(String search, Pageable pageable);
+
     @Query(
             value = """
                     SELECT e FROM SubjectGroup e
                     LEFT JOIN FETCH e.subjects
-                    WHERE e.code LIKE CONCAT('%', ?1, '%')
-                    """,
-            countQuery =
-                        """
-                        SELECT COUNT(e) FROM SubjectGroup e
-                        WHERE e.code LIKE CONCAT('%', ?1, '%')
-                        """
+                    WHERE e.id IN ?1
+                    ORDER BY e.id
+                    """
     )
-    List<SubjectGroup> getSubjectGroupsBySearch(String search, Pageable pageable);
+    List<SubjectGroup> getByIdInWithSubjects(Collection<Long> ids);
 
     Set<SubjectGroup> getByIdIn(List<Long> subjectGroupIds);
 
+    List<SubjectGroup> getByCodeIn(Collection<String> codes);
+
     @Query(
             value = """
                     SELECT e FROM SubjectGroup e
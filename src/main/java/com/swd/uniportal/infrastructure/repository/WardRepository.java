@@ -1,7 +1,9 @@
 package com.swd.uniportal.infrastructure.repository;
 
 import com.swd.uniportal.domain.address.Ward;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -15,4 +17,24 @@ public interface WardRepository extends JpaRepository<Ward, Long> {
                     """
     )
     List<Ward> getAllBySearchSorted(String search, Sort sort);
+
+    @Query(
+            value = """
+                    SELECT e FROM Ward e
+                    LEFT JOIN FETCH e.district d
+                    LEFT JOIN FETCH d.cityProvince
+                    WHERE e.id = ?1
+                    """
+    )
+    Optional<Ward> getByIdPopulated(Long id);
+
+    @Query(
+            value = """
+                    SELECT e FROM Ward e
+                    LEFT JOIN FETCH e.district d
+                    LEFT JOIN FETCH d.cityProvince
+                    WHERE e.id IN ?1
+                    """
+    )
+    List<Ward> getPopulatedByIdIn(Collection<Long> ids);
 }
\ No newline at end of file
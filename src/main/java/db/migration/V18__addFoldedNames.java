@@ -0,0 +1,46 @@
+package db.migration;
+
+import com.swd.uniportal.infrastructure.common.search.TextFolding;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Adds {@code folded_name} to the searchable tables. The folding is Java's, so the existing rows are
+ * filled in here rather than in SQL. The column is binary-collated, so a {@code LIKE} on it compares
+ * exactly what {@link TextFolding} produced.
+ */
+public class V18__addFoldedNames extends BaseJavaMigration {
+
+    private static final List<String> TABLES = List.of(
+            "institution", "high_school", "major", "department", "admission_plan");
+    private static final String COLUMN = "folded_name VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        for (String table : TABLES) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE " + table + " ADD COLUMN " + COLUMN + " NULL");
+            }
+            try (Statement select = connection.createStatement();
+                    ResultSet rows = select.executeQuery("SELECT id, name FROM " + table);
+                    PreparedStatement update = connection.prepareStatement(
+                            "UPDATE " + table + " SET folded_name = ? WHERE id = ?")) {
+                while (rows.next()) {
+                    update.setString(1, TextFolding.fold(rows.getString("name")));
+                    update.setLong(2, rows.getLong("id"));
+                    update.addBatch();
+                }
+                update.executeBatch();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE " + table + " MODIFY COLUMN " + COLUMN + " NOT NULL");
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+CREATE INDEX idx_institution_name_id ON institution (name, id);
+
+CREATE INDEX idx_high_school_name_id ON high_school (name, id);
+
+CREATE INDEX idx_address_street_name_id ON address (street_name, id);
+
+CREATE INDEX idx_ward_name_id ON ward (name, id);
+
+CREATE INDEX idx_major_name_id ON major (name, id);
@@ -0,0 +1,26 @@
+CREATE TABLE student_subject_group_score
+(
+    id               BIGINT AUTO_INCREMENT NOT NULL,
+    student_id       BIGINT                NOT NULL,
+    subject_group_id BIGINT                NOT NULL,
+    total            DECIMAL(6, 2)         NOT NULL,
+    CONSTRAINT pk_student_subject_group_score PRIMARY KEY (id)
+);
+
+ALTER TABLE student_subject_group_score
+    ADD CONSTRAINT uc_student_subject_group_score UNIQUE (student_id, subject_group_id);
+
+ALTER TABLE student_subject_group_score
+    ADD CONSTRAINT FK_STUDENT_SUBJECT_GROUP_SCORE_ON_STUDENT FOREIGN KEY (student_id) REFERENCES student (id);
+
+ALTER TABLE student_subject_group_score
+    ADD CONSTRAINT FK_STUDENT_SUBJECT_GROUP_SCORE_ON_SUBJECT_GROUP FOREIGN KEY (subject_group_id) REFERENCES subject_group (id);
+
+INSERT INTO student_subject_group_score (student_id, subject_group_id, total)
+SELECT r.student_id, sgs.subject_group_id, SUM(r.mark)
+FROM subject_group_subject sgs
+         JOIN student_record r ON r.subject_id = sgs.subject_id
+GROUP BY r.student_id, sgs.subject_group_id
+HAVING COUNT(*) = (SELECT COUNT(*)
+                   FROM subject_group_subject c
+                   WHERE c.subject_group_id = sgs.subject_group_id);
@@ -0,0 +1,44 @@
+CREATE TABLE admission_quota_stat
+(
+    id               BIGINT AUTO_INCREMENT NOT NULL,
+    year             INT                   NOT NULL,
+    dimension        VARCHAR(20)           NOT NULL,
+    dimension_id     BIGINT                NOT NULL,
+    quota            BIGINT                NOT NULL,
+    admission_majors BIGINT                NOT NULL,
+    CONSTRAINT pk_admission_quota_stat PRIMARY KEY (id)
+);
+
+ALTER TABLE admission_quota_stat
+    ADD CONSTRAINT uc_admission_quota_stat UNIQUE (dimension, year, dimension_id);
+
+INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+SELECT p.year, 'INSTITUTION', p.institution_id, SUM(am.quota), COUNT(*)
+FROM admission_major am
+         JOIN admission_plan p ON p.id = am.admission_plan_id
+GROUP BY p.year, p.institution_id;
+
+INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+SELECT p.year, 'MAJOR', am.major_id, SUM(am.quota), COUNT(*)
+FROM admission_major am
+         JOIN admission_plan p ON p.id = am.admission_plan_id
+WHERE am.major_id IS NOT NULL
+GROUP BY p.year, am.major_id;
+
+INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+SELECT p.year, 'METHOD', mm.admission_method_id, SUM(am.quota), COUNT(*)
+FROM (SELECT DISTINCT admission_major_id, admission_method_id
+      FROM admission_major_method
+      WHERE admission_method_id IS NOT NULL) mm
+         JOIN admission_major am ON am.id = mm.admission_major_id
+         JOIN admission_plan p ON p.id = am.admission_plan_id
+GROUP BY p.year, mm.admission_method_id;
+
+INSERT INTO admission_quota_stat (year, dimension, dimension_id, quota, admission_majors)
+SELECT p.year, 'CITY_PROVINCE', a.city_province_id, SUM(am.quota), COUNT(*)
+FROM (SELECT DISTINCT institution_id, city_province_id
+      FROM address
+      WHERE institution_id IS NOT NULL) a
+         JOIN admission_plan p ON p.institution_id = a.institution_id
+         JOIN admission_major am ON am.admission_plan_id = p.id
+GROUP BY p.year, a.city_province_id;
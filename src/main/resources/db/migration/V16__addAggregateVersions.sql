@@ -0,0 +1,35 @@
+ALTER TABLE admission_plan
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE institution
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE major
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE school
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE department
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE city_province
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE district
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE ward
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE subject
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE subject_group
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE admission_method
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE training_program
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,105 @@
+CREATE TABLE id_pool
+(
+    entity_table VARCHAR(255) NOT NULL,
+    next_val     BIGINT       NOT NULL,
+    CONSTRAINT pk_id_pool PRIMARY KEY (entity_table)
+);
+
+-- Hibernate stores the last id handed out of each table's pool, so every pool starts at the
+-- current highest id. The id columns keep AUTO_INCREMENT for the summary tables filled by SQL.
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'account', COALESCE(MAX(id), 0)
+FROM account;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'address', COALESCE(MAX(id), 0)
+FROM address;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'admission_major', COALESCE(MAX(id), 0)
+FROM admission_major;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'admission_major_method', COALESCE(MAX(id), 0)
+FROM admission_major_method;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'admission_method', COALESCE(MAX(id), 0)
+FROM admission_method;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'admission_plan', COALESCE(MAX(id), 0)
+FROM admission_plan;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'admission_quota_stat', COALESCE(MAX(id), 0)
+FROM admission_quota_stat;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'admission_training_program', COALESCE(MAX(id), 0)
+FROM admission_training_program;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'certificate', COALESCE(MAX(id), 0)
+FROM certificate;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'city_province', COALESCE(MAX(id), 0)
+FROM city_province;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'department', COALESCE(MAX(id), 0)
+FROM department;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'district', COALESCE(MAX(id), 0)
+FROM district;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'high_school', COALESCE(MAX(id), 0)
+FROM high_school;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'institution', COALESCE(MAX(id), 0)
+FROM institution;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'login', COALESCE(MAX(id), 0)
+FROM login;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'major', COALESCE(MAX(id), 0)
+FROM major;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'school', COALESCE(MAX(id), 0)
+FROM school;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'student', COALESCE(MAX(id), 0)
+FROM student;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'student_record', COALESCE(MAX(id), 0)
+FROM student_record;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'student_subject_group_score', COALESCE(MAX(id), 0)
+FROM student_subject_group_score;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'subject', COALESCE(MAX(id), 0)
+FROM subject;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'subject_group', COALESCE(MAX(id), 0)
+FROM subject_group;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'training_program', COALESCE(MAX(id), 0)
+FROM training_program;
+
+INSERT INTO id_pool (entity_table, next_val)
+SELECT 'ward', COALESCE(MAX(id), 0)
+FROM ward;
@@ -0,0 +1,170 @@
+package com.swd.uniportal.application.admission.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swd.uniportal.application.admission.dto.AdmissionPlanDto;
+import com.swd.uniportal.application.common.Mapper;
+import com.swd.uniportal.domain.admission.AdmissionMajor;
+import com.swd.uniportal.domain.admission.AdmissionMajorMethod;
+import com.swd.uniportal.domain.admission.AdmissionMethod;
+import com.swd.uniportal.domain.admission.AdmissionPlan;
+import com.swd.uniportal.domain.admission.AdmissionTrainingProgram;
+import com.swd.uniportal.domain.admission.TrainingProgram;
+import com.swd.uniportal.domain.institution.Institution;
+import com.swd.uniportal.domain.major.Major;
+import com.swd.uniportal.domain.subject.SubjectGroup;
+import com.swd.uniportal.infrastructure.repository.AdmissionPlanRepository;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Compares the single fetch-join query with {@link AdmissionPlanDetailLoader} on a synthetic plan
+ * of 200 majors x 5 methods x 10 subject groups. Runs only with {@code -Dbenchmark=true}; the plan
+ * is rolled back afterwards.
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AdmissionPlanDetailLoaderBenchmarkTests {
+
+    private static final int MAJORS = 200;
+    private static final int METHODS_PER_MAJOR = 5;
+    private static final int SUBJECT_GROUPS_PER_METHOD = 10;
+    private static final int WARMUPS = 3;
+    private static final int RUNS = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AdmissionPlanRepository admissionPlanRepository;
+
+    @Autowired
+    private Mapper<AdmissionPlan, AdmissionPlanDto> mapper;
+
+    @Autowired
+    private AdmissionPlanDetailLoader loader;
+
+    @Test
+    void loaderTransfersFewerRowsThanFetchJoin(TestReporter testReporter) {
+        Long planId = createSyntheticPlan();
+
+        long fetchJoinRows = entityManager.createQuery("""
+                        SELECT COUNT(*) FROM AdmissionPlan e
+                        LEFT JOIN e.admissionMajors am
+                        LEFT JOIN am.admissionMajorMethods amm
+                        LEFT JOIN amm.subjectGroups
+                        WHERE e.id = ?1
+                        """, Long.class)
+                .setParameter(1, planId)
+                .getSingleResult();
+        long loaderRows = 1 + count("SELECT COUNT(*) FROM AdmissionTrainingProgram e WHERE e.admissionPlan.id = ?1",
+                planId)
+                + count("SELECT COUNT(*) FROM AdmissionMajor e WHERE e.admissionPlan.id = ?1", planId)
+                + count("SELECT COUNT(*) FROM AdmissionMajorMethod e WHERE e.admissionMajor.admissionPlan.id = ?1",
+                planId)
+                + count("""
+                        SELECT COUNT(*) FROM AdmissionMajorMethod e JOIN e.subjectGroups
+                        WHERE e.admissionMajor.admissionPlan.id = ?1
+                        """, planId);
+
+        double fetchJoinMillis = medianMillis(() -> admissionPlanRepository.getByIdPopulated(planId)
+                .map(mapper::toDto)
+                .orElseThrow());
+        double loaderMillis = medianMillis(() -> loader.load(planId).orElseThrow());
+
+        String measurements = String.format("fetch join: %d rows, %.2f ms; loader: %d rows, %.2f ms",
+                fetchJoinRows, fetchJoinMillis, loaderRows, loaderMillis);
+        testReporter.publishEntry("measurements", measurements);
+
+        AdmissionPlanDto plan = loader.load(planId).orElseThrow();
+        assertEquals(MAJORS, plan.getAdmissionMajors().size());
+        plan.getAdmissionMajors().forEach(major -> {
+            assertEquals(METHODS_PER_MAJOR, major.getAdmissionMajorMethods().size());
+            major.getAdmissionMajorMethods().forEach(method ->
+                    assertEquals(SUBJECT_GROUPS_PER_METHOD, method.getSubjectGroups().size()));
+        });
+        assertTrue(loaderRows < fetchJoinRows, measurements);
+    }
+
+    private Long createSyntheticPlan() {
+        Institution institution = first("SELECT e FROM Institution e", Institution.class, 1).getFirst();
+        TrainingProgram trainingProgram = first("SELECT e FROM TrainingProgram e", TrainingProgram.class, 1)
+                .getFirst();
+        List<Major> majors = first("SELECT e FROM Major e", Major.class, MAJORS);
+        List<AdmissionMethod> methods = first("SELECT e FROM AdmissionMethod e", AdmissionMethod.class,
+                METHODS_PER_MAJOR);
+        List<SubjectGroup> subjectGroups = first("SELECT e FROM SubjectGroup e", SubjectGroup.class,
+                SUBJECT_GROUPS_PER_METHOD);
+        assertEquals(METHODS_PER_MAJOR, methods.size());
+        assertEquals(SUBJECT_GROUPS_PER_METHOD, subjectGroups.size());
+
+        AdmissionPlan plan = AdmissionPlan.builder()
+                .name("Benchmark plan")
+                .year(2024)
+                .institution(institution)
+                .build();
+        entityManager.persist(plan);
+        AdmissionTrainingProgram admissionTrainingProgram = AdmissionTrainingProgram.builder()
+                .name("Benchmark program")
+                .trainingProgram(trainingProgram)
+                .admissionPlan(plan)
+                .build();
+        entityManager.persist(admissionTrainingProgram);
+        for (int i = 0; i < MAJORS; i++) {
+            AdmissionMajor major = AdmissionMajor.builder()
+                    .name("Benchmark major " + i)
+                    .quota(100)
+                    .admissionPlan(plan)
+                    .major(majors.get(i % majors.size()))
+                    .admissionTrainingProgram(admissionTrainingProgram)
+                    .build();
+            entityManager.persist(major);
+            for (AdmissionMethod method : methods) {
+                entityManager.persist(AdmissionMajorMethod.builder()
+                        .name(method.getName())
+                        .admissionMajor(major)
+                        .admissionMethod(method)
+                        .subjectGroups(new HashSet<>(subjectGroups))
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return plan.getId();
+    }
+
+    private <T> List<T> first(String query, Class<T> type, int limit) {
+        return entityManager.createQuery(query, type).setMaxResults(limit).getResultList();
+    }
+
+    private long count(String query, Long planId) {
+        return entityManager.createQuery(query, Long.class).setParameter(1, planId).getSingleResult();
+    }
+
+    private double medianMillis(Supplier<AdmissionPlanDto> load) {
+        for (int i = 0; i < WARMUPS; i++) {
+            load.get();
+            entityManager.clear();
+        }
+        double[] millis = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            load.get();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+            entityManager.clear();
+        }
+        Arrays.sort(millis);
+        return millis[RUNS / 2];
+    }
+}
@@ -0,0 +1,92 @@
+package com.swd.uniportal.application.common;
+
+import com.swd.uniportal.application.student.dto.UpdatedStudentRecordDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per-object cost of validating a 40-record student record update: one validator factory per
+ * object (the previous behaviour) against the shared validator. Runs only with
+ * {@code -Dbenchmark=true}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomValidationBenchmark {
+
+    private static final int RECORDS = 40;
+
+    private List<UpdatedStudentRecordDto> records;
+
+    @Setup
+    public void setUp() {
+        records = IntStream.range(0, RECORDS)
+                .mapToObj(i -> UpdatedStudentRecordDto.builder()
+                        .id((long) i)
+                        .subjectId((i % 10 == 0) ? null : (long) i)
+                        .mark(8.5f)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public List<String> factoryPerObject() {
+        List<String> violations = new ArrayList<>();
+        for (UpdatedStudentRecordDto record : records) {
+            try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+                factory.getValidator().validate(record).stream()
+                        .map(ConstraintViolation::getMessage)
+                        .forEach(violations::add);
+            }
+        }
+        return violations;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public List<String> sharedValidatorPerObject() {
+        List<String> violations = new ArrayList<>();
+        records.forEach(record -> violations.addAll(CustomValidation.validate(record)));
+        return violations;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public List<String> sharedValidatorValidateAll() {
+        return CustomValidation.validateAll(records);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CustomValidationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
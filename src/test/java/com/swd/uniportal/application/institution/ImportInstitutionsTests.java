@@ -0,0 +1,136 @@
+package com.swd.uniportal.application.institution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swd.uniportal.application.institution.ImportInstitutions.ImportFormat;
+import com.swd.uniportal.application.institution.ImportInstitutions.ImportInstitutionsDatasource;
+import com.swd.uniportal.application.institution.ImportInstitutions.ImportInstitutionsService;
+import com.swd.uniportal.application.institution.ImportInstitutions.ImportStatus;
+import com.swd.uniportal.application.institution.ImportInstitutions.ImportedInstitutionResponse;
+import com.swd.uniportal.application.institution.ImportInstitutions.WardPath;
+import com.swd.uniportal.domain.institution.Institution;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rows that do not bind or validate fail on their own, and the rows around them are still
+ * created.
+ */
+class ImportInstitutionsTests {
+
+    private static final long WARD_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ImportInstitutionsService service;
+
+    @BeforeEach
+    void setUp() {
+        ImportInstitutionsDatasource datasource = mock(ImportInstitutionsDatasource.class);
+        when(datasource.getWardPaths()).thenReturn(Map.of(WARD_ID, new WardPath(WARD_ID, 1L, 1L)));
+        when(datasource.persist(anyList())).thenAnswer(invocation -> {
+            List<Institution> institutions = invocation.getArgument(0);
+            long id = 100;
+            for (Institution institution : institutions) {
+                institution.setId(id++);
+            }
+            return institutions;
+        });
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation
+                .<TransactionCallback<?>>getArgument(0)
+                .doInTransaction(null));
+        service = new ImportInstitutionsService(datasource, transactionTemplate, objectMapper);
+    }
+
+    @Test
+    void nullAddressListFailsOnlyItsRow() throws IOException {
+        List<ImportedInstitutionResponse> results = importJson("""
+                [
+                  {"name": "First", "code": "A", "addresses": null},
+                  %s
+                ]
+                """.formatted(valid("B")));
+
+        assertEquals(2, results.size());
+        assertEquals(ImportStatus.FAILED, results.get(0).status());
+        assertEquals(List.of("addresses array must not be empty."), results.get(0).errors());
+        assertEquals(ImportStatus.CREATED, results.get(1).status());
+    }
+
+    @Test
+    void rowThatDoesNotBindFailsOnlyItsRow() throws IOException {
+        List<ImportedInstitutionResponse> results = importJson("""
+                [
+                  %s,
+                  {"name": "Second", "code": "B", "addresses": [{"houseNumber": "1", "wardId": "abc"}]},
+                  %s
+                ]
+                """.formatted(valid("A"), valid("C")));
+
+        assertEquals(3, results.size());
+        assertEquals(ImportStatus.CREATED, results.get(0).status());
+        assertEquals(ImportStatus.FAILED, results.get(1).status());
+        assertEquals("B", results.get(1).code());
+        assertEquals(1, results.get(1).errors().size());
+        assertTrue(results.get(1).errors().getFirst().startsWith("Malformed institution: "));
+        assertEquals(ImportStatus.CREATED, results.get(2).status());
+    }
+
+    @Test
+    void csvLineThatDoesNotBindFailsOnlyItsInstitution() throws IOException {
+        List<ImportedInstitutionResponse> results = importCsv("""
+                name,code,houseNumber,streetName,wardId
+                First,A,1,Street,1
+                Second,B,2,Street,abc
+                Third,C,3,Street,1
+                """);
+
+        assertEquals(3, results.size());
+        assertEquals(ImportStatus.CREATED, results.get(0).status());
+        assertEquals(ImportStatus.FAILED, results.get(1).status());
+        assertTrue(results.get(1).errors().getFirst().startsWith("row 2: Malformed institution: "));
+        assertEquals(ImportStatus.CREATED, results.get(2).status());
+    }
+
+    private static String valid(String code) {
+        return """
+                {"name": "Institution %s", "code": "%s",
+                 "addresses": [{"houseNumber": "1", "streetName": "Street", "wardId": %d}]}
+                """.formatted(code, code, WARD_ID);
+    }
+
+    private List<ImportedInstitutionResponse> importJson(String document) throws IOException {
+        return importDocument(ImportFormat.JSON, document);
+    }
+
+    private List<ImportedInstitutionResponse> importCsv(String document) throws IOException {
+        return importDocument(ImportFormat.CSV, document);
+    }
+
+    private List<ImportedInstitutionResponse> importDocument(ImportFormat format, String document)
+            throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.importInstitutions(format, new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)),
+                output);
+        List<ImportedInstitutionResponse> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, ImportedInstitutionResponse.class));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,62 @@
+package com.swd.uniportal.domain.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swd.uniportal.domain.address.Address;
+import com.swd.uniportal.domain.address.Ward;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Counts the INSERT statements the server receives on the test connection for a bulk insert. With
+ * pooled ids, insert batching and rewritten batches this is one statement per JDBC batch rather
+ * than one per row. The rows are rolled back afterwards.
+ */
+@SpringBootTest
+@Transactional
+class BatchInsertRoundTripTests {
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void bulkInsertIsSentInBatches() {
+        Ward ward = entityManager.createQuery("SELECT e FROM Ward e", Ward.class)
+                .setMaxResults(1)
+                .getSingleResult();
+
+        long insertsBefore = insertStatements();
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(Address.builder()
+                    .houseNumber(String.valueOf(i))
+                    .streetName("Round trip street")
+                    .ward(ward)
+                    .district(ward.getDistrict())
+                    .cityProvince(ward.getDistrict().getCityProvince())
+                    .build());
+        }
+        entityManager.flush();
+        long roundTrips = insertStatements() - insertsBefore;
+        entityManager.clear();
+
+        assertEquals(ROWS, entityManager.createQuery("""
+                        SELECT COUNT(*) FROM Address e WHERE e.streetName = 'Round trip street'
+                        """, Long.class)
+                .getSingleResult());
+        assertTrue(roundTrips <= ROWS / BATCH_SIZE,
+                String.format("%d rows took %d INSERT round trips.", ROWS, roundTrips));
+    }
+
+    private long insertStatements() {
+        Object[] row = (Object[]) entityManager.createNativeQuery("SHOW SESSION STATUS LIKE 'Com_insert'")
+                .getSingleResult();
+        return Long.parseLong(String.valueOf(row[1]));
+    }
+}
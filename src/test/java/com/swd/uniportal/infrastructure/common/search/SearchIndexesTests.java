@@ -0,0 +1,47 @@
+package com.swd.uniportal.infrastructure.common.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.swd.uniportal.domain.major.QMajor;
+import jakarta.persistence.EntityManager;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Whether a search binds the matched ids or runs in the database, it applies the folded rule of
+ * the index, so the rows found do not depend on how many match.
+ */
+class SearchIndexesTests {
+
+    private static final QMajor MAJOR = QMajor.major;
+
+    private final SearchIndexes searchIndexes = new SearchIndexes(mock(EntityManager.class));
+
+    @BeforeEach
+    void setUp() {
+        LongStream.rangeClosed(1, 1_500)
+                .forEach(id -> searchIndexes.put(SearchTarget.MAJOR, id, "Kỹ thuật  Điện " + id));
+        searchIndexes.put(SearchTarget.MAJOR, 2_000L, "Quản trị kinh doanh");
+    }
+
+    @Test
+    void fewMatchesBindTheirIds() {
+        assertEquals(MAJOR.id.in(Set.of(2_000L)),
+                searchIndexes.matching(SearchTarget.MAJOR, MAJOR.id, MAJOR.foldedName, "quan TRI"));
+    }
+
+    @Test
+    void shortQueriesUseTheIndex() {
+        assertEquals(MAJOR.id.in(Set.of(2_000L)),
+                searchIndexes.matching(SearchTarget.MAJOR, MAJOR.id, MAJOR.foldedName, "qu"));
+    }
+
+    @Test
+    void manyMatchesCompareTheFoldedColumnWithTheFoldedQuery() {
+        assertEquals(MAJOR.foldedName.contains("ky thuat dien"),
+                searchIndexes.matching(SearchTarget.MAJOR, MAJOR.id, MAJOR.foldedName, " KỸ THUẬT   đIỆN "));
+    }
+}
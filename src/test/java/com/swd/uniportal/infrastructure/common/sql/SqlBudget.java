@@ -0,0 +1,19 @@
+package com.swd.uniportal.infrastructure.common.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the test when any request it makes through MockMvc runs more SQL statements than the
+ * budget. The failure lists the select shapes the request repeated.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+
+    int value();
+}
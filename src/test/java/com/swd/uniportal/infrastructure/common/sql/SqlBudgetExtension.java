@@ -0,0 +1,33 @@
+package com.swd.uniportal.infrastructure.common.sql;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+final class SqlBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace
+            .create(SqlBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatements statements = SpringExtension.getApplicationContext(context).getBean(SqlStatements.class);
+        context.getStore(NAMESPACE).put(SqlStatements.Recording.class, statements.record());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        int budget = context.getRequiredTestMethod().getAnnotation(SqlBudget.class).value();
+        try (SqlStatements.Recording recording = context.getStore(NAMESPACE)
+                .remove(SqlStatements.Recording.class, SqlStatements.Recording.class)) {
+            for (SqlStatements.RequestSummary request : recording.requests()) {
+                assertTrue(request.statements() <= budget, () -> String.format(
+                        "%s ran %d statements, over its budget of %d. Repeated selects: %s",
+                        request.endpoint(), request.statements(), budget, request.repeated()));
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.swd.uniportal.infrastructure.common.sql;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.swd.uniportal.domain.address.Address;
+import com.swd.uniportal.domain.address.Ward;
+import com.swd.uniportal.domain.institution.Institution;
+import jakarta.persistence.EntityManager;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Statement budgets of the endpoints that used to load their rows' associations one at a time.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlBudgetTests {
+
+    private static final String API = "/api/v1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @SqlBudget(2)
+    void addressListIsOnePageQueryAndACount() throws Exception {
+        mockMvc.perform(get(API + "/addresses")).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(5)
+    void subjectGroupsLoadTheirSubjectsInOneQuery() throws Exception {
+        mockMvc.perform(get(API + "/subjects/groups")).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(1)
+    void addressLoadsItsPlaceNamesWithIt() throws Exception {
+        getFirst("/addresses/%d", Address.class);
+    }
+
+    @Test
+    @SqlBudget(1)
+    void wardLoadsItsDistrictAndCityProvinceWithIt() throws Exception {
+        getFirst("/addresses/wards/%d", Ward.class);
+    }
+
+    @Test
+    @SqlBudget(2)
+    void institutionIsItsTagAndOneQuery() throws Exception {
+        getFirst("/institutions/%d", Institution.class);
+    }
+
+    private void getFirst(String path, Class<?> entity) throws Exception {
+        Long id = entityManager.createQuery("SELECT MIN(e.id) FROM " + entity.getSimpleName() + " e", Long.class)
+                .getSingleResult();
+        if (Objects.nonNull(id)) {
+            mockMvc.perform(get(API + String.format(path, id))).andExpect(status().isOk());
+        }
+    }
+}
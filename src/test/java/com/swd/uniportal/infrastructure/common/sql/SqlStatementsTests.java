@@ -0,0 +1,23 @@
+package com.swd.uniportal.infrastructure.common.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementsTests {
+
+    @Test
+    void unmatchedRequestsShareOneEntry() {
+        SqlStatements statements = new SqlStatements(3);
+        for (int i = 0; i < 100; i++) {
+            statements.begin();
+            statements.inspect("select 1");
+            statements.end("GET /accounts/" + i, null);
+        }
+
+        Map<String, SqlStatements.SliceReport> report = statements.report();
+        assertEquals(1, report.size());
+        assertEquals(100, report.get("unmatched").requests());
+    }
+}
@@ -0,0 +1,83 @@
+package com.swd.uniportal.infrastructure.common.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTests {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    @Test
+    void headerReportsEachPhase() throws Exception {
+        MockHttpServletResponse response = filter(true, (request, servletResponse) -> {
+            RequestTimings.addAuth(1_500_000);
+            RequestTimings.addStatement(1_000_000);
+            RequestTimings.addStatement(3_000_000);
+            RequestTimings.addService(2_000_000);
+            RequestTimings.addSerialize(250_000);
+            servletResponse.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        String header = response.getHeader(SERVER_TIMING);
+        assertTrue(header.matches("auth;dur=1\\.5, db;dur=4\\.0;desc=\"2 statements\", service;dur=2\\.0, "
+                + "serialize;dur=0\\.2, total;dur=\\d+\\.\\d"), header);
+    }
+
+    @Test
+    void headerIsFixedWhenTheBodyStarts() throws Exception {
+        MockHttpServletResponse response = filter(true, (request, servletResponse) -> {
+            servletResponse.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+            servletResponse.flushBuffer();
+            RequestTimings.addAuth(5_000_000);
+        });
+
+        assertTrue(response.isCommitted());
+        assertEquals(1, response.getHeaders(SERVER_TIMING).size());
+        assertTrue(response.getHeader(SERVER_TIMING).startsWith("auth;dur=0.0, "));
+    }
+
+    @Test
+    void headerIsAddedToResponsesWithoutBody() throws Exception {
+        MockHttpServletResponse response = filter(true, (request, servletResponse) ->
+                ((HttpServletResponse) servletResponse).setStatus(204));
+
+        assertTrue(response.getHeader(SERVER_TIMING).contains("db;dur=0.0;desc=\"0 statements\""));
+    }
+
+    @Test
+    void headerIsAddedBeforeErrors() throws Exception {
+        MockHttpServletResponse response = filter(true, (request, servletResponse) -> {
+            RequestTimings.addStatement(1_000_000);
+            ((HttpServletResponse) servletResponse).sendError(500);
+        });
+
+        assertTrue(response.getHeader(SERVER_TIMING).contains("desc=\"1 statements\""));
+    }
+
+    @Test
+    void headerIsOffUnlessEnabled() throws Exception {
+        MockHttpServletResponse response = filter(false, (request, servletResponse) ->
+                servletResponse.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8)));
+
+        assertNull(response.getHeader(SERVER_TIMING));
+    }
+
+    private static MockHttpServletResponse filter(boolean header, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ServerTimingFilter(header, Duration.ZERO).doFilter(new MockHttpServletRequest("GET", "/api/v1/majors"),
+                response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,88 @@
+package com.swd.uniportal.infrastructure.common.timing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * The serialize phase is the Jackson time alone: a client that reads slowly makes the writes block,
+ * and that time is not counted.
+ */
+class TimedJacksonConverterTests {
+
+    private static final long WRITE_DELAY_MILLIS = 50;
+    private static final Pattern SERIALIZE = Pattern.compile("serialize;dur=(\\d+\\.\\d)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TimedJacksonConverter converter = new TimedJacksonConverter(objectMapper);
+
+    @Test
+    void blockedWritesAreNotSerializeTime() throws Exception {
+        List<String> body = IntStream.range(0, 5_000).mapToObj(i -> "value-" + i).toList();
+        converter.write(body, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+        SlowClient client = new SlowClient();
+
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            converter.write(body, MediaType.APPLICATION_JSON, client);
+
+            assertArrayEquals(objectMapper.writeValueAsBytes(body), client.received.toByteArray());
+            assertTrue(client.writes > 1, "The body was not streamed.");
+            Matcher serialize = SERIALIZE.matcher(timings.toHeader());
+            assertTrue(serialize.find());
+            double blockedMillis = client.writes * WRITE_DELAY_MILLIS;
+            assertTrue(Double.parseDouble(serialize.group(1)) < blockedMillis / 2,
+                    String.format("%s with %.0f ms blocked in %d writes.", timings.toHeader(), blockedMillis,
+                            client.writes));
+        } finally {
+            timings.end();
+        }
+    }
+
+    private static final class SlowClient implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private int writes;
+
+        @Override
+        public @NonNull OutputStream getBody() {
+            return new OutputStream() {
+
+                @Override
+                public void write(int b) {
+                    write(new byte[] {(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(@NonNull byte[] b, int off, int len) {
+                    writes++;
+                    received.write(b, off, len);
+                    try {
+                        Thread.sleep(WRITE_DELAY_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public @NonNull HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.swd.uniportal.infrastructure.config.jpa;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.swd.uniportal.domain.account.Account;
+import com.swd.uniportal.domain.account.Role;
+import com.swd.uniportal.domain.address.Address;
+import com.swd.uniportal.domain.address.CityProvince;
+import com.swd.uniportal.domain.address.District;
+import com.swd.uniportal.domain.address.Ward;
+import com.swd.uniportal.domain.admission.AdmissionMajor;
+import com.swd.uniportal.domain.admission.AdmissionPlan;
+import com.swd.uniportal.domain.institution.HighSchool;
+import com.swd.uniportal.domain.institution.Institution;
+import com.swd.uniportal.domain.major.Department;
+import com.swd.uniportal.domain.major.Major;
+import com.swd.uniportal.domain.major.School;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.time.Year;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+/**
+ * Requests the read endpoints with {@link LazyLoadGuard} on, so any of them that maps an
+ * association its datasource did not load fails here. The current-student and account reads run
+ * as the first student and the first administrator in the database.
+ */
+@SpringBootTest(properties = "uniportal.jpa.lazy-load-guard=true")
+@AutoConfigureMockMvc
+class LazyLoadGuardTests {
+
+    private static final String API = "/api/v1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void listsStayWithinTheirFetchPlans() throws Exception {
+        for (String path : List.of(
+                "/addresses",
+                "/addresses/wards",
+                "/addresses/wards/districts",
+                "/addresses/wards/districts/city-provinces",
+                "/institutions",
+                "/high-schools",
+                "/majors",
+                "/majors/departments",
+                "/majors/departments/schools",
+                "/subjects",
+                "/subjects/groups",
+                "/admission-plans",
+                "/admission-plans/methods",
+                "/admission-plans/training-programs")) {
+            mockMvc.perform(get(API + path)).andExpect(status().is2xxSuccessful());
+        }
+    }
+
+    @Test
+    void detailsStayWithinTheirFetchPlans() throws Exception {
+        getFirst("/addresses/%d", Address.class);
+        getFirst("/addresses/wards/%d", Ward.class);
+        getFirst("/addresses/wards/districts/%d", District.class);
+        getFirst("/addresses/wards/districts/city-provinces/%d", CityProvince.class);
+        getFirst("/institutions/%d", Institution.class);
+        getFirst("/high-schools/%d", HighSchool.class);
+        getFirst("/majors/%d", Major.class);
+        getFirst("/majors/departments/%d", Department.class);
+        getFirst("/majors/departments/schools/%d", School.class);
+        getFirst("/admission-plans/%d", AdmissionPlan.class);
+        getFirst("/admission-plans/%d/majors", AdmissionPlan.class);
+        getFirst("/admission-plans/%d/training-programs", AdmissionPlan.class);
+        getFirst("/admission-plans/majors/%d/methods", AdmissionMajor.class);
+    }
+
+    @Test
+    void currentStudentReadsStayWithinTheirFetchPlans() throws Exception {
+        Account student = firstAccount("SELECT s.account FROM Student s ORDER BY s.id");
+        if (Objects.isNull(student)) {
+            return;
+        }
+        Integer year = entityManager.createQuery("SELECT MAX(e.year) FROM AdmissionPlan e", Integer.class)
+                .getSingleResult();
+        for (String path : List.of(
+                "/students/current",
+                "/students/current/records",
+                "/students/current/scores",
+                "/students/current/recommendations?year=" + Objects.requireNonNullElse(year, Year.now().getValue()),
+                "/accounts/current")) {
+            mockMvc.perform(get(API + path).with(authenticatedAs(student))).andExpect(status().is2xxSuccessful());
+        }
+    }
+
+    @Test
+    void accountReadsStayWithinTheirFetchPlans() throws Exception {
+        Account admin = firstAccount("SELECT e FROM Account e WHERE e.role = ?1 ORDER BY e.id", Role.ADMIN);
+        if (Objects.isNull(admin)) {
+            return;
+        }
+        mockMvc.perform(get(API + "/accounts").with(authenticatedAs(admin))).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(get(API + "/accounts/current").with(authenticatedAs(admin)))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(get(API + "/accounts/" + admin.getId()).with(authenticatedAs(admin)))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private Account firstAccount(String query, Object... parameters) {
+        TypedQuery<Account> typedQuery = entityManager.createQuery(query, Account.class).setMaxResults(1);
+        for (int i = 0; i < parameters.length; i++) {
+            typedQuery.setParameter(i + 1, parameters[i]);
+        }
+        return typedQuery.getResultStream().findFirst().orElse(null);
+    }
+
+    private static RequestPostProcessor authenticatedAs(Account account) {
+        return authentication(UsernamePasswordAuthenticationToken.authenticated(account, null,
+                account.getAuthorities()));
+    }
+
+    private void getFirst(String path, Class<?> entity) throws Exception {
+        Long id = entityManager.createQuery("SELECT MIN(e.id) FROM " + entity.getSimpleName() + " e", Long.class)
+                .getSingleResult();
+        if (Objects.nonNull(id)) {
+            mockMvc.perform(get(API + String.format(path, id))).andExpect(status().is2xxSuccessful());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.swd.uniportal.infrastructure.config.security.authentication;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * Measures {@link JwtService#verify(String)} for a token seen for the first time (full HMAC check
+ * and claim parsing) and for a token already in the verified-token cache. Runs only with
+ * {@code -Dbenchmark=true}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final long LIFETIME = 1_800_000L;
+    private static final String SECRET = "benchmark-secret";
+    private static final String ISSUER = "UniPortal";
+
+    private JwtService cold;
+    private JwtService cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cold = new JwtService(LIFETIME, SECRET, ISSUER, 0);
+        cached = new JwtService(LIFETIME, SECRET, ISSUER, 16);
+        token = cached.generateToken(User.withUsername("student@uniportal.com")
+                .password("password")
+                .roles("STUDENT")
+                .build());
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCold() {
+        return cold.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,36 @@
+package com.swd.uniportal.infrastructure.config.security.authentication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * A cached verification is only reused for the exact token that was verified.
+ */
+class JwtServiceTests {
+
+    private final JwtService jwtService = new JwtService(1_800_000L, "test-secret", "UniPortal", 16);
+
+    @Test
+    void cachedSignatureDoesNotVouchForAnotherPayload() {
+        String student = token("student@uniportal.com");
+        String admin = token("admin@uniportal.com");
+        assertEquals("student@uniportal.com", jwtService.validateJwtToken(student));
+
+        String forged = StringUtils.substringBeforeLast(admin, ".") + "."
+                + StringUtils.substringAfterLast(student, ".");
+
+        assertNull(jwtService.verify(forged));
+        assertEquals("student@uniportal.com", jwtService.validateJwtToken(student));
+    }
+
+    private String token(String username) {
+        return jwtService.generateToken(User.withUsername(username)
+                .password("password")
+                .roles("STUDENT")
+                .build());
+    }
+}